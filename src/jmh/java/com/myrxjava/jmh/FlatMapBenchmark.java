@@ -0,0 +1,38 @@
+package com.myrxjava.jmh;
+
+import com.myrxjava.core.Observable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * flatMap на 1 000 000 элементов, разложенных по 1, 10 или 1000 внутренним Observable.  <br/>
+ * Показывает стоимость подписки inner-ов и слияния их результатов.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FlatMapBenchmark {
+
+    private static final int TOTAL = 1_000_000;
+
+    @Param({"1", "10", "1000"})
+    public int inners;
+
+    private Observable<Integer> flatMap;
+
+    @Setup
+    public void setup() {
+        int perInner = TOTAL / inners;
+        flatMap = Observable.range(0, inners).flatMap(i -> Observable.range(i * perInner, perInner));
+    }
+
+    @Benchmark
+    public void flatMap(Blackhole bh) {
+        flatMap.subscribe(new PerfObserver<>(bh));
+    }
+}
@@ -0,0 +1,46 @@
+package com.myrxjava.jmh;
+
+import com.myrxjava.core.Observable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пропускная способность {@code create → (map, filter) × N}.  <br/>
+ * Фильтр пропускает всё, чтобы длина цепочки не меняла число элементов на выходе.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapFilterChainBenchmark {
+
+    @Param({"1", "1000", "1000000"})
+    public int count;
+
+    @Param({"1", "4", "16"})
+    public int length;
+
+    private Observable<Integer> chain;
+
+    @Setup
+    public void setup() {
+        int n = count;
+        Observable<Integer> o = Observable.create(observer -> {
+            for (int i = 0; i < n; i++) observer.onNext(i);
+            observer.onComplete();
+        });
+        for (int i = 0; i < length; i++) {
+            o = o.map(x -> x + 1).filter(x -> x != Integer.MIN_VALUE);
+        }
+        chain = o;
+    }
+
+    @Benchmark
+    public void createMapFilter(Blackhole bh) {
+        chain.subscribe(new PerfObserver<>(bh));
+    }
+}
@@ -0,0 +1,79 @@
+package com.myrxjava.jmh;
+
+import com.myrxjava.core.Observable;
+import com.myrxjava.core.Scheduler;
+import com.myrxjava.core.schedulers.ComputationScheduler;
+import com.myrxjava.core.schedulers.IOThreadScheduler;
+import com.myrxjava.core.schedulers.SingleThreadScheduler;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Переход между потоками через observeOn.  <br/>
+ * {@code hop} — латентность одного элемента от источника до наблюдателя на другом потоке,
+ * {@code stream} — пропускная способность на 100 000 элементах.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ObserveOnBenchmark {
+
+    private static final int STREAM = 100_000;
+
+    @Param({"io", "computation", "single"})
+    public String scheduler;
+
+    private Scheduler target;
+    private Runnable shutdown;
+    private Observable<Integer> hop;
+    private Observable<Integer> stream;
+
+    @Setup
+    public void setup() {
+        switch (scheduler) {
+            case "io" -> {
+                IOThreadScheduler s = new IOThreadScheduler();
+                target = s;
+                shutdown = s::shutdown;
+            }
+            case "computation" -> {
+                ComputationScheduler s = new ComputationScheduler();
+                target = s;
+                shutdown = s::shutdown;
+            }
+            case "single" -> {
+                SingleThreadScheduler s = new SingleThreadScheduler();
+                target = s;
+                shutdown = s::shutdown;
+            }
+            default -> throw new IllegalArgumentException("Unknown scheduler: " + scheduler);
+        }
+        hop    = Observable.fromArray(1).observeOn(target);
+        stream = Observable.range(0, STREAM).observeOn(target);
+    }
+
+    @TearDown
+    public void tearDown() { shutdown.run(); }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void hop(Blackhole bh) throws InterruptedException {
+        PerfObserver<Integer> o = new PerfObserver<>(bh);
+        hop.subscribe(o);
+        o.await();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(STREAM)
+    public void stream(Blackhole bh) throws InterruptedException {
+        PerfObserver<Integer> o = new PerfObserver<>(bh);
+        stream.subscribe(o);
+        o.await();
+    }
+}
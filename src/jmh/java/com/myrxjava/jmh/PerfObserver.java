@@ -0,0 +1,27 @@
+package com.myrxjava.jmh;
+
+import com.myrxjava.core.Disposable;
+import com.myrxjava.core.Observer;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/** Observer для бенчмарков: скармливает элементы в Blackhole и отпускает латч на терминальном событии. */
+final class PerfObserver<T> implements Observer<T> {
+
+    private final Blackhole bh;
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    PerfObserver(Blackhole bh) { this.bh = bh; }
+
+    @Override public void onSubscribe(Disposable d) { bh.consume(d); }
+    @Override public void onNext(T item)            { bh.consume(item); }
+    @Override public void onError(Throwable t)      { bh.consume(t); latch.countDown(); }
+    @Override public void onComplete()              { latch.countDown(); }
+
+    /** Для асинхронных цепочек: ждёт завершения, зависание превращает в ошибку прогона. */
+    void await() throws InterruptedException {
+        if (!latch.await(30, TimeUnit.SECONDS)) throw new IllegalStateException("Stream did not terminate in 30 s");
+    }
+}
@@ -0,0 +1,43 @@
+package com.myrxjava.jmh;
+
+import com.myrxjava.core.Observable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Стоимость самой подписки на короткие цепочки — меряется с {@code -prof gc}
+ * (см. {@code gc.alloc.rate.norm}: байт на одну подписку).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseParallelGC")
+@State(Scope.Thread)
+public class SubscribeBenchmark {
+
+    private Observable<Integer> create;
+    private Observable<Integer> fromArray;
+    private Observable<Integer> mapFilter;
+
+    @Setup
+    public void setup() {
+        create = Observable.create(observer -> {
+            observer.onNext(1);
+            observer.onComplete();
+        });
+        fromArray = Observable.fromArray(1);
+        mapFilter = fromArray.map(x -> x + 1).filter(x -> x > 0);
+    }
+
+    @Benchmark
+    public void create(Blackhole bh) { create.subscribe(new PerfObserver<>(bh)); }
+
+    @Benchmark
+    public void fromArray(Blackhole bh) { fromArray.subscribe(new PerfObserver<>(bh)); }
+
+    @Benchmark
+    public void mapFilter(Blackhole bh) { mapFilter.subscribe(new PerfObserver<>(bh)); }
+}
@@ -36,10 +36,7 @@ public class Main {
     }
 
     private static void operatorsDemo() {
-        Observable.<Integer>create(observer -> {
-                    for (int i = 1; i <= 5; i++) observer.onNext(i);
-                    observer.onComplete();
-                })
+        Observable.range(1, 5)
                 .map(x -> x * 10)
                 .filter(x -> x > 25)
                 .subscribe(new SimpleObserver<>("Operators"));
@@ -0,0 +1,13 @@
+package com.myrxjava.core;
+
+/** Что делать с элементами, которые источник выдал сверх запроса подписчика. */
+public enum BackpressureStrategy {
+    /** Копить всё в неограниченном буфере, пока подписчик не запросит. */
+    BUFFER,
+    /** Отбрасывать элементы, на которые нет запроса. */
+    DROP,
+    /** Хранить только последний незапрошенный элемент. */
+    LATEST,
+    /** Завершать поток с {@link MissingBackpressureException}. */
+    ERROR
+}
@@ -0,0 +1,10 @@
+package com.myrxjava.core;
+
+/** Простейший Disposable-флаг: источник отдаёт его в onSubscribe и проверяет в цикле эмиссии. */
+public final class BooleanDisposable implements Disposable {
+
+    private volatile boolean disposed;
+
+    @Override public void dispose()       { disposed = true; }
+    @Override public boolean isDisposed() { return disposed; }
+}
@@ -0,0 +1,46 @@
+package com.myrxjava.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Пул списков для {@code buffer(...)}.  <br/>
+ * Потребитель, закончив с буфером (например, после bulk-записи), возвращает его через {@link #release},
+ * и следующий буфер берётся из пула вместо новой аллокации. Пул ограничен: лишние списки достаются GC.
+ * После {@code release} список принадлежит пулу — держать на него ссылку нельзя.
+ */
+public final class BufferPool<T> {
+
+    private final AtomicReferenceArray<ArrayList<T>> slots;
+
+    public BufferPool(int maxPooled) {
+        if (maxPooled <= 0) throw new IllegalArgumentException("maxPooled > 0 required but it was " + maxPooled);
+        this.slots = new AtomicReferenceArray<>(maxPooled);
+    }
+
+    /** Пустой список из пула или новый, если пул пуст. */
+    public List<T> acquire(int capacityHint) {
+        for (int i = 0; i < slots.length(); i++) {
+            ArrayList<T> list = slots.get(i);
+            if (list != null && slots.compareAndSet(i, list, null)) return list;
+        }
+        return new ArrayList<>(capacityHint);
+    }
+
+    /** Очищает список и кладёт его в пул, если там есть место. */
+    public void release(List<T> buffer) {
+        if (!(buffer instanceof ArrayList<T> list)) return;
+        list.clear();
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) == null && slots.compareAndSet(i, null, list)) return;
+        }
+    }
+
+    /** Сколько списков сейчас лежит в пуле. */
+    public int pooled() {
+        int n = 0;
+        for (int i = 0; i < slots.length(); i++) if (slots.get(i) != null) n++;
+        return n;
+    }
+}
@@ -1,34 +1,151 @@
 package com.myrxjava.core;
 
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.atomic.AtomicBoolean;
-
-/** Группа Disposable-ов с потокобезопасным shutdown. */
+/**
+ * Группа Disposable-ов с потокобезопасным shutdown.  <br/>
+ * Внутри — open-addressing множество по identity: add/remove/delete за O(1) без копирования массива.
+ * Блокировка берётся только на изменение, {@link #isDisposed()} — чтение volatile-флага.
+ */
 public final class CompositeDisposable implements Disposable {
 
-    private final CopyOnWriteArrayList<Disposable> list = new CopyOnWriteArrayList<>();
-    private final AtomicBoolean disposed = new AtomicBoolean(false);
+    private IdentitySet resources;          // guarded by this; null — пока пусто
+    private volatile boolean disposed;
 
-    public void add(Disposable d) {
-        if (d == null) return;
-        if (!disposed.get()) {
-            list.add(d);
-            if (disposed.get()) {           // double-check после добавления
-                d.dispose();
+    /** @return {@code false}, если группа уже disposed — тогда {@code d} сразу освобождается. */
+    public boolean add(Disposable d) {
+        if (d == null) return false;
+        if (!disposed) {
+            synchronized (this) {
+                if (!disposed) {
+                    IdentitySet set = resources;
+                    if (set == null) resources = set = new IdentitySet();
+                    set.add(d);
+                    return true;
+                }
             }
-        } else {
+        }
+        d.dispose();
+        return false;
+    }
+
+    /** Убирает {@code d} из группы и освобождает его. */
+    public boolean remove(Disposable d) {
+        if (delete(d)) {
             d.dispose();
+            return true;
+        }
+        return false;
+    }
+
+    /** Убирает {@code d} из группы, не освобождая (например, он уже завершился сам). */
+    public boolean delete(Disposable d) {
+        if (d == null || disposed) return false;
+        synchronized (this) {
+            if (disposed || resources == null) return false;
+            return resources.remove(d);
+        }
+    }
+
+    public int size() {
+        if (disposed) return 0;
+        synchronized (this) {
+            return disposed || resources == null ? 0 : resources.size;
         }
     }
 
     @Override public void dispose() {
-        if (disposed.compareAndSet(false, true)) {
-            list.forEach(Disposable::dispose);
-            list.clear();
+        if (disposed) return;
+        IdentitySet set;
+        synchronized (this) {
+            if (disposed) return;
+            disposed = true;
+            set = resources;
+            resources = null;
+        }
+        if (set == null) return;
+        for (Object o : set.keys) {                  // вне блокировки: dispose может быть долгим
+            if (o != null) ((Disposable) o).dispose();
         }
     }
 
     @Override public boolean isDisposed() {
-        return disposed.get();
+        return disposed;
+    }
+
+    /* ----------  open-addressing множество  ---------- */
+
+    /** Линейное пробирование, удаление со сдвигом назад; таблица растёт при 3/4 и сжимается при 1/8. */
+    private static final class IdentitySet {
+        private static final int MIN_CAPACITY = 16;
+
+        Object[] keys = new Object[MIN_CAPACITY];
+        int size;
+
+        void add(Object o) {
+            Object[] k = keys;
+            int mask = k.length - 1;
+            int pos = mix(o) & mask;
+            Object cur;
+            while ((cur = k[pos]) != null) {
+                if (cur == o) return;
+                pos = (pos + 1) & mask;
+            }
+            k[pos] = o;
+            if (++size >= k.length - (k.length >> 2)) rehash(k.length << 1);
+        }
+
+        boolean remove(Object o) {
+            Object[] k = keys;
+            int mask = k.length - 1;
+            int pos = mix(o) & mask;
+            Object cur;
+            while ((cur = k[pos]) != null) {
+                if (cur == o) {
+                    removeAt(pos, k, mask);
+                    if (k.length > MIN_CAPACITY && size < (k.length >> 3)) rehash(k.length >> 1);
+                    return true;
+                }
+                pos = (pos + 1) & mask;
+            }
+            return false;
+        }
+
+        private void removeAt(int pos, Object[] k, int mask) {
+            size--;
+            for (;;) {
+                int last = pos;
+                pos = (pos + 1) & mask;
+                Object cur;
+                for (;;) {
+                    cur = k[pos];
+                    if (cur == null) {
+                        k[last] = null;
+                        return;
+                    }
+                    int slot = mix(cur) & mask;
+                    // cur можно сдвинуть в last, только если его «родной» слот не лежит между last и pos
+                    if (last <= pos ? (last >= slot || slot > pos) : (last >= slot && slot > pos)) break;
+                    pos = (pos + 1) & mask;
+                }
+                k[last] = cur;
+            }
+        }
+
+        private void rehash(int capacity) {
+            Object[] old = keys;
+            Object[] k = new Object[capacity];
+            int mask = capacity - 1;
+            for (Object o : old) {
+                if (o == null) continue;
+                int pos = mix(o) & mask;
+                while (k[pos] != null) pos = (pos + 1) & mask;
+                k[pos] = o;
+            }
+            keys = k;
+        }
+
+        private static int mix(Object o) {
+            int h = System.identityHashCode(o) * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
     }
 }
@@ -0,0 +1,200 @@
+package com.myrxjava.core;
+
+import com.myrxjava.core.subjects.Subject;
+import com.myrxjava.functions.Action;
+import com.myrxjava.functions.Consumer;
+import com.myrxjava.functions.Supplier;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Горячий поток: один раз подписывается на источник и раздаёт его через {@link Subject}.  <br/>
+ * Подписка на ConnectableObservable сама источник не запускает — это делает {@link #connect()}
+ * или {@link #refCount()} / {@link #autoConnect(int)}. После завершения источника поздние
+ * подписчики получают то, что отдаёт завершённый Subject (терминальное событие, у replay — и буфер);
+ * следующий {@code connect()} начинает новое подключение со свежим Subject.
+ */
+public final class ConnectableObservable<T> {
+
+    private final Observable<T> source;
+    private final Supplier<? extends Subject<T>> subjectFactory;
+    private final AtomicReference<Connection<T>> current = new AtomicReference<>();
+
+    ConnectableObservable(Observable<T> source, Supplier<? extends Subject<T>> subjectFactory) {
+        this.source         = source;
+        this.subjectFactory = subjectFactory;
+    }
+
+    /* ----------  подписка ---------- */
+
+    public Observable<T> toObservable() {
+        return Observable.create(observer -> connection().subject.subscribe(observer));
+    }
+
+    public void subscribe(Observer<? super T> observer) { toObservable().subscribe(observer); }
+
+    public void subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Action onComplete) {
+        toObservable().subscribe(onNext, onError, onComplete);
+    }
+
+    /* ----------  подключение ---------- */
+
+    /** Подписывается на источник, если ещё не подписан; dispose результата отключает источник. */
+    public Disposable connect() {
+        for (;;) {
+            Connection<T> c = connection();
+            if (c.terminated) {                             // прошлое подключение отработало — начинаем заново
+                current.compareAndSet(c, null);
+                continue;
+            }
+            connect(c);
+            return c;
+        }
+    }
+
+    /** Подключается с первым подписчиком и отключается, когда отписался последний. */
+    public Observable<T> refCount() {
+        return Observable.create(observer -> {
+            Connection<T> c;
+            boolean first;
+            synchronized (this) {
+                c = connection();
+                if (c.terminated) {
+                    current.compareAndSet(c, null);
+                    c = connection();
+                }
+                first = c.refs++ == 0;
+            }
+            c.subject.subscribe(new RefCountObserver<>(observer, this, c));
+            if (first) connect(c);
+        });
+    }
+
+    /** Подключается, когда подписались {@code numberOfObservers} наблюдателей; сам не отключается. */
+    public Observable<T> autoConnect(int numberOfObservers) {
+        if (numberOfObservers <= 0) throw new IllegalArgumentException("numberOfObservers > 0 required but it was " + numberOfObservers);
+        AtomicInteger subscribed = new AtomicInteger();
+        return Observable.create(observer -> {
+            connection().subject.subscribe(observer);
+            if (subscribed.incrementAndGet() == numberOfObservers) connect();
+        });
+    }
+
+    private Connection<T> connection() {
+        for (;;) {
+            Connection<T> c = current.get();
+            if (c != null) return c;
+            Connection<T> fresh = new Connection<>(this, newSubject());
+            if (current.compareAndSet(null, fresh)) return fresh;
+        }
+    }
+
+    /** Ошибка фабрики всплывает из subscribe/connect; у подписчика она превращается в onError. */
+    private Subject<T> newSubject() {
+        try {
+            return subjectFactory.get();
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new IllegalStateException("subject factory failed", ex);
+        }
+    }
+
+    private void connect(Connection<T> c) {
+        if (c.connected.compareAndSet(false, true)) source.subscribe(c);
+    }
+
+    private void release(Connection<T> c) {
+        synchronized (this) {
+            if (--c.refs == 0) c.dispose();
+        }
+    }
+
+    /* ----------  подключение к источнику  ---------- */
+
+    private static final class Connection<T> implements Observer<T>, Disposable {
+        final ConnectableObservable<T> owner;
+        final Subject<T> subject;
+        final AtomicBoolean connected = new AtomicBoolean();
+        final AtomicReference<Disposable> upstream = new AtomicReference<>();
+        int refs;                                           // guarded by owner
+        volatile boolean terminated;
+        volatile boolean disposed;
+
+        Connection(ConnectableObservable<T> owner, Subject<T> subject) {
+            this.owner   = owner;
+            this.subject = subject;
+        }
+
+        @Override public void onSubscribe(Disposable d) {
+            if (!upstream.compareAndSet(null, d) || disposed) d.dispose();
+        }
+
+        @Override public void onNext(T item) { if (!disposed) subject.onNext(item); }
+
+        @Override public void onError(Throwable t) {
+            terminated = true;
+            subject.onError(t);
+        }
+
+        @Override public void onComplete() {
+            terminated = true;
+            subject.onComplete();
+        }
+
+        @Override public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            Disposable d = upstream.get();
+            if (d != null) d.dispose();
+            owner.current.compareAndSet(this, null);
+        }
+
+        @Override public boolean isDisposed() { return disposed; }
+    }
+
+    /** Снимает свою единицу со счётчика подключения при отписке или терминальном событии. */
+    private static final class RefCountObserver<T> implements Observer<T>, Disposable {
+        private final Observer<? super T> actual;
+        private final ConnectableObservable<T> owner;
+        private final Connection<T> connection;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private Disposable upstream;
+
+        RefCountObserver(Observer<? super T> actual, ConnectableObservable<T> owner, Connection<T> connection) {
+            this.actual     = actual;
+            this.owner      = owner;
+            this.connection = connection;
+        }
+
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            actual.onSubscribe(this);
+        }
+
+        @Override public void onNext(T item) { actual.onNext(item); }
+
+        @Override public void onError(Throwable t) {
+            release();
+            actual.onError(t);
+        }
+
+        @Override public void onComplete() {
+            release();
+            actual.onComplete();
+        }
+
+        @Override public void dispose() {
+            upstream.dispose();
+            release();
+        }
+
+        @Override public boolean isDisposed() { return released.get(); }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) owner.release(connection);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.myrxjava.core;
+
+import com.myrxjava.functions.*;
+
+import java.util.Arrays;
+
+/**
+ * Поток примитивных {@code double} без упаковки.  <br/>
+ * map/filter/reduce/sum/window работают прямо на {@code double}; в объектный {@link Observable}
+ * и обратно — через {@link #boxed()} / {@link #mapToObj} и {@link Observable#mapToDouble}.
+ */
+public final class DoubleObservable extends PrimitiveObservable<DoubleObserver> {
+
+    /* ----------  создание  ---------- */
+
+    public interface DoubleObservableOnSubscribe { void subscribe(DoubleObserver observer); }
+
+    private final DoubleObservableOnSubscribe source;
+    private DoubleObservable(DoubleObservableOnSubscribe src) { this.source = src; }
+
+    @Override void subscribeActual(DoubleObserver observer) { source.subscribe(observer); }
+
+    /** Пользовательский источник оборачивается в Safe-Observer, как в {@link Observable#create}. */
+    public static DoubleObservable create(DoubleObservableOnSubscribe src) {
+        return new DoubleObservable(observer -> src.subscribe(new SafeDoubleObserver(observer)));
+    }
+
+    public static DoubleObservable fromArray(double... items) {
+        return new DoubleObservable(observer -> {
+            BooleanDisposable d = new BooleanDisposable();
+            observer.onSubscribe(d);
+            for (int i = 0; i < items.length && !d.isDisposed(); i++) observer.onNext(items[i]);
+            if (!d.isDisposed()) observer.onComplete();
+        });
+    }
+
+    /* ----------  подписка  ---------- */
+
+    /* удобный overload  */
+    public void subscribe(DoubleConsumer onNext,
+                          Consumer<? super Throwable> onError,
+                          Action onComplete) {
+        subscribe(new LambdaDoubleObserver(onNext, onError, onComplete));
+    }
+
+    /* ----------  операторы ---------- */
+
+    public DoubleObservable map(DoubleUnaryOperator mapper) {
+        return new DoubleObservable(observer -> subscribe(new Stage(observer) {
+            @Override public void onNext(double item) {
+                if (done) return;
+                double v;
+                try { v = mapper.applyAsDouble(item); }
+                catch (Exception ex) { fail(ex); return; }
+                observer.onNext(v);
+            }
+        }));
+    }
+
+    public DoubleObservable filter(DoublePredicate p) {
+        return new DoubleObservable(observer -> subscribe(new Stage(observer) {
+            @Override public void onNext(double item) {
+                if (done) return;
+                boolean pass;
+                try { pass = p.test(item); }
+                catch (Exception ex) { fail(ex); return; }
+                if (pass) observer.onNext(item);
+            }
+        }));
+    }
+
+    /** Сворачивает поток в одно значение; пустой поток даёт {@code identity}. */
+    public DoubleObservable reduce(double identity, DoubleBinaryOperator accumulator) {
+        return new DoubleObservable(observer -> subscribe(new Stage(observer) {
+            double acc = identity;
+
+            @Override public void onNext(double item) {
+                if (done) return;
+                try { acc = accumulator.applyAsDouble(acc, item); }
+                catch (Exception ex) { fail(ex); }
+            }
+            @Override public void onComplete() {
+                if (done) return;
+                done = true;
+                observer.onNext(acc);
+                observer.onComplete();
+            }
+        }));
+    }
+
+    /** Сумма всех значений с компенсацией погрешности (Кэхэн); пустой поток даёт 0. */
+    public DoubleObservable sum() {
+        return new DoubleObservable(observer -> subscribe(new Stage(observer) {
+            double sum;
+            double compensation;
+
+            @Override public void onNext(double item) {
+                if (done) return;
+                double y = item - compensation;
+                double t = sum + y;
+                compensation = (t - sum) - y;
+                sum = t;
+            }
+            @Override public void onComplete() {
+                if (done) return;
+                done = true;
+                observer.onNext(sum);
+                observer.onComplete();
+            }
+        }));
+    }
+
+    /**
+     * Режет поток на массивы по {@code count} значений; последний может быть короче.  <br/>
+     * Аллокация — один массив на окно, а не объект на элемент.
+     */
+    public Observable<double[]> window(int count) {
+        if (count <= 0) throw new IllegalArgumentException("count > 0 required but it was " + count);
+        return Observable.create(observer -> subscribe(new ToObjectStage<double[]>(observer) {
+            double[] buffer = new double[count];
+            int size;
+
+            @Override public void onNext(double item) {
+                if (done) return;
+                buffer[size++] = item;
+                if (size == count) {
+                    double[] window = buffer;
+                    buffer = new double[count];
+                    size = 0;
+                    observer.onNext(window);
+                }
+            }
+            @Override public void onError(Throwable t) { buffer = null; super.onError(t); }
+            @Override public void onComplete() {
+                if (done) return;
+                if (size != 0) observer.onNext(Arrays.copyOf(buffer, size));
+                buffer = null;
+                super.onComplete();
+            }
+        }));
+    }
+
+    /* ----------  конвертация ---------- */
+
+    /** Упаковывает каждое значение в {@link Double}. */
+    public Observable<Double> boxed() { return mapToObj(Double::valueOf); }
+
+    public <R> Observable<R> mapToObj(DoubleFunction<? extends R> mapper) {
+        return Observable.create(observer -> subscribe(new ToObjectStage<R>(observer) {
+            @Override public void onNext(double item) {
+                if (done) return;
+                R r;
+                try { r = mapper.apply(item); }
+                catch (Exception ex) { fail(ex); return; }
+                observer.onNext(r);
+            }
+        }));
+    }
+
+    /* ----------  общие части с Double-onNext  ---------- */
+
+    private abstract static class Stage extends PrimitiveObservable.Stage<DoubleObserver> implements DoubleObserver {
+        Stage(DoubleObserver observer) { super(observer); }
+    }
+
+    private abstract static class ToObjectStage<R> extends ObjectStage<R> implements DoubleObserver {
+        ToObjectStage(Observer<? super R> observer) { super(observer); }
+    }
+
+    private static final class LambdaDoubleObserver extends LambdaObserver implements DoubleObserver {
+        private final DoubleConsumer onNext;
+
+        LambdaDoubleObserver(DoubleConsumer onNext, Consumer<? super Throwable> onError, Action onComplete) {
+            super(onError, onComplete);
+            this.onNext = onNext;
+        }
+
+        @Override public void onNext(double item) {
+            if (done) return;
+            try { onNext.accept(item); }
+            catch (Exception e) { fail(e); }
+        }
+    }
+
+    private static final class SafeDoubleObserver extends SafeObserver<DoubleObserver> implements DoubleObserver {
+        SafeDoubleObserver(DoubleObserver actual) { super(actual); }
+
+        @Override public void onNext(double item) {
+            if (!isDisposed()) actual.onNext(item);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.myrxjava.core;
+
+/** Наблюдатель за потоком примитивных {@code double}: без упаковки в {@link Double}. */
+public interface DoubleObserver extends PrimitiveObserver {
+    void onNext(double item);
+}
@@ -0,0 +1,121 @@
+package com.myrxjava.core;
+
+import com.myrxjava.functions.*;
+import com.myrxjava.core.operators.*;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Реактивный поток с back-pressure: источник отдаёт не больше, чем запросил подписчик.  <br/>
+ * Параллельное семейство к {@link Observable} для быстрых источников и медленных потребителей.
+ */
+public final class Flowable<T> {
+
+    /** Размер prefetch-буферов observeOn / flatMap по умолчанию. */
+    public static final int BUFFER_SIZE = Math.max(16, Integer.getInteger("myrxjava.buffer-size", 128));
+
+    /* ----------  создание  ---------- */
+
+    /** Пользовательский источник для {@link #create}: пишет в эмиттер. */
+    public interface FlowableOnSubscribe<T> { void subscribe(FlowableEmitter<T> emitter) throws Exception; }
+
+    /** Источник-оператор: подписывает Subscriber напрямую и обязан соблюдать запросы. */
+    public interface FlowableSource<T> { void subscribe(Subscriber<? super T> subscriber); }
+
+    private final FlowableSource<T> source;
+    private Flowable(FlowableSource<T> src) { this.source = src; }
+
+    public static <T> Flowable<T> create(FlowableOnSubscribe<T> src, BackpressureStrategy strategy) {
+        return new Flowable<>(new FlowableCreateOperator<>(src, strategy));
+    }
+
+    /* ----------  подписка  ---------- */
+
+    public void subscribe(Subscriber<? super T> subscriber) {
+        try {
+            source.subscribe(subscriber);
+        } catch (Throwable ex) {
+            subscriber.onError(ex);
+        }
+    }
+
+    /* удобный overload: запрашивает всё сразу */
+    public void subscribe(Consumer<? super T> onNext,
+                          Consumer<? super Throwable> onError,
+                          Action onComplete) {
+
+        subscribe(new Subscriber<T>() {
+            final AtomicReference<Subscription> ref = new AtomicReference<>();
+
+            @Override public void onSubscribe(Subscription s) { ref.set(s); s.request(Long.MAX_VALUE); }
+            @Override public void onNext(T item)       { try { onNext.accept(item); } catch (Exception e) { cancel(); onError(e); } }
+            @Override public void onError(Throwable t) { try { onError.accept(t); } catch (Exception ignore) { } finally { ref.set(null); } }
+            @Override public void onComplete()         { try { onComplete.run();  } catch (Exception ignore) { } finally { ref.set(null); } }
+
+            private void cancel() {
+                Subscription s = ref.getAndSet(null);
+                if (s != null) s.cancel();
+            }
+        });
+    }
+
+    /* ----------  операторы ---------- */
+
+    public <R> Flowable<R> map(Function<? super T, ? extends R> mapper) {
+        return new Flowable<>(new FlowableMapOperator<>(this, mapper));
+    }
+
+    public Flowable<T> filter(Predicate<? super T> p) {
+        return new Flowable<>(new FlowableFilterOperator<>(this, p));
+    }
+
+    public <R> Flowable<R> flatMap(Function<? super T, ? extends Flowable<R>> mapper) {
+        return flatMap(mapper, BUFFER_SIZE, BUFFER_SIZE);
+    }
+
+    /**
+     * @param maxConcurrency сколько внутренних потоков подписано одновременно
+     * @param prefetch       сколько элементов запрашивается у каждого внутреннего потока
+     */
+    public <R> Flowable<R> flatMap(Function<? super T, ? extends Flowable<R>> mapper,
+                                   int maxConcurrency, int prefetch) {
+        if (maxConcurrency <= 0) throw new IllegalArgumentException("maxConcurrency > 0 required but it was " + maxConcurrency);
+        if (prefetch <= 0)       throw new IllegalArgumentException("prefetch > 0 required but it was " + prefetch);
+        return new Flowable<>(new FlowableFlatMapOperator<>(this, mapper, maxConcurrency, prefetch));
+    }
+
+    /* ----------  смена потоков ---------- */
+
+    public Flowable<T> subscribeOn(Scheduler scheduler) {
+        return new Flowable<>(subscriber -> scheduler.execute(() -> Flowable.this.subscribe(subscriber)));
+    }
+
+    public Flowable<T> observeOn(Scheduler scheduler) {
+        return observeOn(scheduler, BUFFER_SIZE);
+    }
+
+    /** @param prefetch размер очереди и максимальный запрос к источнику */
+    public Flowable<T> observeOn(Scheduler scheduler, int prefetch) {
+        if (prefetch <= 0) throw new IllegalArgumentException("prefetch > 0 required but it was " + prefetch);
+        return new Flowable<>(new FlowableObserveOnOperator<>(this, scheduler, prefetch));
+    }
+
+    /* ----------  конвертация ---------- */
+
+    /** Снимает back-pressure: запрашивает всё и транслирует в Observer. */
+    public Observable<T> toObservable() {
+        return Observable.create(observer -> Flowable.this.subscribe(new Subscriber<T>() {
+            @Override public void onSubscribe(Subscription s) {
+                observer.onSubscribe(new Disposable() {
+                    private volatile boolean disposed;
+                    @Override public void dispose()       { if (!disposed) { disposed = true; s.cancel(); } }
+                    @Override public boolean isDisposed() { return disposed; }
+                });
+                s.request(Long.MAX_VALUE);
+            }
+            @Override public void onNext(T item)       { observer.onNext(item); }
+            @Override public void onError(Throwable t) { observer.onError(t); }
+            @Override public void onComplete()         { observer.onComplete(); }
+        }));
+    }
+}
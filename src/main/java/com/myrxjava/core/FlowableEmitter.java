@@ -0,0 +1,16 @@
+package com.myrxjava.core;
+
+/** Эмиттер для {@link Flowable#create}: даёт источнику видеть запрос и отмену подписчика. */
+public interface FlowableEmitter<T> {
+    void onNext(T item);
+    void onError(Throwable t);
+    void onComplete();
+
+    /** Текущий неисполненный запрос подписчика. */
+    long requested();
+
+    boolean isCancelled();
+
+    /** Ресурс источника, который надо освободить при отмене или завершении. */
+    void setDisposable(Disposable d);
+}
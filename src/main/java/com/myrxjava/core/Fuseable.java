@@ -0,0 +1,9 @@
+package com.myrxjava.core;
+
+/**
+ * Маркер библиотечного источника, который сам соблюдает контракт Observer
+ * (onSubscribe первым, ничего после терминального события, проверка dispose).  <br/>
+ * {@link Observable} подписывает такие источники без SafeObserver, чтобы потребитель
+ * получил их {@link QueueDisposable} напрямую.
+ */
+public interface Fuseable { }
@@ -0,0 +1,198 @@
+package com.myrxjava.core;
+
+import com.myrxjava.functions.*;
+
+import java.util.Arrays;
+
+/**
+ * Поток примитивных {@code int} без упаковки.  <br/>
+ * map/filter/reduce/sum/window работают прямо на {@code int}; в объектный {@link Observable}
+ * и обратно — через {@link #boxed()} / {@link #mapToObj} и {@link Observable#mapToInt}.
+ */
+public final class IntObservable extends PrimitiveObservable<IntObserver> {
+
+    /* ----------  создание  ---------- */
+
+    public interface IntObservableOnSubscribe { void subscribe(IntObserver observer); }
+
+    private final IntObservableOnSubscribe source;
+    private IntObservable(IntObservableOnSubscribe src) { this.source = src; }
+
+    @Override void subscribeActual(IntObserver observer) { source.subscribe(observer); }
+
+    /** Пользовательский источник оборачивается в Safe-Observer, как в {@link Observable#create}. */
+    public static IntObservable create(IntObservableOnSubscribe src) {
+        return new IntObservable(observer -> src.subscribe(new SafeIntObserver(observer)));
+    }
+
+    public static IntObservable fromArray(int... items) {
+        return new IntObservable(observer -> {
+            BooleanDisposable d = new BooleanDisposable();
+            observer.onSubscribe(d);
+            for (int i = 0; i < items.length && !d.isDisposed(); i++) observer.onNext(items[i]);
+            if (!d.isDisposed()) observer.onComplete();
+        });
+    }
+
+    /** {@code count} последовательных значений начиная со {@code start}. */
+    public static IntObservable range(int start, int count) {
+        if (count < 0) throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        if ((long) start + count - 1 > Integer.MAX_VALUE) throw new IllegalArgumentException("Integer overflow");
+        return new IntObservable(observer -> {
+            BooleanDisposable d = new BooleanDisposable();
+            observer.onSubscribe(d);
+            long end = (long) start + count;
+            for (long i = start; i != end && !d.isDisposed(); i++) observer.onNext((int) i);
+            if (!d.isDisposed()) observer.onComplete();
+        });
+    }
+
+    /* ----------  подписка  ---------- */
+
+    /* удобный overload  */
+    public void subscribe(IntConsumer onNext,
+                          Consumer<? super Throwable> onError,
+                          Action onComplete) {
+        subscribe(new LambdaIntObserver(onNext, onError, onComplete));
+    }
+
+    /* ----------  операторы ---------- */
+
+    public IntObservable map(IntUnaryOperator mapper) {
+        return new IntObservable(observer -> subscribe(new Stage(observer) {
+            @Override public void onNext(int item) {
+                if (done) return;
+                int v;
+                try { v = mapper.applyAsInt(item); }
+                catch (Exception ex) { fail(ex); return; }
+                observer.onNext(v);
+            }
+        }));
+    }
+
+    public IntObservable filter(IntPredicate p) {
+        return new IntObservable(observer -> subscribe(new Stage(observer) {
+            @Override public void onNext(int item) {
+                if (done) return;
+                boolean pass;
+                try { pass = p.test(item); }
+                catch (Exception ex) { fail(ex); return; }
+                if (pass) observer.onNext(item);
+            }
+        }));
+    }
+
+    /** Сворачивает поток в одно значение; пустой поток даёт {@code identity}. */
+    public IntObservable reduce(int identity, IntBinaryOperator accumulator) {
+        return new IntObservable(observer -> subscribe(new Stage(observer) {
+            int acc = identity;
+
+            @Override public void onNext(int item) {
+                if (done) return;
+                try { acc = accumulator.applyAsInt(acc, item); }
+                catch (Exception ex) { fail(ex); }
+            }
+            @Override public void onComplete() {
+                if (done) return;
+                done = true;
+                observer.onNext(acc);
+                observer.onComplete();
+            }
+        }));
+    }
+
+    /** Сумма всех значений (с переполнением, как у {@code int}); пустой поток даёт 0. */
+    public IntObservable sum() {
+        return new IntObservable(observer -> subscribe(new Stage(observer) {
+            int sum;
+
+            @Override public void onNext(int item) { if (!done) sum += item; }
+            @Override public void onComplete() {
+                if (done) return;
+                done = true;
+                observer.onNext(sum);
+                observer.onComplete();
+            }
+        }));
+    }
+
+    /**
+     * Режет поток на массивы по {@code count} значений; последний может быть короче.  <br/>
+     * Аллокация — один массив на окно, а не объект на элемент.
+     */
+    public Observable<int[]> window(int count) {
+        if (count <= 0) throw new IllegalArgumentException("count > 0 required but it was " + count);
+        return Observable.create(observer -> subscribe(new ToObjectStage<int[]>(observer) {
+            int[] buffer = new int[count];
+            int size;
+
+            @Override public void onNext(int item) {
+                if (done) return;
+                buffer[size++] = item;
+                if (size == count) {
+                    int[] window = buffer;
+                    buffer = new int[count];
+                    size = 0;
+                    observer.onNext(window);
+                }
+            }
+            @Override public void onError(Throwable t) { buffer = null; super.onError(t); }
+            @Override public void onComplete() {
+                if (done) return;
+                if (size != 0) observer.onNext(Arrays.copyOf(buffer, size));
+                buffer = null;
+                super.onComplete();
+            }
+        }));
+    }
+
+    /* ----------  конвертация ---------- */
+
+    /** Упаковывает каждое значение в {@link Integer}. */
+    public Observable<Integer> boxed() { return mapToObj(Integer::valueOf); }
+
+    public <R> Observable<R> mapToObj(IntFunction<? extends R> mapper) {
+        return Observable.create(observer -> subscribe(new ToObjectStage<R>(observer) {
+            @Override public void onNext(int item) {
+                if (done) return;
+                R r;
+                try { r = mapper.apply(item); }
+                catch (Exception ex) { fail(ex); return; }
+                observer.onNext(r);
+            }
+        }));
+    }
+
+    /* ----------  общие части с Int-onNext  ---------- */
+
+    private abstract static class Stage extends PrimitiveObservable.Stage<IntObserver> implements IntObserver {
+        Stage(IntObserver observer) { super(observer); }
+    }
+
+    private abstract static class ToObjectStage<R> extends ObjectStage<R> implements IntObserver {
+        ToObjectStage(Observer<? super R> observer) { super(observer); }
+    }
+
+    private static final class LambdaIntObserver extends LambdaObserver implements IntObserver {
+        private final IntConsumer onNext;
+
+        LambdaIntObserver(IntConsumer onNext, Consumer<? super Throwable> onError, Action onComplete) {
+            super(onError, onComplete);
+            this.onNext = onNext;
+        }
+
+        @Override public void onNext(int item) {
+            if (done) return;
+            try { onNext.accept(item); }
+            catch (Exception e) { fail(e); }
+        }
+    }
+
+    private static final class SafeIntObserver extends SafeObserver<IntObserver> implements IntObserver {
+        SafeIntObserver(IntObserver actual) { super(actual); }
+
+        @Override public void onNext(int item) {
+            if (!isDisposed()) actual.onNext(item);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.myrxjava.core;
+
+/** Наблюдатель за потоком примитивных {@code int}: без упаковки в {@link Integer}. */
+public interface IntObserver extends PrimitiveObserver {
+    void onNext(int item);
+}
@@ -0,0 +1,197 @@
+package com.myrxjava.core;
+
+import com.myrxjava.functions.*;
+
+import java.util.Arrays;
+
+/**
+ * Поток примитивных {@code long} без упаковки.  <br/>
+ * map/filter/reduce/sum/window работают прямо на {@code long}; в объектный {@link Observable}
+ * и обратно — через {@link #boxed()} / {@link #mapToObj} и {@link Observable#mapToLong}.
+ */
+public final class LongObservable extends PrimitiveObservable<LongObserver> {
+
+    /* ----------  создание  ---------- */
+
+    public interface LongObservableOnSubscribe { void subscribe(LongObserver observer); }
+
+    private final LongObservableOnSubscribe source;
+    private LongObservable(LongObservableOnSubscribe src) { this.source = src; }
+
+    @Override void subscribeActual(LongObserver observer) { source.subscribe(observer); }
+
+    /** Пользовательский источник оборачивается в Safe-Observer, как в {@link Observable#create}. */
+    public static LongObservable create(LongObservableOnSubscribe src) {
+        return new LongObservable(observer -> src.subscribe(new SafeLongObserver(observer)));
+    }
+
+    public static LongObservable fromArray(long... items) {
+        return new LongObservable(observer -> {
+            BooleanDisposable d = new BooleanDisposable();
+            observer.onSubscribe(d);
+            for (int i = 0; i < items.length && !d.isDisposed(); i++) observer.onNext(items[i]);
+            if (!d.isDisposed()) observer.onComplete();
+        });
+    }
+
+    /** {@code count} последовательных значений начиная со {@code start}. */
+    public static LongObservable range(long start, long count) {
+        if (count < 0) throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        if (count > 0 && start > Long.MAX_VALUE - (count - 1)) throw new IllegalArgumentException("Long overflow");
+        return new LongObservable(observer -> {
+            BooleanDisposable d = new BooleanDisposable();
+            observer.onSubscribe(d);
+            for (long i = 0; i != count && !d.isDisposed(); i++) observer.onNext(start + i);
+            if (!d.isDisposed()) observer.onComplete();
+        });
+    }
+
+    /* ----------  подписка  ---------- */
+
+    /* удобный overload  */
+    public void subscribe(LongConsumer onNext,
+                          Consumer<? super Throwable> onError,
+                          Action onComplete) {
+        subscribe(new LambdaLongObserver(onNext, onError, onComplete));
+    }
+
+    /* ----------  операторы ---------- */
+
+    public LongObservable map(LongUnaryOperator mapper) {
+        return new LongObservable(observer -> subscribe(new Stage(observer) {
+            @Override public void onNext(long item) {
+                if (done) return;
+                long v;
+                try { v = mapper.applyAsLong(item); }
+                catch (Exception ex) { fail(ex); return; }
+                observer.onNext(v);
+            }
+        }));
+    }
+
+    public LongObservable filter(LongPredicate p) {
+        return new LongObservable(observer -> subscribe(new Stage(observer) {
+            @Override public void onNext(long item) {
+                if (done) return;
+                boolean pass;
+                try { pass = p.test(item); }
+                catch (Exception ex) { fail(ex); return; }
+                if (pass) observer.onNext(item);
+            }
+        }));
+    }
+
+    /** Сворачивает поток в одно значение; пустой поток даёт {@code identity}. */
+    public LongObservable reduce(long identity, LongBinaryOperator accumulator) {
+        return new LongObservable(observer -> subscribe(new Stage(observer) {
+            long acc = identity;
+
+            @Override public void onNext(long item) {
+                if (done) return;
+                try { acc = accumulator.applyAsLong(acc, item); }
+                catch (Exception ex) { fail(ex); }
+            }
+            @Override public void onComplete() {
+                if (done) return;
+                done = true;
+                observer.onNext(acc);
+                observer.onComplete();
+            }
+        }));
+    }
+
+    /** Сумма всех значений (с переполнением, как у {@code long}); пустой поток даёт 0. */
+    public LongObservable sum() {
+        return new LongObservable(observer -> subscribe(new Stage(observer) {
+            long sum;
+
+            @Override public void onNext(long item) { if (!done) sum += item; }
+            @Override public void onComplete() {
+                if (done) return;
+                done = true;
+                observer.onNext(sum);
+                observer.onComplete();
+            }
+        }));
+    }
+
+    /**
+     * Режет поток на массивы по {@code count} значений; последний может быть короче.  <br/>
+     * Аллокация — один массив на окно, а не объект на элемент.
+     */
+    public Observable<long[]> window(int count) {
+        if (count <= 0) throw new IllegalArgumentException("count > 0 required but it was " + count);
+        return Observable.create(observer -> subscribe(new ToObjectStage<long[]>(observer) {
+            long[] buffer = new long[count];
+            int size;
+
+            @Override public void onNext(long item) {
+                if (done) return;
+                buffer[size++] = item;
+                if (size == count) {
+                    long[] window = buffer;
+                    buffer = new long[count];
+                    size = 0;
+                    observer.onNext(window);
+                }
+            }
+            @Override public void onError(Throwable t) { buffer = null; super.onError(t); }
+            @Override public void onComplete() {
+                if (done) return;
+                if (size != 0) observer.onNext(Arrays.copyOf(buffer, size));
+                buffer = null;
+                super.onComplete();
+            }
+        }));
+    }
+
+    /* ----------  конвертация ---------- */
+
+    /** Упаковывает каждое значение в {@link Long}. */
+    public Observable<Long> boxed() { return mapToObj(Long::valueOf); }
+
+    public <R> Observable<R> mapToObj(LongFunction<? extends R> mapper) {
+        return Observable.create(observer -> subscribe(new ToObjectStage<R>(observer) {
+            @Override public void onNext(long item) {
+                if (done) return;
+                R r;
+                try { r = mapper.apply(item); }
+                catch (Exception ex) { fail(ex); return; }
+                observer.onNext(r);
+            }
+        }));
+    }
+
+    /* ----------  общие части с Long-onNext  ---------- */
+
+    private abstract static class Stage extends PrimitiveObservable.Stage<LongObserver> implements LongObserver {
+        Stage(LongObserver observer) { super(observer); }
+    }
+
+    private abstract static class ToObjectStage<R> extends ObjectStage<R> implements LongObserver {
+        ToObjectStage(Observer<? super R> observer) { super(observer); }
+    }
+
+    private static final class LambdaLongObserver extends LambdaObserver implements LongObserver {
+        private final LongConsumer onNext;
+
+        LambdaLongObserver(LongConsumer onNext, Consumer<? super Throwable> onError, Action onComplete) {
+            super(onError, onComplete);
+            this.onNext = onNext;
+        }
+
+        @Override public void onNext(long item) {
+            if (done) return;
+            try { onNext.accept(item); }
+            catch (Exception e) { fail(e); }
+        }
+    }
+
+    private static final class SafeLongObserver extends SafeObserver<LongObserver> implements LongObserver {
+        SafeLongObserver(LongObserver actual) { super(actual); }
+
+        @Override public void onNext(long item) {
+            if (!isDisposed()) actual.onNext(item);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.myrxjava.core;
+
+/** Наблюдатель за потоком примитивных {@code long}: без упаковки в {@link Long}. */
+public interface LongObserver extends PrimitiveObserver {
+    void onNext(long item);
+}
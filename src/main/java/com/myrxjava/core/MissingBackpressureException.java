@@ -0,0 +1,9 @@
+package com.myrxjava.core;
+
+/** Источник выдал элемент, на который не было запроса, и его некуда положить. */
+public final class MissingBackpressureException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public MissingBackpressureException(String message) { super(message); }
+}
@@ -2,9 +2,17 @@ package com.myrxjava.core;
 
 import com.myrxjava.functions.*;
 import com.myrxjava.core.operators.*;
-
+import com.myrxjava.core.plugins.RxPlugins;
+import com.myrxjava.core.subjects.PublishSubject;
+import com.myrxjava.core.subjects.ReplaySubject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 /** Базовый класс реактивного потока. */
 public final class Observable<T> {
@@ -14,14 +22,130 @@ public final class Observable<T> {
     public interface ObservableOnSubscribe<T> { void subscribe(Observer<? super T> observer); }
 
     private final ObservableOnSubscribe<T> source;
-    private Observable(ObservableOnSubscribe<T> src) { this.source = src; }
+    private Observable(ObservableOnSubscribe<T> src) { this.source = RxPlugins.onAssembly(src); }
 
     public static <T> Observable<T> create(ObservableOnSubscribe<T> src) { return new Observable<>(src); }
 
+    /** Источник для {@link #fromEmitter}: получает эмиттер, а не голый Observer. */
+    public interface EmitterOnSubscribe<T> { void subscribe(ObservableEmitter<T> emitter) throws Exception; }
+
+    /**
+     * Как {@link #create}, но источник видит отписку ({@link ObservableEmitter#isDisposed()}),
+     * регистрирует ресурсы на освобождение и при нескольких потоках-производителях берёт {@code serialize()}.
+     */
+    public static <T> Observable<T> fromEmitter(EmitterOnSubscribe<T> src) { return new Observable<>(new ObservableCreateOperator<>(src)); }
+
+    @SafeVarargs
+    @SuppressWarnings("varargs")                    // источник массив только читает
+    public static <T> Observable<T> fromArray(T... items) { return new Observable<>(new FromArraySource<>(items)); }
+
+    /** Элементы коллекции или любого Iterable; для коллекции размер известен потребителю заранее. */
+    public static <T> Observable<T> fromIterable(Iterable<? extends T> iterable) {
+        if (iterable == null) throw new NullPointerException("iterable");
+        return new Observable<>(new FromIterableSource<>(iterable));
+    }
+
+    /** Элементы Stream-а; подписаться можно один раз, поток закрывается по завершении или отписке. */
+    public static <T> Observable<T> fromStream(Stream<? extends T> stream) {
+        if (stream == null) throw new NullPointerException("stream");
+        return new Observable<>(new FromStreamSource<>(stream));
+    }
+
+    public static <T> Observable<T> just(T item) {
+        if (item == null) throw new NullPointerException("item");
+        return new Observable<>(new JustSource<>(item));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Observable<T> empty() { return new Observable<>((ObservableOnSubscribe<T>) (ObservableOnSubscribe<?>) EmptySource.INSTANCE); }
+
+    public static Observable<Integer> range(int start, int count) {
+        if (count < 0) throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        if ((long) start + count - 1 > Integer.MAX_VALUE) throw new IllegalArgumentException("Integer overflow");
+        return new Observable<>(new RangeSource(start, count));
+    }
+
+    /* ----------  комбинирование ---------- */
+
+    /** Элементы всех источников по мере поступления; порядок между источниками не сохраняется. */
+    public static <T> Observable<T> merge(Iterable<? extends Observable<T>> sources) {
+        return merge(sources, Integer.MAX_VALUE);
+    }
+
+    /** @param maxConcurrency сколько источников подписано одновременно, остальные ждут своей очереди */
+    public static <T> Observable<T> merge(Iterable<? extends Observable<T>> sources, int maxConcurrency) {
+        return fromIterable(sources).flatMap(o -> o, maxConcurrency, Flowable.BUFFER_SIZE);
+    }
+
+    public Observable<T> mergeWith(Observable<T> other) {
+        return merge(List.of(this, other));
+    }
+
+    public static <T1, T2, R> Observable<R> zip(Observable<? extends T1> a, Observable<? extends T2> b,
+                                                BiFunction<? super T1, ? super T2, ? extends R> zipper) {
+        if (zipper == null) throw new NullPointerException("zipper");
+        return zip(List.of(a, b), row -> zipper.apply(cast(row[0]), cast(row[1])));
+    }
+
+    public static <T, R> Observable<R> zip(Iterable<? extends Observable<? extends T>> sources,
+                                           Function<? super Object[], ? extends R> zipper) {
+        return zip(sources, zipper, Flowable.BUFFER_SIZE);
+    }
+
+    /**
+     * Попарная (построчная) склейка: i-й результат — из i-х элементов всех источников.
+     * @param bufferSize размер блока SPSC-очереди, где ждут элементы источника, убежавшего вперёд
+     */
+    public static <T, R> Observable<R> zip(Iterable<? extends Observable<? extends T>> sources,
+                                           Function<? super Object[], ? extends R> zipper, int bufferSize) {
+        if (zipper == null) throw new NullPointerException("zipper");
+        if (bufferSize <= 0) throw new IllegalArgumentException("bufferSize > 0 required but it was " + bufferSize);
+        Observable<? extends T>[] array = toArray(sources);
+        if (array.length == 0) return empty();
+        return new Observable<>(new ZipOperator<>(array, zipper, bufferSize));
+    }
+
+    public static <T1, T2, R> Observable<R> combineLatest(Observable<? extends T1> a, Observable<? extends T2> b,
+                                                          BiFunction<? super T1, ? super T2, ? extends R> combiner) {
+        if (combiner == null) throw new NullPointerException("combiner");
+        return combineLatest(List.of(a, b), row -> combiner.apply(cast(row[0]), cast(row[1])));
+    }
+
+    /**
+     * Комбинация последних значений всех источников на каждое обновление, начиная с момента,
+     * когда значение есть у каждого. При обгоне drain-а промежуточные комбинации схлопываются.
+     */
+    public static <T, R> Observable<R> combineLatest(Iterable<? extends Observable<? extends T>> sources,
+                                                     Function<? super Object[], ? extends R> combiner) {
+        if (combiner == null) throw new NullPointerException("combiner");
+        Observable<? extends T>[] array = toArray(sources);
+        if (array.length == 0) return empty();
+        return new Observable<>(new CombineLatestOperator<>(array, combiner));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Observable<? extends T>[] toArray(Iterable<? extends Observable<? extends T>> sources) {
+        if (sources == null) throw new NullPointerException("sources");
+        List<Observable<? extends T>> list = new ArrayList<>();
+        for (Observable<? extends T> o : sources) {
+            if (o == null) throw new NullPointerException("source");
+            list.add(o);
+        }
+        return (Observable<? extends T>[]) list.toArray(new Observable<?>[0]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object o) { return (T) o; }
+
     /* ----------  подписка  ---------- */
 
     public void subscribe(Observer<? super T> downstream) {
+        if (source instanceof Fuseable) {           // библиотечный источник сам соблюдает контракт
+            source.subscribe(downstream);
+            return;
+        }
         SafeObserver<T> safe = new SafeObserver<>(downstream);
+        downstream.onSubscribe(safe);               // сразу: источник create может и не вызвать onSubscribe
         try {
             source.subscribe(safe);
         } catch (Throwable ex) {
@@ -51,34 +175,373 @@ public final class Observable<T> {
 
     /* ----------  операторы ---------- */
 
+    /* map/filter подряд сливаются в одну стадию, см. MapFilterOperator */
+
+    @SuppressWarnings("unchecked")
     public <R> Observable<R> map(Function<? super T, ? extends R> mapper) {
-        return new Observable<>(new MapOperator<>(this, mapper));
+        if (source instanceof MapFilterOperator) {
+            return new Observable<>(((MapFilterOperator<?, T>) source).thenMap(mapper));
+        }
+        return new Observable<>(MapFilterOperator.map(this, mapper));
     }
 
+    @SuppressWarnings("unchecked")
     public Observable<T> filter(Predicate<? super T> p) {
-        return new Observable<>(new FilterOperator<>(this, p));
+        if (source instanceof MapFilterOperator) {
+            return new Observable<>(((MapFilterOperator<?, T>) source).thenFilter(p));
+        }
+        return new Observable<>(MapFilterOperator.filter(this, p));
     }
 
     public <R> Observable<R> flatMap(Function<? super T, ? extends Observable<R>> mapper) {
-        return new Observable<>(new FlatMapOperator<>(this, mapper));
+        return flatMap(mapper, Integer.MAX_VALUE, Flowable.BUFFER_SIZE);
+    }
+
+    /**
+     * @param maxConcurrency сколько внутренних Observable подписано одновременно, остальные ждут своей очереди
+     * @param prefetch       размер блока очереди, через которую сливаются результаты внутренних потоков
+     */
+    public <R> Observable<R> flatMap(Function<? super T, ? extends Observable<R>> mapper,
+                                     int maxConcurrency, int prefetch) {
+        if (maxConcurrency <= 0) throw new IllegalArgumentException("maxConcurrency > 0 required but it was " + maxConcurrency);
+        if (prefetch <= 0)       throw new IllegalArgumentException("prefetch > 0 required but it was " + prefetch);
+        return new Observable<>(new FlatMapOperator<>(this, mapper, maxConcurrency, prefetch));
+    }
+
+    /** Как flatMap, но inner-ы подписываются по одному и результаты идут строго в порядке источника. */
+    public <R> Observable<R> concatMap(Function<? super T, ? extends Observable<R>> mapper) {
+        return concatMap(mapper, Flowable.BUFFER_SIZE);
+    }
+
+    /** @param prefetch размер блока очереди, в которой элементы источника ждут своего inner-а */
+    public <R> Observable<R> concatMap(Function<? super T, ? extends Observable<R>> mapper, int prefetch) {
+        if (prefetch <= 0) throw new IllegalArgumentException("prefetch > 0 required but it was " + prefetch);
+        return new Observable<>(new ConcatMapOperator<>(this, mapper, prefetch));
+    }
+
+    public <R> Observable<R> concatMapEager(Function<? super T, ? extends Observable<R>> mapper) {
+        return concatMapEager(mapper, Integer.MAX_VALUE, Flowable.BUFFER_SIZE);
+    }
+
+    /**
+     * Inner-ы работают параллельно, а вниз их результаты уходят в порядке источника.
+     * @param maxConcurrency сколько inner-ов подписано и буферизовано одновременно
+     * @param prefetch       размер блока очереди каждого inner-а
+     */
+    public <R> Observable<R> concatMapEager(Function<? super T, ? extends Observable<R>> mapper,
+                                            int maxConcurrency, int prefetch) {
+        if (maxConcurrency <= 0) throw new IllegalArgumentException("maxConcurrency > 0 required but it was " + maxConcurrency);
+        if (prefetch <= 0)       throw new IllegalArgumentException("prefetch > 0 required but it was " + prefetch);
+        return new Observable<>(new ConcatMapEagerOperator<>(this, mapper, maxConcurrency, prefetch));
+    }
+
+    /* ----------  ограничение ---------- */
+
+    /** Первые {@code count} элементов; источник отменяется сразу на последнем из них. */
+    public Observable<T> take(long count) {
+        if (count < 0) throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        return new Observable<>(new TakeOperator<>(this, count));
+    }
+
+    /** Элементы, пока {@code predicate} выполняется; первый неподходящий завершает поток и отменяет источник. */
+    public Observable<T> takeWhile(Predicate<? super T> predicate) {
+        return new Observable<>(new TakeWhileOperator<>(this, predicate));
+    }
+
+    /** Первый элемент; пустой источник — {@link java.util.NoSuchElementException}. */
+    public Observable<T> first() { return new Observable<>(new ElementAtOperator<>(this, 0, null, true)); }
+
+    /** Первый элемент или {@code defaultItem}, если источник пуст. */
+    public Observable<T> first(T defaultItem) {
+        if (defaultItem == null) throw new NullPointerException("defaultItem");
+        return new Observable<>(new ElementAtOperator<>(this, 0, defaultItem, false));
+    }
+
+    /** Элемент с номером {@code index} (с нуля); если элементов меньше — пустое завершение. */
+    public Observable<T> elementAt(long index) {
+        if (index < 0) throw new IllegalArgumentException("index >= 0 required but it was " + index);
+        return new Observable<>(new ElementAtOperator<>(this, index, null, false));
+    }
+
+    public Observable<T> elementAt(long index, T defaultItem) {
+        if (index < 0) throw new IllegalArgumentException("index >= 0 required but it was " + index);
+        if (defaultItem == null) throw new NullPointerException("defaultItem");
+        return new Observable<>(new ElementAtOperator<>(this, index, defaultItem, false));
+    }
+
+    /** {@code true} на первом подходящем элементе (источник тут же отменяется), {@code false} — если такого не было. */
+    public Observable<Boolean> any(Predicate<? super T> predicate) {
+        return new Observable<>(new AnyOperator<>(this, predicate));
+    }
+
+    /* ----------  агрегация ---------- */
+
+    /** Сворачивает поток в одно значение; пустой источник завершается без элементов. */
+    public Observable<T> reduce(BiFunction<T, ? super T, T> reducer) {
+        return new Observable<>(new ReduceOperator<>(this, null, reducer));
+    }
+
+    /** @param seed начальное значение, создаётся на каждую подписку */
+    public <R> Observable<R> reduce(Supplier<R> seed, BiFunction<R, ? super T, R> reducer) {
+        if (seed == null) throw new NullPointerException("seed");
+        return new Observable<>(new ReduceOperator<>(this, seed, reducer));
+    }
+
+    /**
+     * Складывает элементы в изменяемый контейнер и отдаёт его по завершении.  <br/>
+     * {@code containerFactory} получает ожидаемое число элементов: размер источника, если он известен, иначе 16.
+     */
+    public <C> Observable<C> collect(IntFunction<? extends C> containerFactory, BiConsumer<? super C, ? super T> collector) {
+        return new Observable<>(new CollectOperator<>(this, containerFactory, 16, collector));
+    }
+
+    public Observable<List<T>> toList() { return toList(16); }
+
+    /** @param capacityHint начальная ёмкость списка, если источник не сообщил свой размер */
+    public Observable<List<T>> toList(int capacityHint) {
+        if (capacityHint <= 0) throw new IllegalArgumentException("capacityHint > 0 required but it was " + capacityHint);
+        return new Observable<>(new CollectOperator<T, List<T>>(this, ArrayList::new, capacityHint, List::add));
+    }
+
+    public Observable<Long> count() { return new Observable<>(new CountOperator<>(this)); }
+
+    /* ----------  блокирующие мосты ---------- */
+
+    /** Ждёт первый элемент и отменяет источник; пустой источник — {@link java.util.NoSuchElementException}. */
+    public T blockingFirst() {
+        BlockingFirstObserver<T> observer = new BlockingFirstObserver<>();
+        subscribe(observer);
+        return observer.await(null);
+    }
+
+    public T blockingFirst(T defaultItem) {
+        if (defaultItem == null) throw new NullPointerException("defaultItem");
+        BlockingFirstObserver<T> observer = new BlockingFirstObserver<>();
+        subscribe(observer);
+        return observer.await(defaultItem);
+    }
+
+    public Iterable<T> blockingIterable() { return blockingIterable(Flowable.BUFFER_SIZE); }
+
+    /**
+     * Каждый {@code iterator()} подписывается заново; между потоками элементы идут через SPSC-очередь
+     * блоками по {@code prefetch} элементов, синхронные источники читаются прямо на потоке потребителя.
+     * Производитель потребителя не ждёт; итератор — {@link AutoCloseable}: закрыв его, можно бросить
+     * итерацию раньше конца и отменить источник.
+     */
+    public Iterable<T> blockingIterable(int prefetch) {
+        if (prefetch <= 0) throw new IllegalArgumentException("prefetch > 0 required but it was " + prefetch);
+        return () -> new BlockingObservableIterator<>(this, prefetch);
+    }
+
+    /**
+     * Выполняет {@code onNext} для каждого элемента на вызывающем потоке и ждёт завершения.
+     * Ошибка потока или исключение из {@code onNext} (тогда источник отменяется) пробрасываются.
+     */
+    public void blockingForEach(Consumer<? super T> onNext) {
+        BlockingObservableIterator<T> it = new BlockingObservableIterator<>(this, Flowable.BUFFER_SIZE);
+        while (it.hasNext()) {
+            try {
+                onNext.accept(it.next());
+            } catch (Exception ex) {
+                it.dispose();
+                throw BlockingObservableIterator.propagate(ex);
+            }
+        }
+    }
+
+    /* ----------  пакетирование ---------- */
+
+    /** Списки по {@code count} элементов; последний может быть короче. */
+    public Observable<List<T>> buffer(int count) { return buffer(count, null); }
+
+    /** @param pool откуда брать списки, потребитель возвращает их туда сам; {@code null} — без пула */
+    public Observable<List<T>> buffer(int count, BufferPool<T> pool) {
+        if (count <= 0) throw new IllegalArgumentException("count > 0 required but it was " + count);
+        return new Observable<>(new BufferOperator<>(this, count, pool));
+    }
+
+    /** Буфер уходит по {@code count} элементам или через {@code timespan} после первого элемента — что раньше. */
+    public Observable<List<T>> buffer(long timespan, TimeUnit unit, int count) {
+        return buffer(timespan, unit, count, Scheduler.computation(), null);
+    }
+
+    public Observable<List<T>> buffer(long timespan, TimeUnit unit, int count, Scheduler scheduler) {
+        return buffer(timespan, unit, count, scheduler, null);
+    }
+
+    /**
+     * @param scheduler на Worker-е этого планировщика срабатывает таймер
+     * @param pool      откуда брать списки; {@code null} — без пула
+     */
+    public Observable<List<T>> buffer(long timespan, TimeUnit unit, int count, Scheduler scheduler, BufferPool<T> pool) {
+        if (timespan <= 0) throw new IllegalArgumentException("timespan > 0 required but it was " + timespan);
+        if (count <= 0)    throw new IllegalArgumentException("count > 0 required but it was " + count);
+        return new Observable<>(new BufferTimedOperator<>(this, timespan, unit, count, scheduler, pool));
+    }
+
+    /** Как {@link #buffer(int)}, но каждое окно — Observable, элементы отдаются по мере прихода. */
+    public Observable<Observable<T>> window(int count) {
+        if (count <= 0) throw new IllegalArgumentException("count > 0 required but it was " + count);
+        return new Observable<>(new WindowOperator<>(this, count, Flowable.BUFFER_SIZE));
+    }
+
+    /* ----------  прореживание ---------- */
+
+    /** Элемент уходит, только если за ним {@code timeout} не было новых; последний отдаётся при завершении. */
+    public Observable<T> debounce(long timeout, TimeUnit unit) { return debounce(timeout, unit, Scheduler.computation()); }
+
+    /** @param scheduler на Worker-е этого планировщика срабатывает таймер и идут элементы вниз */
+    public Observable<T> debounce(long timeout, TimeUnit unit, Scheduler scheduler) {
+        if (timeout <= 0) throw new IllegalArgumentException("timeout > 0 required but it was " + timeout);
+        return new Observable<>(new DebounceOperator<>(this, timeout, unit, scheduler));
+    }
+
+    /** Первый элемент каждого окна {@code window}, остальные отбрасываются. */
+    public Observable<T> throttleFirst(long window, TimeUnit unit) { return throttleFirst(window, unit, Scheduler.computation()); }
+
+    public Observable<T> throttleFirst(long window, TimeUnit unit, Scheduler scheduler) {
+        if (window <= 0) throw new IllegalArgumentException("window > 0 required but it was " + window);
+        return new Observable<>(new ThrottleFirstOperator<>(this, window, unit, scheduler));
+    }
+
+    /** Последний элемент каждого периода; пустой период ничего не эмитит. */
+    public Observable<T> sample(long period, TimeUnit unit) { return sample(period, unit, Scheduler.computation(), false); }
+
+    public Observable<T> sample(long period, TimeUnit unit, Scheduler scheduler) { return sample(period, unit, scheduler, false); }
+
+    /** @param emitLast отдать при завершении элемент, не дождавшийся конца периода */
+    public Observable<T> sample(long period, TimeUnit unit, Scheduler scheduler, boolean emitLast) {
+        if (period <= 0) throw new IllegalArgumentException("period > 0 required but it was " + period);
+        return new Observable<>(new SampleOperator<>(this, period, unit, scheduler, emitLast));
+    }
+
+    /** То же, что {@link #sample(long, TimeUnit)}. */
+    public Observable<T> throttleLast(long period, TimeUnit unit) { return sample(period, unit); }
+
+    public Observable<T> throttleLast(long period, TimeUnit unit, Scheduler scheduler) { return sample(period, unit, scheduler); }
+
+    /**
+     * Не больше {@code permitsPerSecond} элементов в секунду, пачкой — до {@code burst} подряд;
+     * лишние отбрасываются. Ведро токенов без блокировок и таймеров, своё у каждой подписки.
+     */
+    public Observable<T> rateLimit(double permitsPerSecond, int burst) {
+        if (!(permitsPerSecond > 0) || Double.isInfinite(permitsPerSecond)) {
+            throw new IllegalArgumentException("permitsPerSecond > 0 required but it was " + permitsPerSecond);
+        }
+        if (burst <= 0) throw new IllegalArgumentException("burst > 0 required but it was " + burst);
+        return new Observable<>(new RateLimitOperator<>(this, permitsPerSecond, burst));
+    }
+
+    /* ----------  параллельные рельсы ---------- */
+
+    /** По рельсе на ядро. */
+    public ParallelObservable<T> parallel() { return parallel(Runtime.getRuntime().availableProcessors()); }
+
+    /** Раскладывает поток на {@code parallelism} рельс, см. {@link ParallelObservable}. */
+    public ParallelObservable<T> parallel(int parallelism) { return ParallelObservable.from(this, parallelism); }
+
+    /* ----------  мультикаст ---------- */
+
+    /** Один проход по источнику на всех подписчиков; источник запускается через {@code connect()}. */
+    public ConnectableObservable<T> publish() { return new ConnectableObservable<>(this, PublishSubject::create); }
+
+    /** {@code publish().refCount()}: подключается с первым подписчиком, отключается с последним. */
+    public Observable<T> share() { return publish().refCount(); }
+
+    /** Как {@link #publish()}, но новые подписчики сначала получают последние {@code size} элементов. */
+    public ConnectableObservable<T> replay(int size) {
+        if (size <= 0) throw new IllegalArgumentException("size > 0 required but it was " + size);
+        return new ConnectableObservable<>(this, () -> ReplaySubject.createWithSize(size));
+    }
+
+    /** Проигрывает элементы не старше {@code time}. */
+    public ConnectableObservable<T> replay(long time, TimeUnit unit) { return replay(Integer.MAX_VALUE, time, unit); }
+
+    public ConnectableObservable<T> replay(int size, long time, TimeUnit unit) {
+        if (size <= 0) throw new IllegalArgumentException("size > 0 required but it was " + size);
+        if (time <= 0) throw new IllegalArgumentException("time > 0 required but it was " + time);
+        return new ConnectableObservable<>(this, () -> ReplaySubject.createWithTimeAndSize(time, unit, size));
+    }
+
+    /**
+     * Подписывается на источник один раз — с первым подписчиком — и проигрывает всё полученное
+     * остальным, в том числе после завершения. Хранит все элементы; источник не отменяется.
+     */
+    public Observable<T> cache() {
+        ReplaySubject<T> subject = ReplaySubject.create();
+        AtomicBoolean connected = new AtomicBoolean();
+        return new Observable<>(observer -> {
+            subject.subscribe(observer);
+            if (connected.compareAndSet(false, true)) subscribe(subject);
+        });
+    }
+
+    /* ----------  примитивные потоки ---------- */
+
+    public IntObservable mapToInt(ToIntFunction<? super T> mapper) {
+        return IntObservable.create(observer -> Observable.this.subscribe(new Observer<T>() {
+            @Override public void onSubscribe(Disposable d) { observer.onSubscribe(d); }
+            @Override public void onNext(T item) {
+                try { observer.onNext(mapper.applyAsInt(item)); }
+                catch (Exception ex) { observer.onError(ex); }
+            }
+            @Override public void onError(Throwable t) { observer.onError(t); }
+            @Override public void onComplete()         { observer.onComplete(); }
+        }));
+    }
+
+    public LongObservable mapToLong(ToLongFunction<? super T> mapper) {
+        return LongObservable.create(observer -> Observable.this.subscribe(new Observer<T>() {
+            @Override public void onSubscribe(Disposable d) { observer.onSubscribe(d); }
+            @Override public void onNext(T item) {
+                try { observer.onNext(mapper.applyAsLong(item)); }
+                catch (Exception ex) { observer.onError(ex); }
+            }
+            @Override public void onError(Throwable t) { observer.onError(t); }
+            @Override public void onComplete()         { observer.onComplete(); }
+        }));
+    }
+
+    public DoubleObservable mapToDouble(ToDoubleFunction<? super T> mapper) {
+        return DoubleObservable.create(observer -> Observable.this.subscribe(new Observer<T>() {
+            @Override public void onSubscribe(Disposable d) { observer.onSubscribe(d); }
+            @Override public void onNext(T item) {
+                try { observer.onNext(mapper.applyAsDouble(item)); }
+                catch (Exception ex) { observer.onError(ex); }
+            }
+            @Override public void onError(Throwable t) { observer.onError(t); }
+            @Override public void onComplete()         { observer.onComplete(); }
+        }));
     }
 
     /* ----------  смена потоков ---------- */
 
     public Observable<T> subscribeOn(Scheduler scheduler) {
-        return new Observable<>(observer -> scheduler.execute(() -> Observable.this.subscribe(observer)));
+        return new Observable<>(observer -> {
+            try {
+                scheduler.execute(() -> Observable.this.subscribe(observer));
+            } catch (RejectedExecutionException ex) {
+                observer.onSubscribe(new BooleanDisposable());
+                observer.onError(ex);
+            }
+        });
     }
 
     public Observable<T> observeOn(Scheduler scheduler) {
-        return new Observable<>(observer ->
-                Observable.this.subscribe(new Observer<T>() {
+        return new Observable<>(new ObserveOnOperator<>(this, scheduler, Flowable.BUFFER_SIZE));
+    }
 
-                    @Override public void onSubscribe(Disposable d) { observer.onSubscribe(d); }
+    /* ----------  конвертация ---------- */
 
-                    @Override public void onNext(T item)   { scheduler.execute(() -> observer.onNext(item)); }
-                    @Override public void onError(Throwable t) { scheduler.execute(() -> observer.onError(t)); }
-                    @Override public void onComplete()     { scheduler.execute(observer::onComplete); }
-                }));
+    /** Добавляет back-pressure: всё, что выдано сверх запроса подписчика, обрабатывается по {@code strategy}. */
+    public Flowable<T> toFlowable(BackpressureStrategy strategy) {
+        return Flowable.create(emitter -> Observable.this.subscribe(new Observer<T>() {
+            @Override public void onSubscribe(Disposable d) { emitter.setDisposable(d); }
+            @Override public void onNext(T item)       { emitter.onNext(item); }
+            @Override public void onError(Throwable t) { emitter.onError(t); }
+            @Override public void onComplete()         { emitter.onComplete(); }
+        }), strategy);
     }
 
     /* ----------  Safe-Observer  ---------- */
@@ -87,15 +550,16 @@ public final class Observable<T> {
 
         private final Observer<? super T> actual;
         private final AtomicBoolean disposed = new AtomicBoolean(false);
-        private Disposable upstream;
+        private volatile Disposable upstream;
 
         SafeObserver(Observer<? super T> actual) { this.actual = actual; }
 
+        /** Потребитель уже получил этот SafeObserver; здесь только запоминаем ресурс источника. */
         @Override public void onSubscribe(Disposable d) {
             if (upstream != null) { d.dispose(); }              // двойная подписка
             else {
                 upstream = d;
-                actual.onSubscribe(this);
+                if (disposed.get()) d.dispose();                // отписались раньше, чем источник прислал ресурс
             }
         }
 
@@ -118,7 +582,10 @@ public final class Observable<T> {
         }
 
         @Override public void dispose() {
-            if (disposed.compareAndSet(false, true) && upstream != null) upstream.dispose();
+            if (disposed.compareAndSet(false, true)) {
+                Disposable d = upstream;
+                if (d != null) d.dispose();
+            }
         }
 
         @Override public boolean isDisposed() { return disposed.get(); }
@@ -0,0 +1,101 @@
+package com.myrxjava.core;
+
+import com.myrxjava.functions.Function;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Кэш Observable-ов по ключу: {@link #get} отдаёт {@link Observable#cache()} результата загрузчика.  <br/>
+ * Все подписчики одного ключа — и пришедшие, пока загрузка идёт, и поздние — делят одну
+ * подписку на источник. Запись живёт {@code ttl} с момента создания; сверх {@code maximumSize}
+ * вытесняются давно не запрошенные (LRU). Завершившаяся ошибкой загрузка не кэшируется:
+ * следующий подписчик запустит её заново.
+ */
+public final class ObservableCache<K, T> {
+
+    private final Function<? super K, ? extends Observable<T>> loader;
+    private final long ttlNanos;
+    private final Map<K, Entry<T>> entries;                 // guarded by this
+
+    /**
+     * @param ttl         {@code 0} — записи не устаревают
+     * @param maximumSize сколько ключей хранится одновременно
+     */
+    public ObservableCache(Function<? super K, ? extends Observable<T>> loader,
+                           long ttl, TimeUnit unit, int maximumSize) {
+        if (ttl < 0)          throw new IllegalArgumentException("ttl >= 0 required but it was " + ttl);
+        if (maximumSize <= 0) throw new IllegalArgumentException("maximumSize > 0 required but it was " + maximumSize);
+        this.loader   = loader;
+        this.ttlNanos = ttl == 0 ? Long.MAX_VALUE : unit.toNanos(ttl);
+        this.entries  = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override protected boolean removeEldestEntry(Map.Entry<K, Entry<T>> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /** Ленивый: запись ищется (и загрузка запускается) в момент подписки. */
+    public Observable<T> get(K key) {
+        return Observable.create(observer -> entry(key).value.subscribe(observer));
+    }
+
+    public void invalidate(K key) {
+        synchronized (this) { entries.remove(key); }
+    }
+
+    public void invalidateAll() {
+        synchronized (this) { entries.clear(); }
+    }
+
+    public int size() {
+        synchronized (this) { return entries.size(); }
+    }
+
+    /* ----------  записи  ---------- */
+
+    private Entry<T> entry(K key) {
+        long now = System.nanoTime();
+        synchronized (this) {
+            Entry<T> e = entries.get(key);
+            if (e == null || now - e.created >= ttlNanos) {
+                e = new Entry<>(now);
+                e.value = load(key, e);                     // загрузчик вызовется при первой подписке
+                entries.put(key, e);
+            }
+            return e;
+        }
+    }
+
+    private Observable<T> load(K key, Entry<T> entry) {
+        return Observable.<T>create(observer -> {
+            Observable<T> source;
+            try {
+                source = loader.apply(key);
+            } catch (Throwable ex) {
+                remove(key, entry);
+                observer.onSubscribe(new BooleanDisposable());
+                observer.onError(ex);
+                return;
+            }
+            source.subscribe(new Observer<T>() {
+                @Override public void onSubscribe(Disposable d) { observer.onSubscribe(d); }
+                @Override public void onNext(T item)            { observer.onNext(item); }
+                @Override public void onError(Throwable t)      { remove(key, entry); observer.onError(t); }
+                @Override public void onComplete()              { observer.onComplete(); }
+            });
+        }).cache();
+    }
+
+    private void remove(K key, Entry<T> entry) {
+        synchronized (this) { entries.remove(key, entry); }
+    }
+
+    private static final class Entry<T> {
+        final long created;
+        Observable<T> value;                                // задаётся под блокировкой кэша
+
+        Entry(long created) { this.created = created; }
+    }
+}
@@ -0,0 +1,26 @@
+package com.myrxjava.core;
+
+import com.myrxjava.functions.Cancellable;
+
+/**
+ * Эмиттер для {@link Observable#fromEmitter}: источник видит отписку и освобождает свои ресурсы.  <br/>
+ * Методы onNext/onError/onComplete нельзя вызывать из нескольких потоков одновременно —
+ * для этого есть {@link #serialize()}.
+ */
+public interface ObservableEmitter<T> {
+    void onNext(T item);
+    void onError(Throwable t);
+    void onComplete();
+
+    /** Потребитель отписался или поток уже завершён — дальше эмитить незачем. */
+    boolean isDisposed();
+
+    /** Ресурс источника, который освобождается при отписке или завершении; прежний освобождается сразу. */
+    void setDisposable(Disposable d);
+
+    /** Как {@link #setDisposable}, но с действием вместо Disposable. */
+    void setCancellable(Cancellable c);
+
+    /** Эмиттер, который можно вызывать из нескольких потоков: события встают в очередь и выдаются по одному. */
+    ObservableEmitter<T> serialize();
+}
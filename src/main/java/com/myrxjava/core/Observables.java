@@ -0,0 +1,38 @@
+package com.myrxjava.core;
+
+import com.myrxjava.core.operators.FileSinkOperator;
+import com.myrxjava.core.operators.FileSource;
+import com.myrxjava.core.operators.LineSplitOperator;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/** Источники и sink-и для файлов на NIO: без копирования байт через char-декодер и String. */
+public final class Observables {
+
+    private Observables() { }
+
+    /**
+     * Файл блоками по {@code chunkSize} байт — срезами отображённого в память файла, без копирования.  <br/>
+     * Читается на {@link Scheduler#io()}; канал закрывается по завершении или dispose.
+     */
+    public static Observable<ByteBuffer> fromFile(Path path, int chunkSize) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize > 0 required but it was " + chunkSize);
+        return Observable.create(new FileSource(path, chunkSize)).subscribeOn(Scheduler.io());
+    }
+
+    /** Строки из потока блоков, см. {@link LineSplitOperator}. */
+    public static Observable<ByteBuffer> lines(Observable<ByteBuffer> chunks) {
+        return Observable.create(new LineSplitOperator(chunks));
+    }
+
+    /**
+     * Пишет блоки в {@code path} (создаёт или перезаписывает) gathering-вызовами на {@link Scheduler#io()}.  <br/>
+     * Отдаёт одно значение — число записанных байт — и завершается.
+     */
+    public static Observable<Long> toFile(Observable<ByteBuffer> chunks, Path path) {
+        return Observable.create(new FileSinkOperator(chunks, path, Scheduler.io(),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+    }
+}
@@ -6,4 +6,13 @@ public interface Observer<T> {
     void onNext(T item);
     void onError(Throwable t);
     void onComplete();
+
+    /**
+     * Отписался ли потребитель.  <br/>
+     * Источник из {@code Observable.create} получает наблюдателя, который отвечает на это честно,
+     * и может проверять флаг в цикле эмиссии, чтобы не генерировать ненужное; по умолчанию {@code false}.  <br/>
+     * Наблюдатель-обёртка (хук, декоратор) обязан делегировать вызов обёрнутому — иначе флаг
+     * теряется на ней, и источник create эмитит до конца.
+     */
+    default boolean isDisposed() { return false; }
 }
\ No newline at end of file
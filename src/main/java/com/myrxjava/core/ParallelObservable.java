@@ -0,0 +1,96 @@
+package com.myrxjava.core;
+
+import com.myrxjava.core.operators.ParallelOperator;
+import com.myrxjava.functions.BiFunction;
+import com.myrxjava.functions.Function;
+import com.myrxjava.functions.Predicate;
+import com.myrxjava.functions.Supplier;
+
+import java.util.Arrays;
+
+/**
+ * Поток, разложенный на {@code parallelism} «рельс».  <br/>
+ * Источник раздаёт элементы по рельсам round-robin; каждая рельса выполняет map/filter/reduce
+ * на своём Worker-е планировщика ({@link #runOn}, по умолчанию computation) и читает
+ * из своей очереди; поток источника рельсы не ждёт, так что оба могут жить на одном планировщике.
+ * Стадии копятся, как в {@link Observable#map}, и выполняются одним циклом на элемент;
+ * собирается всё обратно через {@link #sequential()} или {@link #sequentialOrdered()}.
+ */
+public final class ParallelObservable<T> {
+
+    private final Observable<?> source;
+    private final int parallelism;
+    private final Scheduler scheduler;
+    private final int prefetch;
+    private final Object[] stages;          // Function, Predicate или ParallelOperator.Reduce
+    private final byte[] kinds;
+
+    private ParallelObservable(Observable<?> source, int parallelism, Scheduler scheduler, int prefetch,
+                               Object[] stages, byte[] kinds) {
+        this.source      = source;
+        this.parallelism = parallelism;
+        this.scheduler   = scheduler;
+        this.prefetch    = prefetch;
+        this.stages      = stages;
+        this.kinds       = kinds;
+    }
+
+    static <T> ParallelObservable<T> from(Observable<T> source, int parallelism) {
+        if (parallelism <= 0) throw new IllegalArgumentException("parallelism > 0 required but it was " + parallelism);
+        return new ParallelObservable<>(source, parallelism, Scheduler.computation(), Flowable.BUFFER_SIZE,
+                                        new Object[0], new byte[0]);
+    }
+
+    public int parallelism() { return parallelism; }
+
+    /* ----------  планировщик ---------- */
+
+    public ParallelObservable<T> runOn(Scheduler scheduler) { return runOn(scheduler, Flowable.BUFFER_SIZE); }
+
+    /** @param prefetch размер блока входной очереди рельсы; без порядка — и порог, после которого источник выбирает другую рельсу */
+    public ParallelObservable<T> runOn(Scheduler scheduler, int prefetch) {
+        if (prefetch <= 0) throw new IllegalArgumentException("prefetch > 0 required but it was " + prefetch);
+        return new ParallelObservable<>(source, parallelism, scheduler, prefetch, stages, kinds);
+    }
+
+    /* ----------  операторы на рельсах ---------- */
+
+    public <R> ParallelObservable<R> map(Function<? super T, ? extends R> mapper) {
+        return then(mapper, ParallelOperator.MAP);
+    }
+
+    public ParallelObservable<T> filter(Predicate<? super T> p) {
+        return then(p, ParallelOperator.FILTER);
+    }
+
+    /**
+     * Сворачивает каждую рельсу в одно значение, начиная с {@code seed.get()}.  <br/>
+     * Результаты рельс появляются, когда источник завершился; дальнейшие map/filter применяются к ним.
+     */
+    public <R> ParallelObservable<R> reduce(Supplier<R> seed, BiFunction<R, ? super T, R> reducer) {
+        return then(new ParallelOperator.Reduce(seed, reducer), ParallelOperator.REDUCE);
+    }
+
+    /* ----------  сборка ---------- */
+
+    /** Результаты рельс в порядке готовности. */
+    public Observable<T> sequential() { return merge(false); }
+
+    /**
+     * Результаты в порядке элементов источника; результаты {@link #reduce} — после них, по номеру рельсы.  <br/>
+     * Медленный элемент задерживает выдачу следующих за ним.
+     */
+    public Observable<T> sequentialOrdered() { return merge(true); }
+
+    private Observable<T> merge(boolean ordered) {
+        return Observable.create(new ParallelOperator<>(source, parallelism, scheduler, prefetch, stages, kinds, ordered));
+    }
+
+    private <R> ParallelObservable<R> then(Object stage, byte kind) {
+        Object[] s = Arrays.copyOf(stages, stages.length + 1);
+        byte[] k = Arrays.copyOf(kinds, kinds.length + 1);
+        s[stages.length] = stage;
+        k[kinds.length]  = kind;
+        return new ParallelObservable<>(source, parallelism, scheduler, prefetch, s, k);
+    }
+}
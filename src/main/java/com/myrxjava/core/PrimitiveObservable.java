@@ -0,0 +1,127 @@
+package com.myrxjava.core;
+
+import com.myrxjava.functions.Action;
+import com.myrxjava.functions.Consumer;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Общая часть {@link IntObservable}, {@link LongObservable} и {@link DoubleObservable}.  <br/>
+ * Подписка, терминальные события, отмена источника при ошибке функции и Safe-Observer от типа
+ * значения не зависят и живут здесь; наследникам остаются источники и onNext своего примитива.
+ */
+abstract class PrimitiveObservable<O extends PrimitiveObserver> {
+
+    abstract void subscribeActual(O observer);
+
+    public final void subscribe(O observer) {
+        try {
+            subscribeActual(observer);
+        } catch (Throwable ex) {
+            observer.onError(ex);
+        }
+    }
+
+    /* ----------  стадия оператора  ---------- */
+
+    /** Общая часть операторов: пробрасывает события и при ошибке функции отменяет источник. */
+    abstract static class Stage<O extends PrimitiveObserver> {
+        final O observer;
+        Disposable upstream;
+        boolean done;
+
+        Stage(O observer) { this.observer = observer; }
+
+        public void onSubscribe(Disposable d) { upstream = d; observer.onSubscribe(d); }
+        public void onError(Throwable t) { if (!done) { done = true; observer.onError(t); } }
+        public void onComplete()         { if (!done) { done = true; observer.onComplete(); } }
+
+        final void fail(Throwable ex) {
+            done = true;
+            if (upstream != null) upstream.dispose();
+            observer.onError(ex);
+        }
+    }
+
+    /** То же для операторов, выдающих объектный {@link Observable}: mapToObj и window. */
+    abstract static class ObjectStage<R> {
+        final Observer<? super R> observer;
+        Disposable upstream;
+        boolean done;
+
+        ObjectStage(Observer<? super R> observer) { this.observer = observer; }
+
+        public void onSubscribe(Disposable d) { upstream = d; observer.onSubscribe(d); }
+        public void onError(Throwable t) { if (!done) { done = true; observer.onError(t); } }
+        public void onComplete()         { if (!done) { done = true; observer.onComplete(); } }
+
+        final void fail(Throwable ex) {
+            done = true;
+            if (upstream != null) upstream.dispose();
+            observer.onError(ex);
+        }
+    }
+
+    /* ----------  подписка лямбдами  ---------- */
+
+    abstract static class LambdaObserver {
+        private final Consumer<? super Throwable> onError;
+        private final Action onComplete;
+        Disposable upstream;
+        boolean done;
+
+        LambdaObserver(Consumer<? super Throwable> onError, Action onComplete) {
+            this.onError    = onError;
+            this.onComplete = onComplete;
+        }
+
+        public void onSubscribe(Disposable d) { upstream = d; }
+        public void onError(Throwable t) { if (done) return; done = true; try { onError.accept(t); } catch (Exception ignore) { } }
+        public void onComplete()         { if (done) return; done = true; try { onComplete.run();  } catch (Exception ignore) { } }
+
+        /** Исключение из onNext-лямбды: источник отменяется, ошибка уходит в onError-лямбду. */
+        final void fail(Exception e) {
+            if (upstream != null) upstream.dispose();
+            onError(e);
+        }
+    }
+
+    /* ----------  Safe-Observer  ---------- */
+
+    abstract static class SafeObserver<O extends PrimitiveObserver> implements Disposable {
+
+        final O actual;
+        private final AtomicBoolean disposed = new AtomicBoolean(false);
+        private Disposable upstream;
+
+        SafeObserver(O actual) { this.actual = actual; }
+
+        public void onSubscribe(Disposable d) {
+            if (upstream != null) { d.dispose(); }
+            else {
+                upstream = d;
+                actual.onSubscribe(this);
+            }
+        }
+
+        public void onError(Throwable t) {
+            if (disposed.compareAndSet(false, true)) {
+                actual.onError(t);
+                if (upstream != null) upstream.dispose();
+            }
+        }
+
+        public void onComplete() {
+            if (disposed.compareAndSet(false, true)) {
+                actual.onComplete();
+                if (upstream != null) upstream.dispose();
+            }
+        }
+
+        @Override public void dispose() {
+            if (disposed.compareAndSet(false, true) && upstream != null) upstream.dispose();
+        }
+
+        @Override public boolean isDisposed() { return disposed.get(); }
+    }
+}
@@ -0,0 +1,8 @@
+package com.myrxjava.core;
+
+/** Общая часть {@link IntObserver}, {@link LongObserver} и {@link DoubleObserver}: всё, кроме onNext. */
+public interface PrimitiveObserver {
+    void onSubscribe(Disposable d);
+    void onError(Throwable t);
+    void onComplete();
+}
@@ -0,0 +1,32 @@
+package com.myrxjava.core;
+
+import com.myrxjava.core.queue.SimpleQueue;
+
+/**
+ * Протокол micro-fusion.  <br/>
+ * Источник передаёт в {@code onSubscribe} не простой Disposable, а себя-очередь.
+ * Если потребитель договорился о режиме {@link #SYNC}, источник ничего не эмитит сам:
+ * потребитель забирает элементы через {@link #poll()}, а {@code null} означает конец потока.
+ * Так observeOn читает {@code fromArray}/{@code range} напрямую, без собственной очереди.
+ */
+public interface QueueDisposable<T> extends SimpleQueue<T>, Disposable {
+
+    /** Слияние не состоялось — обычные onNext/onComplete. */
+    int NONE = 0;
+    /** Все элементы уже есть: poll() либо отдаёт элемент, либо {@code null} = onComplete. */
+    int SYNC = 1;
+    /** Флаг: потребитель вызовет poll() на другом потоке, чем был подписан. */
+    int BOUNDARY = 4;
+
+    /**
+     * @param mode желаемый режим, возможно с флагом {@link #BOUNDARY}
+     * @return согласованный режим: {@link #SYNC} или {@link #NONE}
+     */
+    int requestFusion(int mode);
+
+    /**
+     * Сколько элементов ещё отдаст источник; {@code -1} — неизвестно.  <br/>
+     * Потребитель может заранее подобрать размер буфера: для конечного синхронного источника это точное число.
+     */
+    default long sizeHint() { return -1; }
+}
@@ -1,21 +1,86 @@
 package com.myrxjava.core;
 
 import com.myrxjava.core.schedulers.*;
+import com.myrxjava.functions.Consumer;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Простейший планировщик.  <br/>
- * Singleton-экземпляры доступны через {@code Scheduler.io()}, {@code Scheduler.computation()}, {@code Scheduler.single()}.
+ * Общие экземпляры доступны через {@code Scheduler.io()}, {@code Scheduler.computation()},
+ * {@code Scheduler.single()}, {@code Scheduler.virtual()}; создаёт и останавливает их {@link Schedulers}.
  */
 public interface Scheduler {
 
     void execute(Runnable task);
 
-    /* ---------- ready-to-use schedulers ----------- */
-    IOThreadScheduler IO          = new IOThreadScheduler();
-    ComputationScheduler COMPUTE  = new ComputationScheduler();
-    SingleThreadScheduler SINGLE  = new SingleThreadScheduler();
+    /**
+     * Выполнит {@code task} через {@code delay}.  <br/>
+     * Отсчёт ведёт общее {@link TimerWheel}, по срабатыванию задача уходит в {@link #execute}.
+     */
+    default Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+        return TimerWheel.shared().schedule(() -> execute(task), delay, unit);
+    }
+
+    /** Повторяет {@code task} каждые {@code period}; прогоны не перекрываются. */
+    default Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        return TimerWheel.shared().schedulePeriodically(this::execute, task, initialDelay, period, unit);
+    }
+
+    /**
+     * Последовательный исполнитель: задачи одного Worker-а выполняются по порядку и не параллельно.  <br/>
+     * Операторы берут Worker на подписку, чтобы все её события шли через один поток/цикл.
+     */
+    interface Worker extends Disposable {
+        /** После {@code dispose()} новые задачи игнорируются, ещё не начатые — пропускаются. */
+        void execute(Runnable task);
+
+        /** Как {@link Scheduler#schedule}, но задача выполнится на этом Worker-е. */
+        default Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+            return TimerWheel.shared().schedule(() -> execute(task), delay, unit);
+        }
+
+        default Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+            return TimerWheel.shared().schedulePeriodically(this::execute, task, initialDelay, period, unit);
+        }
 
-    static Scheduler io()         { return IO;      }
-    static Scheduler computation(){ return COMPUTE; }
-    static Scheduler single()     { return SINGLE;  }
+        /**
+         * Как {@link #schedule(Runnable, long, TimeUnit)}, но если при срабатывании Worker отклонит задачу
+         * ({@link RejectedExecutionException}), отказ уходит в {@code onRejected}, а не в uncaught handler тикера:
+         * операторы превращают его в onError.
+         */
+        default Disposable schedule(Runnable task, long delay, TimeUnit unit, Consumer<? super Throwable> onRejected) {
+            return TimerWheel.shared().schedule(() -> executeOrReject(task, onRejected), delay, unit);
+        }
+
+        /** Периодический вариант; после отказа повторы прекращаются. */
+        default Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit,
+                                                Consumer<? super Throwable> onRejected) {
+            return TimerWheel.shared().schedulePeriodically(r -> executeOrReject(r, onRejected),
+                                                            task, initialDelay, period, unit);
+        }
+
+        private void executeOrReject(Runnable task, Consumer<? super Throwable> onRejected) {
+            try {
+                execute(task);
+            } catch (RejectedExecutionException ex) {
+                try {
+                    onRejected.accept(ex);
+                } catch (Exception inner) {
+                    Thread t = Thread.currentThread();
+                    t.getUncaughtExceptionHandler().uncaughtException(t, inner);
+                }
+            }
+        }
+    }
+
+    /** По умолчанию — {@link SerialWorker} поверх {@link #execute}. */
+    default Worker createWorker() { return new SerialWorker(this); }
+
+    /* ---------- ready-to-use schedulers ----------- */
+    static Scheduler io()         { return Schedulers.io(); }
+    static Scheduler computation(){ return Schedulers.computation(); }
+    static Scheduler single()     { return Schedulers.single(); }
+    static Scheduler virtual()    { return Schedulers.virtual(); }
 }
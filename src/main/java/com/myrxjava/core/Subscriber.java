@@ -0,0 +1,9 @@
+package com.myrxjava.core;
+
+/** Наблюдатель с back-pressure: получает не больше элементов, чем запросил через {@link Subscription}. */
+public interface Subscriber<T> {
+    void onSubscribe(Subscription s);
+    void onNext(T item);
+    void onError(Throwable t);
+    void onComplete();
+}
@@ -0,0 +1,11 @@
+package com.myrxjava.core;
+
+/** Канал обратной связи Subscriber → источник: запрос элементов и отмена. */
+public interface Subscription {
+    /**
+     * Разрешает источнику отдать ещё {@code n} элементов.  <br/>
+     * {@code n <= 0} нарушает §3.9: источник отменяется и завершает поток {@link IllegalArgumentException}.
+     */
+    void request(long n);
+    void cancel();
+}
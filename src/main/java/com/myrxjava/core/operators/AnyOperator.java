@@ -0,0 +1,71 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+import com.myrxjava.functions.Predicate;
+
+/** Реализация any: {@code true} на первом подходящем элементе (источник тут же отменяется), иначе {@code false}. */
+public final class AnyOperator<T> implements Observable.ObservableOnSubscribe<Boolean> {
+
+    private final Observable<T> source;
+    private final Predicate<? super T> predicate;
+
+    public AnyOperator(Observable<T> src, Predicate<? super T> predicate) {
+        this.source    = src;
+        this.predicate = predicate;
+    }
+
+    @Override public void subscribe(Observer<? super Boolean> observer) {
+        source.subscribe(new AnyObserver<>(observer, predicate));
+    }
+
+    static final class AnyObserver<T> implements Observer<T>, Disposable {
+
+        private final Observer<? super Boolean> downstream;
+        private final Predicate<? super T> predicate;
+        private Disposable upstream;
+        private boolean done;
+
+        AnyObserver(Observer<? super Boolean> downstream, Predicate<? super T> predicate) {
+            this.downstream = downstream;
+            this.predicate  = predicate;
+        }
+
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override public void onNext(T item) {
+            if (done) return;
+            boolean match;
+            try { match = predicate.test(item); }
+            catch (Exception ex) {
+                done = true;
+                upstream.dispose();
+                downstream.onError(ex);
+                return;
+            }
+            if (!match) return;
+            done = true;
+            upstream.dispose();
+            downstream.onNext(Boolean.TRUE);
+            downstream.onComplete();
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            downstream.onNext(Boolean.FALSE);
+            downstream.onComplete();
+        }
+
+        @Override public void dispose()       { upstream.dispose(); }
+        @Override public boolean isDisposed() { return upstream.isDisposed(); }
+    }
+}
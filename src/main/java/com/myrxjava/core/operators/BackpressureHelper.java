@@ -0,0 +1,44 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.Subscription;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Арифметика запросов с насыщением на {@code Long.MAX_VALUE} («без ограничений»). */
+public final class BackpressureHelper {
+
+    /** Заглушка для уже отменённой подписки. */
+    public static final Subscription CANCELLED = new Subscription() {
+        @Override public void request(long n) { }
+        @Override public void cancel()        { }
+    };
+
+    private BackpressureHelper() { }
+
+    /** Ошибка для запроса {@code n <= 0} (§3.9): подписка отменяется и отдаёт её вниз через onError. */
+    public static IllegalArgumentException badRequest(long n) {
+        return new IllegalArgumentException("§3.9 violated: n > 0 required but it was " + n);
+    }
+
+    /** Добавляет {@code n} к запросу; возвращает предыдущее значение. */
+    public static long add(AtomicLong requested, long n) {
+        for (;;) {
+            long r = requested.get();
+            if (r == Long.MAX_VALUE) return Long.MAX_VALUE;
+            long u = r + n;
+            if (u < 0L) u = Long.MAX_VALUE;
+            if (requested.compareAndSet(r, u)) return r;
+        }
+    }
+
+    /** Списывает {@code n} отданных элементов; неограниченный запрос не трогает. */
+    public static long produced(AtomicLong requested, long n) {
+        for (;;) {
+            long r = requested.get();
+            if (r == Long.MAX_VALUE) return Long.MAX_VALUE;
+            long u = r - n;
+            if (u < 0L) u = 0L;
+            if (requested.compareAndSet(r, u)) return u;
+        }
+    }
+}
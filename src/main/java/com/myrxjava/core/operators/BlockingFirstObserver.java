@@ -0,0 +1,58 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+
+/** Реализация blockingFirst: ждёт первый элемент и сразу отменяет источник. */
+public final class BlockingFirstObserver<T> implements Observer<T> {
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private volatile Disposable upstream;
+    private T value;                                    // публикуются через latch
+    private Throwable error;
+    private boolean done;
+
+    @Override public void onSubscribe(Disposable d) { upstream = d; }
+
+    @Override public void onNext(T item) {
+        if (done) return;
+        done = true;
+        value = item;
+        Disposable d = upstream;
+        if (d != null) d.dispose();
+        latch.countDown();
+    }
+
+    @Override public void onError(Throwable t) {
+        if (done) return;
+        done = true;
+        error = t;
+        latch.countDown();
+    }
+
+    @Override public void onComplete() {
+        if (done) return;
+        done = true;
+        latch.countDown();
+    }
+
+    /** @param defaultItem {@code null} — пустой источник даёт {@link NoSuchElementException} */
+    public T await(T defaultItem) {
+        if (latch.getCount() != 0) {
+            try {
+                latch.await();
+            } catch (InterruptedException ex) {
+                Disposable d = upstream;
+                if (d != null) d.dispose();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the first item", ex);
+            }
+        }
+        if (error != null) throw BlockingObservableIterator.propagate(error);
+        if (value != null) return value;
+        if (defaultItem != null) return defaultItem;
+        throw new NoSuchElementException("Source is empty");
+    }
+}
@@ -0,0 +1,146 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+import com.myrxjava.core.queue.SimpleQueue;
+import com.myrxjava.core.queue.SpscLinkedArrayQueue;
+
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Итератор для blockingIterable: подписывается при создании и отдаёт элементы потребителю-потоку.  <br/>
+ * Синхронный источник с SYNC-fusion читается прямо из hasNext(), без очереди и переключения потоков.
+ * Иначе между потоками — неограниченная SPSC-очередь блоками по {@code prefetch}: производитель
+ * никогда не ждёт потребителя, поэтому ни поток планировщика, ни источник, эмитящий прямо внутри
+ * подписки, не может застрять на брошенном итераторе. Прекращая чтение до конца, итератор нужно
+ * закрыть ({@link #close()}, try-with-resources) — иначе источник дочитывается в очередь.
+ */
+public final class BlockingObservableIterator<T> implements Iterator<T>, AutoCloseable, Observer<T>, Disposable {
+
+    private final SimpleQueue<T> queue;
+    private volatile Thread consumer;                           // кого будить; итератор могут передать другому потоку
+
+    private QueueDisposable<T> fused;                           // SYNC: источник сам очередь
+    private volatile Disposable upstream;
+    private volatile boolean consumerWaiting;
+    private volatile boolean done;
+    private volatile boolean disposed;
+    private Throwable error;                                    // публикуется через volatile done
+    private T next;
+
+    public BlockingObservableIterator(Observable<T> source, int prefetch) {
+        this.queue = new SpscLinkedArrayQueue<>(prefetch);
+        source.subscribe(this);
+    }
+
+    /* ----------  сторона производителя  ---------- */
+
+    @SuppressWarnings("unchecked")
+    @Override public void onSubscribe(Disposable d) {
+        upstream = d;
+        if (disposed) { d.dispose(); return; }
+        if (d instanceof QueueDisposable) {
+            QueueDisposable<T> qd = (QueueDisposable<T>) d;
+            if (qd.requestFusion(QueueDisposable.SYNC) == QueueDisposable.SYNC) fused = qd;
+        }
+    }
+
+    @Override public void onNext(T item) {
+        if (done || disposed) return;
+        queue.offer(item);
+        signalConsumer();
+    }
+
+    @Override public void onError(Throwable t) {
+        if (done) return;
+        error = t;
+        done = true;
+        signalConsumer();
+    }
+
+    @Override public void onComplete() {
+        if (done) return;
+        done = true;
+        signalConsumer();
+    }
+
+    private void signalConsumer() {
+        VarHandle.fullFence();
+        if (consumerWaiting) LockSupport.unpark(consumer);     // consumer записан до consumerWaiting
+    }
+
+    /* ----------  сторона потребителя  ---------- */
+
+    @Override public boolean hasNext() {
+        if (next != null) return true;
+        if (fused != null) return pollFused();
+        for (;;) {
+            if (disposed) return false;
+            boolean d = done;
+            T v = queue.poll();
+            if (v != null) {
+                next = v;
+                return true;
+            }
+            if (d) {
+                Throwable e = error;
+                if (e != null) throw propagate(e);
+                return false;
+            }
+            consumer = Thread.currentThread();
+            consumerWaiting = true;
+            VarHandle.fullFence();
+            if (!done && queue.isEmpty()) LockSupport.park(this);
+            consumerWaiting = false;
+            if (Thread.interrupted()) {
+                dispose();
+                throw new IllegalStateException("Interrupted while waiting for the next item", new InterruptedException());
+            }
+        }
+    }
+
+    @Override public T next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        T v = next;
+        next = null;
+        return v;
+    }
+
+    private boolean pollFused() {
+        if (disposed) return false;
+        T v;
+        try {
+            v = fused.poll();
+        } catch (Throwable ex) {
+            dispose();
+            throw propagate(ex);
+        }
+        if (v == null) {
+            disposed = true;
+            return false;
+        }
+        next = v;
+        return true;
+    }
+
+    @Override public void dispose() {
+        if (disposed) return;
+        disposed = true;
+        Disposable d = upstream;
+        if (d != null) d.dispose();
+    }
+
+    /** Отменяет источник, если итерация прервана до конца; повторный вызов ничего не делает. */
+    @Override public void close() { dispose(); }
+
+    @Override public boolean isDisposed() { return disposed; }
+
+    /** Ошибка потока на вызывающем потоке: unchecked — как есть, checked — в RuntimeException. */
+    public static RuntimeException propagate(Throwable t) {
+        if (t instanceof RuntimeException) return (RuntimeException) t;
+        if (t instanceof Error) throw (Error) t;
+        return new RuntimeException(t);
+    }
+}
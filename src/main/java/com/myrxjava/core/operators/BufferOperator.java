@@ -0,0 +1,64 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Реализация buffer(count): собирает элементы в списки по {@code count}, последний может быть короче.  <br/>
+ * Списки берутся из {@link BufferPool}, если он задан. Если источник сообщил свой размер
+ * ({@link QueueDisposable#sizeHint()}), хвостовой список выделяется ровно под остаток.
+ */
+public final class BufferOperator<T> implements Observable.ObservableOnSubscribe<List<T>> {
+
+    private final Observable<T> source;
+    private final int count;
+    private final BufferPool<T> pool;
+
+    /** @param pool {@code null} — новый список на каждый буфер */
+    public BufferOperator(Observable<T> src, int count, BufferPool<T> pool) {
+        this.source = src;
+        this.count  = count;
+        this.pool   = pool;
+    }
+
+    @Override public void subscribe(Observer<? super List<T>> observer) {
+        source.subscribe(new Observer<T>() {
+            List<T> buffer;
+            long remaining = -1;                        // известный остаток источника, включая текущий элемент
+
+            @Override public void onSubscribe(Disposable d) {
+                if (d instanceof QueueDisposable) remaining = ((QueueDisposable<?>) d).sizeHint();
+                observer.onSubscribe(d);
+            }
+
+            @Override public void onNext(T item) {
+                List<T> b = buffer;
+                if (b == null) buffer = b = newBuffer(pool, remaining < 0 ? count : (int) Math.min(count, remaining));
+                if (remaining > 0) remaining--;
+                b.add(item);
+                if (b.size() == count) {
+                    buffer = null;
+                    observer.onNext(b);
+                }
+            }
+
+            @Override public void onError(Throwable t) {
+                buffer = null;
+                observer.onError(t);
+            }
+
+            @Override public void onComplete() {
+                List<T> b = buffer;
+                buffer = null;
+                if (b != null) observer.onNext(b);
+                observer.onComplete();
+            }
+        });
+    }
+
+    static <T> List<T> newBuffer(BufferPool<T> pool, int count) {
+        return pool != null ? pool.acquire(count) : new ArrayList<>(count);
+    }
+}
@@ -0,0 +1,213 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+import com.myrxjava.core.queue.MpscLinkedArrayQueue;
+import com.myrxjava.core.queue.SimpleQueue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Реализация buffer(timespan, count): буфер уходит вниз, когда набралось {@code count} элементов
+ * или прошло {@code timespan} с его первого элемента — что наступит раньше.  <br/>
+ * Таймер заводится на Worker-е подписки только под непустой буфер, пустые списки не эмитятся.  <br/>
+ * Буфер целиком принадлежит drain-циклу, блокировок нет: элемент при свободном drain-е добавляется
+ * сразу на потоке источника, иначе встаёт в MPSC-очередь; срабатывание таймера кладёт туда же
+ * метку со своим поколением, и drain закрывает буфер, только если поколение совпало (буфер
+ * ещё не ушёл по размеру). Поэтому порядок сохраняется и onNext вниз никогда не вызывается параллельно.
+ */
+public final class BufferTimedOperator<T> implements Observable.ObservableOnSubscribe<List<T>> {
+
+    private final Observable<T> source;
+    private final long timespan;
+    private final TimeUnit unit;
+    private final int count;
+    private final Scheduler scheduler;
+    private final BufferPool<T> pool;
+
+    public BufferTimedOperator(Observable<T> src, long timespan, TimeUnit unit, int count,
+                               Scheduler scheduler, BufferPool<T> pool) {
+        this.source    = src;
+        this.timespan  = timespan;
+        this.unit      = unit;
+        this.count     = count;
+        this.scheduler = scheduler;
+        this.pool      = pool;
+    }
+
+    @Override public void subscribe(Observer<? super List<T>> observer) {
+        source.subscribe(new BufferTimedObserver<>(observer, timespan, unit, count, scheduler.createWorker(), pool));
+    }
+
+    static final class BufferTimedObserver<T> implements Observer<T>, Disposable {
+
+        private final Observer<? super List<T>> downstream;
+        private final long timespan;
+        private final TimeUnit unit;
+        private final int count;
+        private final Scheduler.Worker worker;
+        private final BufferPool<T> pool;
+        private final SimpleQueue<Object> queue = new MpscLinkedArrayQueue<>(16);     // элементы и Timeout-ы
+        private final AtomicInteger wip = new AtomicInteger();
+
+        /* только drain */
+        private List<T> buffer;
+        private long generation;                    // номер текущего буфера, по нему таймер узнаёт «свой»
+
+        private Disposable upstream;
+        private volatile Disposable timer;
+        private Throwable error;                    // публикуется через volatile done
+        private volatile boolean done;
+        private volatile boolean disposed;
+
+        BufferTimedObserver(Observer<? super List<T>> downstream, long timespan, TimeUnit unit, int count,
+                            Scheduler.Worker worker, BufferPool<T> pool) {
+            this.downstream = downstream;
+            this.timespan   = timespan;
+            this.unit       = unit;
+            this.count      = count;
+            this.worker     = worker;
+            this.pool       = pool;
+        }
+
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override public void onNext(T item) {
+            if (done || disposed) return;
+            if (wip.get() == 0 && wip.compareAndSet(0, 1)) {
+                add(item);
+                if (wip.decrementAndGet() == 0) return;
+            } else {
+                queue.offer(item);
+                if (wip.getAndIncrement() != 0) return;
+            }
+            drainLoop();
+        }
+
+        /** Worker отклонил таймер: буфер не ушёл бы никогда, поэтому подписка завершается ошибкой. */
+        private void rejected(Throwable ex) {
+            if (done || disposed) return;
+            upstream.dispose();
+            onError(ex);
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            error = t;
+            done  = true;
+            drain();
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            drain();
+        }
+
+        @Override public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            if (upstream != null) upstream.dispose();
+            worker.dispose();
+            cancelTimer();
+            if (wip.getAndIncrement() == 0) clear();
+        }
+
+        @Override public boolean isDisposed() { return disposed; }
+
+        private void cancelTimer() {
+            Disposable t = timer;
+            if (t != null) t.dispose();
+        }
+
+        private void clear() {
+            queue.clear();
+            buffer = null;
+        }
+
+        /* ----------  drain: только здесь трогается буфер  ---------- */
+
+        private void add(T item) {
+            List<T> b = buffer;
+            if (b == null) {
+                buffer = b = BufferOperator.newBuffer(pool, count);
+                timer = worker.schedule(new Timeout(this, ++generation), timespan, unit, this::rejected);
+            }
+            b.add(item);
+            if (b.size() == count) {
+                buffer = null;
+                cancelTimer();
+                downstream.onNext(b);
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() == 0) drainLoop();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void drainLoop() {
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (disposed) { clear(); return; }
+
+                    boolean d = done;
+                    if (d && error != null) {
+                        disposed = true;
+                        worker.dispose();
+                        cancelTimer();
+                        clear();
+                        downstream.onError(error);
+                        return;
+                    }
+                    Object v = queue.poll();
+                    if (v == null) {
+                        if (d) {
+                            disposed = true;
+                            worker.dispose();
+                            cancelTimer();
+                            List<T> b = buffer;
+                            buffer = null;
+                            if (b != null) downstream.onNext(b);
+                            downstream.onComplete();
+                            return;
+                        }
+                        break;
+                    }
+                    if (v instanceof Timeout) {
+                        if (((Timeout) v).generation == generation && buffer != null) {
+                            List<T> b = buffer;             // буфер ещё не ушёл по размеру
+                            buffer = null;
+                            downstream.onNext(b);
+                        }
+                    } else {
+                        add((T) v);
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+    }
+
+    /** Срабатывание таймера буфера {@code generation}: на Worker-е встаёт в очередь drain-а. */
+    static final class Timeout implements Runnable {
+        private final BufferTimedObserver<?> parent;
+        final long generation;
+
+        Timeout(BufferTimedObserver<?> parent, long generation) {
+            this.parent     = parent;
+            this.generation = generation;
+        }
+
+        @Override public void run() {
+            parent.queue.offer(this);
+            parent.drain();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+import com.myrxjava.functions.BiConsumer;
+import com.myrxjava.functions.IntFunction;
+
+/**
+ * Реализация collect и toList: все элементы в один контейнер, который уходит вниз по завершении.  <br/>
+ * Контейнер создаётся на подписку с ёмкостью = размеру источника, если тот его сообщил
+ * ({@link QueueDisposable#sizeHint()}), иначе {@code capacityHint}.
+ */
+public final class CollectOperator<T, C> implements Observable.ObservableOnSubscribe<C> {
+
+    private final Observable<T> source;
+    private final IntFunction<? extends C> containerFactory;
+    private final int capacityHint;
+    private final BiConsumer<? super C, ? super T> collector;
+
+    public CollectOperator(Observable<T> src, IntFunction<? extends C> containerFactory, int capacityHint,
+                           BiConsumer<? super C, ? super T> collector) {
+        this.source           = src;
+        this.containerFactory = containerFactory;
+        this.capacityHint     = capacityHint;
+        this.collector        = collector;
+    }
+
+    @Override public void subscribe(Observer<? super C> observer) {
+        source.subscribe(new CollectObserver<>(observer, containerFactory, capacityHint, collector));
+    }
+
+    static final class CollectObserver<T, C> implements Observer<T>, Disposable {
+
+        private final Observer<? super C> downstream;
+        private final IntFunction<? extends C> containerFactory;
+        private final BiConsumer<? super C, ? super T> collector;
+        private int capacity;
+        private C container;                                // создаётся с первым событием
+        private Disposable upstream;
+        private boolean done;
+
+        CollectObserver(Observer<? super C> downstream, IntFunction<? extends C> containerFactory, int capacityHint,
+                        BiConsumer<? super C, ? super T> collector) {
+            this.downstream       = downstream;
+            this.containerFactory = containerFactory;
+            this.capacity         = capacityHint;
+            this.collector        = collector;
+        }
+
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            if (d instanceof QueueDisposable) {
+                long size = ((QueueDisposable<?>) d).sizeHint();
+                if (size >= 0) capacity = (int) Math.min(size, Integer.MAX_VALUE - 8);
+            }
+            downstream.onSubscribe(this);
+        }
+
+        @Override public void onNext(T item) {
+            if (done) return;
+            try {
+                C c = container;
+                if (c == null) container = c = newContainer();
+                collector.accept(c, item);
+            } catch (Exception ex) {
+                fail(ex);
+            }
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            container = null;
+            downstream.onError(t);
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            C c = container;
+            if (c == null) {
+                try { c = newContainer(); }
+                catch (Exception ex) { fail(ex); return; }
+            }
+            done = true;
+            container = null;
+            downstream.onNext(c);
+            downstream.onComplete();
+        }
+
+        @Override public void dispose()       { upstream.dispose(); }
+        @Override public boolean isDisposed() { return upstream.isDisposed(); }
+
+        private C newContainer() throws Exception {
+            C c = containerFactory.apply(capacity);
+            if (c == null) throw new NullPointerException("The container factory returned null");
+            return c;
+        }
+
+        private void fail(Exception ex) {
+            done = true;
+            container = null;
+            if (upstream != null) upstream.dispose();
+            downstream.onError(ex);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+import com.myrxjava.functions.Function;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * combineLatest: на каждое обновление любого источника — комбинация последних значений всех.  <br/>
+ * Состояние — по одному атомарному слоту на источник: onNext кладёт туда свежую ячейку
+ * и поднимает {@code wip}; единственный drain-цикл снимает снимок слотов и отдаёт его вниз.
+ * Блокировок на элемент нет. Если обновления приходят быстрее, чем проходит drain,
+ * промежуточные комбинации схлопываются: вниз всегда уходит самая свежая, и ни одна не повторяется.
+ * Источник, завершившийся без единого значения, завершает весь поток.
+ */
+public final class CombineLatestOperator<T, R> implements Observable.ObservableOnSubscribe<R> {
+
+    private final Observable<? extends T>[] sources;
+    private final Function<? super Object[], ? extends R> combiner;
+
+    public CombineLatestOperator(Observable<? extends T>[] sources, Function<? super Object[], ? extends R> combiner) {
+        this.sources  = sources;
+        this.combiner = combiner;
+    }
+
+    @Override public void subscribe(Observer<? super R> downstream) {
+        int n = sources.length;
+        LatestCoordinator<T, R> parent = new LatestCoordinator<>(downstream, combiner, n);
+        downstream.onSubscribe(parent);
+        for (int i = 0; i < n && !parent.disposed; i++) sources[i].subscribe(parent.observers[i]);
+    }
+
+    /** Ячейка слота: новая на каждый onNext, так drain отличает свежее значение от уже отданного. */
+    static final class Cell {
+        final Object value;
+
+        Cell(Object value) { this.value = value; }
+    }
+
+    static final class LatestCoordinator<T, R> implements Disposable {
+
+        private final Observer<? super R> downstream;
+        private final Function<? super Object[], ? extends R> combiner;
+        final LatestObserver<T>[] observers;
+        final AtomicReferenceArray<Cell> latest;
+        final AtomicInteger missing;                                 // источники без единого значения
+        final AtomicInteger active;                                  // незавершённые источники
+        private final Cell[] emitted;                                // трогает только drain
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        volatile boolean emptyDone;
+        volatile boolean disposed;
+
+        @SuppressWarnings("unchecked")
+        LatestCoordinator(Observer<? super R> downstream, Function<? super Object[], ? extends R> combiner, int n) {
+            this.downstream = downstream;
+            this.combiner   = combiner;
+            this.observers  = (LatestObserver<T>[]) new LatestObserver<?>[n];
+            this.latest     = new AtomicReferenceArray<>(n);
+            this.missing    = new AtomicInteger(n);
+            this.active     = new AtomicInteger(n);
+            this.emitted    = new Cell[n];
+            for (int i = 0; i < n; i++) observers[i] = new LatestObserver<>(this, i);
+        }
+
+        @Override public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            cancelAll();
+        }
+
+        @Override public boolean isDisposed() { return disposed; }
+
+        void innerError(Throwable t) {
+            if (error.compareAndSet(null, t)) cancelAll();
+            drain();
+        }
+
+        void innerComplete(boolean hadValue) {
+            if (!hadValue) {
+                emptyDone = true;
+                cancelAll();
+            }
+            active.decrementAndGet();
+            drain();
+        }
+
+        private void cancelAll() {
+            for (LatestObserver<T> o : observers) o.dispose();
+        }
+
+        /* ----------  drain  ---------- */
+
+        void drain() {
+            if (wip.getAndIncrement() != 0) return;
+            int n = emitted.length;
+            int missed = 1;
+            for (;;) {
+                if (disposed) return;
+
+                Throwable ex = error.get();
+                if (ex != null) {
+                    disposed = true;
+                    downstream.onError(ex);
+                    return;
+                }
+                if (emptyDone) {
+                    disposed = true;
+                    downstream.onComplete();
+                    return;
+                }
+
+                boolean d = active.get() == 0;                       // до снимка: хвост последнего onNext не потеряем
+                if (missing.get() == 0) {
+                    Object[] values = null;
+                    for (int i = 0; i < n; i++) {
+                        Cell c = latest.get(i);
+                        if (c != emitted[i] && values == null) values = new Object[n];
+                        emitted[i] = c;
+                    }
+                    if (values != null) {
+                        for (int i = 0; i < n; i++) values[i] = emitted[i].value;
+                        R result;
+                        try {
+                            result = combiner.apply(values);
+                            if (result == null) throw new NullPointerException("combiner returned null");
+                        } catch (Exception e) {
+                            cancelAll();
+                            error.compareAndSet(null, e);
+                            continue;
+                        }
+                        downstream.onNext(result);
+                    }
+                }
+                if (d) {
+                    disposed = true;
+                    downstream.onComplete();
+                    return;
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+    }
+
+    static final class LatestObserver<T> implements Observer<T>, Disposable {
+
+        private final LatestCoordinator<T, ?> parent;
+        private final int index;
+        private volatile Disposable upstream;
+        private boolean hasValue;
+        private boolean done;
+
+        LatestObserver(LatestCoordinator<T, ?> parent, int index) {
+            this.parent = parent;
+            this.index  = index;
+        }
+
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            if (parent.disposed) d.dispose();
+        }
+
+        @Override public void onNext(T item) {
+            if (done) return;
+            parent.latest.set(index, new Cell(item));
+            if (!hasValue) {
+                hasValue = true;
+                parent.missing.decrementAndGet();
+            }
+            parent.drain();
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            parent.innerError(t);
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            parent.innerComplete(hasValue);
+        }
+
+        @Override public void dispose() {
+            Disposable d = upstream;
+            if (d != null) d.dispose();
+        }
+
+        @Override public boolean isDisposed() { return parent.disposed; }
+    }
+}
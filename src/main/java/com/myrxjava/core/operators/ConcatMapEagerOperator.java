@@ -0,0 +1,213 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+import com.myrxjava.core.queue.MpscLinkedArrayQueue;
+import com.myrxjava.core.queue.SimpleQueue;
+import com.myrxjava.functions.Function;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * concatMapEager: до {@code maxConcurrency} внутренних Observable подписаны одновременно,
+ * но вниз элементы уходят в порядке источника.  <br/>
+ * У каждого inner-а своя очередь; drain-цикл отдаёт очередь головного inner-а, а когда тот завершился —
+ * переходит к следующему. Остальные тем временем работают и копят результаты, так что задержка
+ * цепочки ~ самому медленному inner-у, а не их сумме. Слот освобождается, когда inner
+ * не только завершился, но и выдан вниз целиком — буферы ограничены числом слотов.
+ */
+public final class ConcatMapEagerOperator<T, R> implements Observable.ObservableOnSubscribe<R> {
+
+    private final Observable<T> source;
+    private final Function<? super T, ? extends Observable<R>> mapper;
+    private final int maxConcurrency;
+    private final int prefetch;
+
+    public ConcatMapEagerOperator(Observable<T> source, Function<? super T, ? extends Observable<R>> mapper,
+                                  int maxConcurrency, int prefetch) {
+        this.source         = source;
+        this.mapper         = mapper;
+        this.maxConcurrency = maxConcurrency;
+        this.prefetch       = prefetch;
+    }
+
+    @Override public void subscribe(Observer<? super R> downstream) {
+        EagerObserver<T, R> parent = new EagerObserver<>(downstream, mapper, maxConcurrency, prefetch);
+        downstream.onSubscribe(parent);
+        source.subscribe(parent);
+    }
+
+    static final class EagerObserver<T, R> implements Observer<T>, Disposable {
+
+        private final Observer<? super R> downstream;
+        private final Function<? super T, ? extends Observable<R>> mapper;
+        private final int maxConcurrency;
+        private final int prefetch;
+
+        private final CompositeDisposable composite = new CompositeDisposable();
+        private final SimpleQueue<T> queue;                                 // элементы источника, ждущие слота
+        private final ArrayDeque<InnerObserver<R>> inners = new ArrayDeque<>(); // трогает только drain
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        private volatile boolean done;
+        private volatile boolean disposed;
+
+        EagerObserver(Observer<? super R> downstream, Function<? super T, ? extends Observable<R>> mapper,
+                      int maxConcurrency, int prefetch) {
+            this.downstream     = downstream;
+            this.mapper         = mapper;
+            this.maxConcurrency = maxConcurrency;
+            this.prefetch       = prefetch;
+            this.queue          = new MpscLinkedArrayQueue<>(prefetch);
+        }
+
+        @Override public void onSubscribe(Disposable d) { composite.add(d); }
+
+        @Override public void onNext(T item) {
+            if (done || disposed) return;
+            queue.offer(item);
+            drain();
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            innerError(t);
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            drain();
+        }
+
+        @Override public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            composite.dispose();
+            if (wip.getAndIncrement() == 0) clear();
+        }
+
+        @Override public boolean isDisposed() { return disposed; }
+
+        void innerError(Throwable t) {
+            if (error.compareAndSet(null, t)) composite.dispose();
+            drain();
+        }
+
+        private void clear() {
+            queue.clear();
+            for (InnerObserver<R> in : inners) in.queue.clear();
+            inners.clear();
+        }
+
+        /* ----------  drain  ---------- */
+
+        void drain() {
+            if (wip.getAndIncrement() != 0) return;
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (disposed) { clear(); return; }
+
+                    Throwable ex = error.get();
+                    if (ex != null) {
+                        disposed = true;
+                        clear();
+                        downstream.onError(ex);
+                        return;
+                    }
+
+                    // заполняем свободные слоты; синхронный inner лишь наполнит свою очередь
+                    while (inners.size() < maxConcurrency) {
+                        T item = queue.poll();
+                        if (item == null) break;
+                        Observable<R> next;
+                        try {
+                            next = mapper.apply(item);
+                        } catch (Exception e) {
+                            innerError(e);
+                            break;
+                        }
+                        InnerObserver<R> in = new InnerObserver<>(this, prefetch);
+                        inners.offer(in);
+                        next.subscribe(in);
+                    }
+                    if (disposed || error.get() != null) continue;
+
+                    InnerObserver<R> head = inners.peek();
+                    if (head == null) {
+                        if (done && queue.isEmpty()) {
+                            disposed = true;
+                            composite.dispose();
+                            downstream.onComplete();
+                            return;
+                        }
+                        break;
+                    }
+
+                    boolean d = head.done;                       // читаем до poll, иначе потеряем хвост
+                    R value;
+                    while ((value = head.queue.poll()) != null) {
+                        if (disposed) { clear(); return; }
+                        downstream.onNext(value);
+                    }
+                    if (!d) break;
+                    inners.poll();                               // голова выдана целиком — слот свободен
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+    }
+
+    static final class InnerObserver<R> implements Observer<R> {
+
+        private final EagerObserver<?, R> parent;
+        final SimpleQueue<R> queue;
+        private Disposable upstream;
+        volatile boolean done;
+
+        InnerObserver(EagerObserver<?, R> parent, int prefetch) {
+            this.parent = parent;
+            this.queue  = new MpscLinkedArrayQueue<>(prefetch);
+        }
+
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            parent.composite.add(d);
+        }
+
+        @Override public void onNext(R item) {
+            if (done) return;
+            queue.offer(item);
+            parent.drain();
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            release();
+            parent.innerError(t);
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            release();
+            parent.drain();
+        }
+
+        @Override public boolean isDisposed() { return parent.disposed; }
+
+        private void release() {
+            Disposable d = upstream;
+            if (d != null) {
+                upstream = null;
+                parent.composite.delete(d);
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+import com.myrxjava.core.queue.MpscLinkedArrayQueue;
+import com.myrxjava.core.queue.SimpleQueue;
+import com.myrxjava.functions.Function;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * concatMap: внутренние Observable подписываются строго по одному, в порядке элементов источника.  <br/>
+ * Элементы источника ждут в очереди; следующий inner подписывает drain-цикл, когда предыдущий завершился.
+ * Синхронный inner завершается прямо внутри подписки — это лишь поднимает счётчик {@code wip},
+ * и цикл берёт следующий элемент на той же итерации, без рекурсии и роста стека.
+ * Элементы inner-а идут вниз напрямую; с ошибкой их сериализует половинчатый сериализатор
+ * ({@code emitting}): onNext приходит только из активного inner-а, терминал — откуда угодно.
+ */
+public final class ConcatMapOperator<T, R> implements Observable.ObservableOnSubscribe<R> {
+
+    private final Observable<T> source;
+    private final Function<? super T, ? extends Observable<R>> mapper;
+    private final int prefetch;
+
+    public ConcatMapOperator(Observable<T> source, Function<? super T, ? extends Observable<R>> mapper, int prefetch) {
+        this.source   = source;
+        this.mapper   = mapper;
+        this.prefetch = prefetch;
+    }
+
+    @Override public void subscribe(Observer<? super R> downstream) {
+        ConcatObserver<T, R> parent = new ConcatObserver<>(downstream, mapper, prefetch);
+        downstream.onSubscribe(parent);
+        source.subscribe(parent);
+    }
+
+    static final class ConcatObserver<T, R> implements Observer<T>, Disposable {
+
+        private final Observer<? super R> downstream;
+        private final Function<? super T, ? extends Observable<R>> mapper;
+        private final SimpleQueue<T> queue;
+        private final InnerObserver<R> inner = new InnerObserver<>(this);   // один на все inner-ы: активен только один
+        private final AtomicInteger wip = new AtomicInteger();              // трамплин подписки inner-ов
+        private final AtomicInteger emitting = new AtomicInteger();         // право эмитить вниз
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        private volatile Disposable upstream;
+        private volatile boolean active;
+        private volatile boolean done;
+        private volatile boolean disposed;
+
+        ConcatObserver(Observer<? super R> downstream, Function<? super T, ? extends Observable<R>> mapper, int prefetch) {
+            this.downstream = downstream;
+            this.mapper     = mapper;
+            this.queue      = new MpscLinkedArrayQueue<>(prefetch);
+        }
+
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            if (disposed) d.dispose();
+        }
+
+        @Override public void onNext(T item) {
+            if (done || disposed) return;
+            queue.offer(item);
+            drain();
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            fail(t);
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            drain();
+        }
+
+        @Override public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            Disposable d = upstream;
+            if (d != null) d.dispose();
+            inner.dispose();
+            if (wip.getAndIncrement() == 0) queue.clear();
+        }
+
+        @Override public boolean isDisposed() { return disposed; }
+
+        /* ----------  inner-события  ---------- */
+
+        void innerNext(R item) {
+            if (emitting.get() == 0 && emitting.compareAndSet(0, 1)) {
+                if (!disposed) downstream.onNext(item);
+                if (emitting.decrementAndGet() == 0) return;
+                emitError();                                    // ошибка пришла, пока мы эмитили
+            }
+        }
+
+        void innerComplete() {
+            active = false;
+            drain();
+        }
+
+        /** Первая ошибка выигрывает; вниз её отдаёт тот, кто первым захватил {@code emitting}. */
+        void fail(Throwable t) {
+            if (!error.compareAndSet(null, t)) return;
+            dispose();
+            if (emitting.getAndIncrement() == 0) emitError();
+        }
+
+        private void emitError() {
+            downstream.onError(error.get());
+        }
+
+        /* ----------  drain  ---------- */
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) return;
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (disposed) { queue.clear(); break; }
+                    if (active) break;
+
+                    boolean d = done;
+                    T item = queue.poll();
+                    if (item == null) {
+                        if (d) {
+                            disposed = true;
+                            if (emitting.getAndIncrement() == 0) downstream.onComplete();
+                        }
+                        break;
+                    }
+
+                    Observable<R> next;
+                    try {
+                        next = mapper.apply(item);
+                    } catch (Exception ex) {
+                        fail(ex);
+                        queue.clear();
+                        break;
+                    }
+                    active = true;
+                    next.subscribe(inner);                      // синхронный inner вернётся уже с active == false
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+    }
+
+    static final class InnerObserver<R> implements Observer<R>, Disposable {
+
+        private final ConcatObserver<?, R> parent;
+        private volatile Disposable upstream;
+
+        InnerObserver(ConcatObserver<?, R> parent) { this.parent = parent; }
+
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            if (parent.disposed) d.dispose();
+        }
+
+        @Override public void onNext(R item) { parent.innerNext(item); }
+
+        @Override public void onError(Throwable t) { parent.fail(t); }
+
+        @Override public void onComplete() {
+            upstream = null;
+            parent.innerComplete();
+        }
+
+        @Override public void dispose() {
+            Disposable d = upstream;
+            if (d != null) d.dispose();
+        }
+
+        @Override public boolean isDisposed() { return parent.disposed; }
+    }
+}
@@ -0,0 +1,26 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+
+/** Реализация count: число элементов источника одним {@code Long} по завершении. */
+public final class CountOperator<T> implements Observable.ObservableOnSubscribe<Long> {
+
+    private final Observable<T> source;
+
+    public CountOperator(Observable<T> src) { this.source = src; }
+
+    @Override public void subscribe(Observer<? super Long> observer) {
+        source.subscribe(new Observer<T>() {
+            long count;
+
+            @Override public void onSubscribe(Disposable d) { observer.onSubscribe(d); }
+            @Override public void onNext(T item)            { count++; }
+            @Override public void onError(Throwable t)      { observer.onError(t); }
+
+            @Override public void onComplete() {
+                observer.onNext(count);
+                observer.onComplete();
+            }
+        });
+    }
+}
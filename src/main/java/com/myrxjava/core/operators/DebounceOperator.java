@@ -0,0 +1,151 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * debounce: элемент уходит вниз, только если за ним {@code timeout} не пришло ничего нового.  <br/>
+ * Таймер не переставляется на каждый элемент: onNext лишь кладёт элемент с отметкой времени
+ * в атомарный слот, а единственный взведённый таймер при срабатывании смотрит, сколько длится тишина,
+ * и либо отдаёт элемент, либо перевзводится на остаток. Во время пачки — один таймер на период тишины.
+ * Таймер и терминальные события выполняются на Worker-е подписки, поэтому вниз всё идёт последовательно.
+ */
+public final class DebounceOperator<T> implements Observable.ObservableOnSubscribe<T> {
+
+    private final Observable<T> source;
+    private final long timeoutNanos;
+    private final Scheduler scheduler;
+
+    public DebounceOperator(Observable<T> src, long timeout, TimeUnit unit, Scheduler scheduler) {
+        this.source       = src;
+        this.timeoutNanos = unit.toNanos(timeout);
+        this.scheduler    = scheduler;
+    }
+
+    @Override public void subscribe(Observer<? super T> observer) {
+        source.subscribe(new DebounceObserver<>(observer, timeoutNanos, scheduler.createWorker()));
+    }
+
+    /** Последний элемент и момент его прихода. */
+    static final class Pending<T> {
+        final T value;
+        final long time;
+
+        Pending(T value, long time) {
+            this.value = value;
+            this.time  = time;
+        }
+    }
+
+    static final class DebounceObserver<T> implements Observer<T>, Disposable, Runnable {
+
+        private final Observer<? super T> downstream;
+        private final long timeoutNanos;
+        private final Scheduler.Worker worker;
+        private final AtomicReference<Pending<T>> latest = new AtomicReference<>();
+        private final AtomicBoolean armed = new AtomicBoolean();
+
+        private Disposable upstream;
+        private volatile Disposable timer;
+        private boolean done;
+        private volatile boolean disposed;
+
+        DebounceObserver(Observer<? super T> downstream, long timeoutNanos, Scheduler.Worker worker) {
+            this.downstream   = downstream;
+            this.timeoutNanos = timeoutNanos;
+            this.worker       = worker;
+        }
+
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override public void onNext(T item) {
+            if (done || disposed) return;
+            latest.set(new Pending<>(item, System.nanoTime()));
+            if (!armed.get() && armed.compareAndSet(false, true)) arm(timeoutNanos);
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            terminate(() -> {
+                latest.set(null);
+                downstream.onError(t);
+            });
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            terminate(() -> {
+                Pending<T> p = latest.getAndSet(null);          // последний элемент пачки не теряем
+                if (p != null) downstream.onNext(p.value);
+                downstream.onComplete();
+            });
+        }
+
+        @Override public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            if (upstream != null) upstream.dispose();
+            worker.dispose();
+            Disposable t = timer;
+            if (t != null) t.dispose();
+        }
+
+        @Override public boolean isDisposed() { return disposed; }
+
+        /** Срабатывание таймера, на Worker-е. */
+        @Override public void run() {
+            for (;;) {
+                if (disposed) return;
+                Pending<T> p = latest.get();
+                if (p == null) {
+                    armed.set(false);
+                    // onNext мог положить элемент, увидев armed == true, — тогда взводимся сами
+                    if (latest.get() == null || !armed.compareAndSet(false, true)) return;
+                    continue;
+                }
+                long quiet = System.nanoTime() - p.time;
+                if (quiet < timeoutNanos) {
+                    arm(timeoutNanos - quiet);
+                    return;
+                }
+                if (latest.compareAndSet(p, null)) downstream.onNext(p.value);
+            }
+        }
+
+        private void arm(long delayNanos) {
+            timer = worker.schedule(this, delayNanos, TimeUnit.NANOSECONDS, this::rejected);
+        }
+
+        /** Worker отклонил таймер или терминальное событие — дальше ничего не выполнится, отказ уходит вниз. */
+        private void rejected(Throwable ex) {
+            if (disposed) return;
+            dispose();
+            latest.set(null);
+            downstream.onError(ex);
+        }
+
+        private void terminate(Runnable signal) {
+            Disposable t = timer;
+            if (t != null) t.dispose();
+            try {
+                worker.execute(() -> {
+                    if (disposed) return;
+                    disposed = true;
+                    signal.run();
+                    worker.dispose();
+                });
+            } catch (RejectedExecutionException ex) {
+                rejected(ex);
+            }
+        }
+    }
+}
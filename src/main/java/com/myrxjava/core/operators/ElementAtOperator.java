@@ -0,0 +1,83 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Реализация elementAt и first: один элемент с номером {@code index}, дальше источник отменяется.  <br/>
+ * Если источник кончился раньше — {@code defaultItem}, а без него пустое завершение или
+ * {@link NoSuchElementException} (для {@code first()}).
+ */
+public final class ElementAtOperator<T> implements Observable.ObservableOnSubscribe<T> {
+
+    private final Observable<T> source;
+    private final long index;
+    private final T defaultItem;
+    private final boolean errorOnMissing;
+
+    /** @param defaultItem {@code null} — значения по умолчанию нет */
+    public ElementAtOperator(Observable<T> src, long index, T defaultItem, boolean errorOnMissing) {
+        this.source         = src;
+        this.index          = index;
+        this.defaultItem    = defaultItem;
+        this.errorOnMissing = errorOnMissing;
+    }
+
+    @Override public void subscribe(Observer<? super T> observer) {
+        source.subscribe(new ElementAtObserver<>(observer, index, defaultItem, errorOnMissing));
+    }
+
+    static final class ElementAtObserver<T> implements Observer<T>, Disposable {
+
+        private final Observer<? super T> downstream;
+        private final long index;
+        private final T defaultItem;
+        private final boolean errorOnMissing;
+        private long count;
+        private Disposable upstream;
+        private boolean done;
+
+        ElementAtObserver(Observer<? super T> downstream, long index, T defaultItem, boolean errorOnMissing) {
+            this.downstream     = downstream;
+            this.index          = index;
+            this.defaultItem    = defaultItem;
+            this.errorOnMissing = errorOnMissing;
+        }
+
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override public void onNext(T item) {
+            if (done || count++ != index) return;
+            done = true;
+            upstream.dispose();
+            downstream.onNext(item);
+            downstream.onComplete();
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            if (defaultItem != null) {
+                downstream.onNext(defaultItem);
+                downstream.onComplete();
+            } else if (errorOnMissing) {
+                downstream.onError(new NoSuchElementException("Source has " + count + " elements, index " + index + " is out of range"));
+            } else {
+                downstream.onComplete();
+            }
+        }
+
+        @Override public void dispose()       { upstream.dispose(); }
+        @Override public boolean isDisposed() { return upstream.isDisposed(); }
+    }
+}
@@ -0,0 +1,46 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+
+/** Источник Observable.empty: сразу onComplete; один экземпляр на всё приложение. */
+public final class EmptySource implements Observable.ObservableOnSubscribe<Object>, Fuseable {
+
+    public static final EmptySource INSTANCE = new EmptySource();
+
+    private EmptySource() { }
+
+    @Override public void subscribe(Observer<? super Object> observer) {
+        EmptyDisposable d = new EmptyDisposable();
+        observer.onSubscribe(d);
+        if (!d.fused) observer.onComplete();
+    }
+
+    /** onSubscribe + onError для источника, который упал ещё до начала эмиссии. */
+    static void error(Observer<?> observer, Throwable ex) {
+        observer.onSubscribe(new EmptyDisposable());
+        observer.onError(ex);
+    }
+
+    static final class EmptyDisposable implements QueueDisposable<Object> {
+
+        boolean fused;
+        private volatile boolean disposed;
+
+        @Override public int requestFusion(int mode) {
+            if ((mode & SYNC) != 0) {
+                fused = true;
+                return SYNC;
+            }
+            return NONE;
+        }
+
+        @Override public Object poll()               { return null; }
+        @Override public boolean offer(Object value) { throw new UnsupportedOperationException("Should not be called"); }
+        @Override public boolean isEmpty()           { return true; }
+        @Override public void clear()                { }
+        @Override public long sizeHint()             { return 0; }
+
+        @Override public void dispose()       { disposed = true; }
+        @Override public boolean isDisposed() { return disposed; }
+    }
+}
@@ -0,0 +1,169 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+import com.myrxjava.core.queue.MpscLinkedArrayQueue;
+import com.myrxjava.core.queue.SimpleQueue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sink для {@code Observables.toFile}: пишет блоки в файл и по завершении отдаёт число записанных байт.  <br/>
+ * Блоки копятся в очереди, drain на Worker-е планировщика забирает до {@link #BATCH} штук
+ * и отдаёт их одним gathering-вызовом {@link FileChannel#write(ByteBuffer[], int, int)}.
+ * Канал открывается и закрывается на том же Worker-е; dispose закрывает его и прекращает запись.
+ */
+public final class FileSinkOperator implements Observable.ObservableOnSubscribe<Long> {
+
+    static final int BATCH = 64;
+
+    private final Observable<ByteBuffer> source;
+    private final Path path;
+    private final Scheduler scheduler;
+    private final OpenOption[] options;
+
+    public FileSinkOperator(Observable<ByteBuffer> src, Path path, Scheduler scheduler, OpenOption... options) {
+        this.source    = src;
+        this.path      = path;
+        this.scheduler = scheduler;
+        this.options   = options;
+    }
+
+    @Override public void subscribe(Observer<? super Long> observer) {
+        source.subscribe(new SinkObserver(observer, path, scheduler.createWorker(), options));
+    }
+
+    static final class SinkObserver implements Observer<ByteBuffer>, Disposable, Runnable {
+
+        private final Observer<? super Long> downstream;
+        private final Path path;
+        private final Scheduler.Worker worker;
+        private final OpenOption[] options;
+        private final SimpleQueue<ByteBuffer> queue = new MpscLinkedArrayQueue<>(BATCH);
+        private final AtomicInteger wip = new AtomicInteger();
+        private final ByteBuffer[] batch = new ByteBuffer[BATCH];   // только drain
+
+        private Disposable upstream;
+        private FileChannel channel;                                // только drain
+        private long written;                                       // только drain
+        private Throwable error;                                    // публикуется через volatile done
+        private volatile boolean done;
+        private volatile boolean disposed;
+
+        SinkObserver(Observer<? super Long> downstream, Path path, Scheduler.Worker worker, OpenOption[] options) {
+            this.downstream = downstream;
+            this.path       = path;
+            this.worker     = worker;
+            this.options    = options;
+        }
+
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.onSubscribe(this);
+            schedule();                                             // открыть файл, даже если блоков не будет
+        }
+
+        @Override public void onNext(ByteBuffer item) {
+            if (done) return;
+            queue.offer(item);
+            schedule();
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            error = t;
+            done  = true;
+            schedule();
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            schedule();
+        }
+
+        @Override public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            if (upstream != null) upstream.dispose();
+            schedule();                                             // канал закроет drain
+        }
+
+        @Override public boolean isDisposed() { return disposed; }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) worker.execute(this);
+        }
+
+        @Override public void run() {
+            int missed = 1;
+            for (;;) {
+                if (drain()) return;
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+
+        /** @return {@code true}, если работа закончена */
+        private boolean drain() {
+            try {
+                if (disposed) { finish(); return true; }
+                if (channel == null) channel = FileChannel.open(path, options);
+                for (;;) {
+                    if (disposed) { finish(); return true; }
+                    boolean d = done;
+                    int n = 0;
+                    ByteBuffer b;
+                    while (n < BATCH && (b = queue.poll()) != null) batch[n++] = b;
+                    if (n != 0) {
+                        write(n);
+                        continue;
+                    }
+                    if (d) {
+                        finish();
+                        Throwable e = error;
+                        if (e != null) downstream.onError(e);
+                        else {
+                            downstream.onNext(written);
+                            downstream.onComplete();
+                        }
+                        return true;
+                    }
+                    return false;
+                }
+            } catch (IOException ex) {
+                if (upstream != null) upstream.dispose();
+                finish();
+                downstream.onError(ex);
+                return true;
+            }
+        }
+
+        private void write(int n) throws IOException {
+            long remaining = 0;
+            for (int i = 0; i < n; i++) remaining += batch[i].remaining();
+            while (remaining > 0) {
+                long w = channel.write(batch, 0, n);
+                written   += w;
+                remaining -= w;
+            }
+            Arrays.fill(batch, 0, n, null);
+        }
+
+        private void finish() {
+            disposed = true;
+            queue.clear();
+            worker.dispose();
+            FileChannel c = channel;
+            channel = null;
+            if (c != null) {
+                try { c.close(); } catch (IOException ignore) { }
+            }
+        }
+    }
+}
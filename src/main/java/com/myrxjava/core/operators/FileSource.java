@@ -0,0 +1,49 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Источник для {@code Observables.fromFile}: файл отображается в память окнами и отдаётся
+ * срезами по {@code chunkSize} байт без копирования.  <br/>
+ * Канал закрывается по завершении, ошибке или dispose; отображение остаётся валидным,
+ * пока на срезы есть ссылки. Срезы только для чтения.
+ */
+public final class FileSource implements Observable.ObservableOnSubscribe<ByteBuffer> {
+
+    private static final long MAX_REGION = 256L << 20;       // одно отображение — не больше 256 МБ
+
+    private final Path path;
+    private final int chunkSize;
+
+    public FileSource(Path path, int chunkSize) {
+        this.path      = path;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override public void subscribe(Observer<? super ByteBuffer> observer) {
+        BooleanDisposable d = new BooleanDisposable();
+        observer.onSubscribe(d);
+        long regionSize = Math.max(chunkSize, MAX_REGION / chunkSize * chunkSize);   // кратно chunkSize
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long pos = 0; pos < size && !d.isDisposed(); pos += regionSize) {
+                int length = (int) Math.min(regionSize, size - pos);
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, pos, length);
+                for (int off = 0; off < length && !d.isDisposed(); off += chunkSize) {
+                    observer.onNext(region.slice(off, Math.min(chunkSize, length - off)));
+                }
+            }
+        } catch (IOException ex) {
+            if (!d.isDisposed()) observer.onError(ex);
+            return;
+        }
+        if (!d.isDisposed()) observer.onComplete();
+    }
+}
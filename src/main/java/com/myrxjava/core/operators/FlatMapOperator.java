@@ -1,67 +1,238 @@
 package com.myrxjava.core.operators;
 
 import com.myrxjava.core.*;
+import com.myrxjava.core.queue.MpscLinkedArrayQueue;
+import com.myrxjava.core.queue.SimpleQueue;
 import com.myrxjava.functions.Function;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
-
-/** Реализация flatMap без back-pressure, но с корректным dispose. */
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Реализация flatMap без back-pressure, но с корректным dispose.  <br/>
+ * Активно не больше {@code maxConcurrency} внутренних Observable, остальные ждут в очереди.
+ * Результаты внутренних потоков сериализуются: свободный эмиттер отдаёт элемент сразу
+ * (fast-path), занятый — кладёт в общую MPSC-очередь, которую выгребает drain-цикл.
+ */
 public final class FlatMapOperator<T, R> implements Observable.ObservableOnSubscribe<R> {
 
     private final Observable<T> source;
     private final Function<? super T, ? extends Observable<R>> mapper;
-
-    public FlatMapOperator(Observable<T> src, Function<? super T, ? extends Observable<R>> mapper) {
-        this.source = src;
-        this.mapper = mapper;
+    private final int maxConcurrency;
+    private final int prefetch;
+
+    public FlatMapOperator(Observable<T> src, Function<? super T, ? extends Observable<R>> mapper,
+                           int maxConcurrency, int prefetch) {
+        this.source         = src;
+        this.mapper         = mapper;
+        this.maxConcurrency = maxConcurrency;
+        this.prefetch       = prefetch;
     }
 
     @Override public void subscribe(Observer<? super R> downstream) {
+        MergeObserver<T, R> parent = new MergeObserver<>(downstream, mapper, maxConcurrency, prefetch);
+        downstream.onSubscribe(parent);
+        source.subscribe(parent);
+    }
 
-        CompositeDisposable composite = new CompositeDisposable();
-        AtomicInteger wip = new AtomicInteger(1);          // «active» счётчик
-
-        downstream.onSubscribe(composite);
-
-        source.subscribe(new Observer<T>() {
-
-            @Override public void onSubscribe(Disposable d) { composite.add(d); }
-
-            @Override public void onNext(T item) {
-                if (composite.isDisposed()) return;
-                Observable<R> inner;
-                try { inner = mapper.apply(item); }
-                catch (Exception ex) { downstream.onError(ex); return; }
-
-                wip.incrementAndGet();
-                inner.subscribe(new Observer<R>() {
-                    @Override public void onSubscribe(Disposable d) { composite.add(d); }
-
-                    @Override public void onNext(R r) { downstream.onNext(r); }
-
-                    @Override public void onError(Throwable t) {
-                        composite.dispose();
-                        downstream.onError(t);
+    static final class MergeObserver<T, R> implements Observer<T>, Disposable {
+
+        private final Observer<? super R> downstream;
+        private final Function<? super T, ? extends Observable<R>> mapper;
+        private final int maxConcurrency;
+
+        private final CompositeDisposable composite = new CompositeDisposable();
+        private final SimpleQueue<R> queue;                          // элементы, не прошедшие fast-path
+        private final Queue<Observable<R>> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();       // владелец права эмитить вниз
+        private final AtomicInteger active = new AtomicInteger();    // подписанные и не завершённые inner-ы
+        private final AtomicInteger startWip = new AtomicInteger();  // трамплин для запуска pending
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        private volatile boolean done;
+        private volatile boolean disposed;
+
+        MergeObserver(Observer<? super R> downstream, Function<? super T, ? extends Observable<R>> mapper,
+                      int maxConcurrency, int prefetch) {
+            this.downstream     = downstream;
+            this.mapper         = mapper;
+            this.maxConcurrency = maxConcurrency;
+            this.queue          = new MpscLinkedArrayQueue<>(prefetch);
+        }
+
+        @Override public void onSubscribe(Disposable d) { composite.add(d); }
+
+        @Override public void onNext(T item) {
+            if (done || disposed) return;
+            Observable<R> inner;
+            try { inner = mapper.apply(item); }
+            catch (Exception ex) { onError(ex); return; }
+
+            if (maxConcurrency == Integer.MAX_VALUE) {
+                active.incrementAndGet();
+                inner.subscribe(new InnerObserver<>(this));
+            } else {
+                pending.offer(inner);
+                startPending();
+            }
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            if (error.compareAndSet(null, t)) composite.dispose();
+            drain();
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            drain();
+        }
+
+        @Override public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            composite.dispose();
+            if (wip.getAndIncrement() == 0) { queue.clear(); pending.clear(); }
+        }
+
+        @Override public boolean isDisposed() { return disposed; }
+
+        /* ----------  inner-события  ---------- */
+
+        void innerNext(R item) {
+            if (wip.get() == 0 && wip.compareAndSet(0, 1)) {
+                if (!disposed) downstream.onNext(item);
+                if (wip.decrementAndGet() == 0) return;
+            } else {
+                queue.offer(item);
+                if (wip.getAndIncrement() != 0) return;
+            }
+            drainLoop();
+        }
+
+        void innerError(Throwable t) {
+            if (error.compareAndSet(null, t)) composite.dispose();
+            drain();
+        }
+
+        void innerComplete() {
+            active.decrementAndGet();
+            if (maxConcurrency != Integer.MAX_VALUE) startPending();
+            drain();
+        }
+
+        /**
+         * Подписывает ожидающие inner-ы, пока есть свободные слоты.  <br/>
+         * Счётчик {@code active} растёт раньше, чем элемент покидает {@code pending},
+         * поэтому drain никогда не увидит «пусто и ноль активных» посреди передачи.
+         */
+        private void startPending() {
+            if (startWip.getAndIncrement() != 0) return;
+            int missed = 1;
+            boolean released = false;
+            for (;;) {
+                for (;;) {
+                    if (disposed) { pending.clear(); break; }
+                    int a = active.get();
+                    if (a >= maxConcurrency || pending.isEmpty()) break;
+                    if (!active.compareAndSet(a, a + 1)) continue;
+                    Observable<R> inner = pending.poll();
+                    if (inner == null) {
+                        active.decrementAndGet();
+                        released = true;
+                        break;
                     }
+                    inner.subscribe(new InnerObserver<>(this));
+                }
+                missed = startWip.addAndGet(-missed);
+                if (missed == 0) break;
+            }
+            if (released) drain();
+        }
+
+        /* ----------  drain  ---------- */
+
+        private void drain() {
+            if (wip.getAndIncrement() == 0) drainLoop();
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (disposed) { queue.clear(); pending.clear(); return; }
+
+                    Throwable ex = error.get();
+                    if (ex != null) {
+                        disposed = true;
+                        queue.clear();
+                        pending.clear();
+                        downstream.onError(ex);
+                        return;
+                    }
+
+                    boolean d = done;
+                    boolean noPending = pending.isEmpty();      // порядок чтения важен, см. startPending
+                    int a = active.get();
+                    R item = queue.poll();
 
-                    @Override public void onComplete() {
-                        if (wip.decrementAndGet() == 0 && !composite.isDisposed()) {
+                    if (item == null) {
+                        if (d && noPending && a == 0) {
+                            disposed = true;
+                            composite.dispose();
                             downstream.onComplete();
+                            return;
                         }
+                        break;
                     }
-                });
-            }
-
-            @Override public void onError(Throwable t) {
-                composite.dispose();
-                downstream.onError(t);
+                    downstream.onNext(item);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) break;
             }
+        }
+    }
 
-            @Override public void onComplete() {
-                if (wip.decrementAndGet() == 0 && !composite.isDisposed()) {
-                    downstream.onComplete();
-                }
+    static final class InnerObserver<R> implements Observer<R> {
+
+        private final MergeObserver<?, R> parent;
+        private Disposable upstream;
+        private boolean done;
+
+        InnerObserver(MergeObserver<?, R> parent) { this.parent = parent; }
+
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            parent.composite.add(d);
+        }
+
+        @Override public void onNext(R item) { if (!done) parent.innerNext(item); }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            release();
+            parent.innerError(t);
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            release();
+            parent.innerComplete();
+        }
+
+        /** Завершившийся inner больше не держит место в composite: память ~ числу активных inner-ов. */
+        private void release() {
+            Disposable d = upstream;
+            if (d != null) {
+                upstream = null;
+                parent.composite.delete(d);
             }
-        });
+        }
     }
 }
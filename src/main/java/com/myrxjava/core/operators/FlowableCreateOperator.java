@@ -0,0 +1,230 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/** Реализация Flowable.create: эмиттер сверяет каждый onNext с запросом по выбранной стратегии. */
+public final class FlowableCreateOperator<T> implements Flowable.FlowableSource<T> {
+
+    private final Flowable.FlowableOnSubscribe<T> source;
+    private final BackpressureStrategy strategy;
+
+    public FlowableCreateOperator(Flowable.FlowableOnSubscribe<T> source, BackpressureStrategy strategy) {
+        this.source   = source;
+        this.strategy = strategy;
+    }
+
+    @Override public void subscribe(Subscriber<? super T> subscriber) {
+        BaseEmitter<T> emitter;
+        switch (strategy) {
+            case DROP:   emitter = new DropEmitter<>(subscriber);   break;
+            case LATEST: emitter = new LatestEmitter<>(subscriber); break;
+            case ERROR:  emitter = new ErrorEmitter<>(subscriber);  break;
+            default:     emitter = new BufferEmitter<>(subscriber); break;
+        }
+        subscriber.onSubscribe(emitter);
+        try {
+            source.subscribe(emitter);
+        } catch (Throwable ex) {
+            emitter.onError(ex);
+        }
+    }
+
+    /* ----------  эмиттеры  ---------- */
+
+    abstract static class BaseEmitter<T> implements FlowableEmitter<T>, Subscription {
+
+        final Subscriber<? super T> downstream;
+        final AtomicLong requested = new AtomicLong();
+        final AtomicReference<Disposable> resource = new AtomicReference<>();
+        volatile boolean cancelled;
+
+        BaseEmitter(Subscriber<? super T> downstream) { this.downstream = downstream; }
+
+        @Override public void onError(Throwable t) {
+            if (cancelled) return;
+            cancelled = true;
+            try { downstream.onError(t); } finally { disposeResource(); }
+        }
+
+        @Override public void onComplete() {
+            if (cancelled) return;
+            cancelled = true;
+            try { downstream.onComplete(); } finally { disposeResource(); }
+        }
+
+        @Override public void request(long n) {
+            if (n <= 0) { badRequest(BackpressureHelper.badRequest(n)); return; }
+            BackpressureHelper.add(requested, n);
+            onRequested();
+        }
+
+        @Override public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            disposeResource();
+            onCancelled();
+        }
+
+        @Override public long requested()      { return requested.get(); }
+        @Override public boolean isCancelled() { return cancelled; }
+
+        @Override public void setDisposable(Disposable d) {
+            Disposable old = resource.getAndSet(d);
+            if (old != null) old.dispose();
+            if (cancelled) disposeResource();
+        }
+
+        void disposeResource() {
+            Disposable d = resource.getAndSet(null);
+            if (d != null) d.dispose();
+        }
+
+        /** §3.9: источник отменяется, вниз уходит ошибка вместо оставшихся элементов. */
+        void badRequest(Throwable ex) { onError(ex); }
+
+        void onRequested() { }
+        void onCancelled() { }
+    }
+
+    /** DROP: всё, на что нет запроса, молча выбрасывается. */
+    static final class DropEmitter<T> extends BaseEmitter<T> {
+        DropEmitter(Subscriber<? super T> downstream) { super(downstream); }
+
+        @Override public void onNext(T item) {
+            if (cancelled) return;
+            if (requested.get() != 0) {
+                downstream.onNext(item);
+                BackpressureHelper.produced(requested, 1);
+            }
+        }
+    }
+
+    /** ERROR: элемент без запроса завершает поток ошибкой. */
+    static final class ErrorEmitter<T> extends BaseEmitter<T> {
+        ErrorEmitter(Subscriber<? super T> downstream) { super(downstream); }
+
+        @Override public void onNext(T item) {
+            if (cancelled) return;
+            if (requested.get() != 0) {
+                downstream.onNext(item);
+                BackpressureHelper.produced(requested, 1);
+            } else {
+                onError(new MissingBackpressureException("create: no requests for the emitted item"));
+            }
+        }
+    }
+
+    /** Общий drain для стратегий, которые придерживают элементы до запроса. */
+    abstract static class DrainEmitter<T> extends BaseEmitter<T> {
+        final AtomicInteger wip = new AtomicInteger();
+        Throwable error;
+        volatile Throwable violation;               // §3.9: уходит вниз раньше буфера, даже после done
+        volatile boolean done;
+
+        DrainEmitter(Subscriber<? super T> downstream) { super(downstream); }
+
+        @Override public void onError(Throwable t) {
+            if (done || cancelled) return;
+            error = t;
+            done  = true;
+            drain();
+        }
+
+        @Override public void onComplete() {
+            if (done || cancelled) return;
+            done = true;
+            drain();
+        }
+
+        @Override void badRequest(Throwable ex) {
+            if (cancelled) return;
+            violation = ex;
+            drain();
+        }
+
+        @Override void onRequested() { drain(); }
+        @Override void onCancelled() { if (wip.getAndIncrement() == 0) clear(); }
+
+        abstract T poll();
+        abstract boolean isEmpty();
+        abstract void clear();
+
+        final void drain() {
+            if (wip.getAndIncrement() != 0) return;
+            int missed = 1;
+            for (;;) {
+                long r = requested.get();
+                long e = 0L;
+                while (e != r) {
+                    if (cancelled) { clear(); return; }
+                    if (violation != null) { clear(); terminate(violation); return; }
+                    boolean d = done;
+                    T item = poll();
+                    boolean empty = item == null;
+                    if (d && empty) { terminate(error); return; }
+                    if (empty) break;
+                    downstream.onNext(item);
+                    e++;
+                }
+                if (e == r) {
+                    if (cancelled) { clear(); return; }
+                    if (violation != null) { clear(); terminate(violation); return; }
+                    if (done && isEmpty()) { terminate(error); return; }
+                }
+                if (e != 0) BackpressureHelper.produced(requested, e);
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+
+        private void terminate(Throwable t) {
+            cancelled = true;
+            try {
+                if (t != null) downstream.onError(t);
+                else           downstream.onComplete();
+            } finally {
+                disposeResource();
+            }
+        }
+    }
+
+    /** BUFFER: неограниченная очередь; память не ограничена, зато ничего не теряется. */
+    static final class BufferEmitter<T> extends DrainEmitter<T> {
+        private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+
+        BufferEmitter(Subscriber<? super T> downstream) { super(downstream); }
+
+        @Override public void onNext(T item) {
+            if (done || cancelled) return;
+            queue.offer(item);
+            drain();
+        }
+
+        @Override T poll()        { return queue.poll(); }
+        @Override boolean isEmpty() { return queue.isEmpty(); }
+        @Override void clear()    { queue.clear(); }
+    }
+
+    /** LATEST: незапрошенный элемент вытесняет предыдущий незапрошенный. */
+    static final class LatestEmitter<T> extends DrainEmitter<T> {
+        private final AtomicReference<T> latest = new AtomicReference<>();
+
+        LatestEmitter(Subscriber<? super T> downstream) { super(downstream); }
+
+        @Override public void onNext(T item) {
+            if (done || cancelled) return;
+            latest.set(item);
+            drain();
+        }
+
+        @Override T poll()        { return latest.getAndSet(null); }
+        @Override boolean isEmpty() { return latest.get() == null; }
+        @Override void clear()    { latest.set(null); }
+    }
+}
@@ -0,0 +1,35 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+import com.myrxjava.functions.Predicate;
+
+/** Реализация filter для Flowable: за каждый отброшенный элемент дозапрашивает один у источника. */
+public final class FlowableFilterOperator<T> implements Flowable.FlowableSource<T> {
+
+    private final Flowable<T> source;
+    private final Predicate<? super T> predicate;
+
+    public FlowableFilterOperator(Flowable<T> src, Predicate<? super T> p) {
+        this.source    = src;
+        this.predicate = p;
+    }
+
+    @Override public void subscribe(Subscriber<? super T> subscriber) {
+        source.subscribe(new Subscriber<T>() {
+            Subscription upstream;
+            boolean done;
+
+            @Override public void onSubscribe(Subscription s) { upstream = s; subscriber.onSubscribe(s); }
+            @Override public void onNext(T item) {
+                if (done) return;
+                boolean pass;
+                try { pass = predicate.test(item); }
+                catch (Exception ex) { upstream.cancel(); onError(ex); return; }
+                if (pass) subscriber.onNext(item);
+                else      upstream.request(1);
+            }
+            @Override public void onError(Throwable t) { if (!done) { done = true; subscriber.onError(t); } }
+            @Override public void onComplete()         { if (!done) { done = true; subscriber.onComplete(); } }
+        });
+    }
+}
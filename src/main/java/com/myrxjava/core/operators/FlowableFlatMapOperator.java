@@ -0,0 +1,256 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+import com.myrxjava.core.queue.MpscLinkedArrayQueue;
+import com.myrxjava.core.queue.SimpleQueue;
+import com.myrxjava.core.queue.SpscArrayQueue;
+import com.myrxjava.functions.Function;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Реализация flatMap для Flowable.  <br/>
+ * Одновременно активно не больше {@code maxConcurrency} внутренних потоков, у каждого
+ * запрошено не больше {@code prefetch} элементов; всё сливается одним drain-циклом.  <br/>
+ * Живые inner-ы лежат в {@link CompositeDisposable} (O(1) на подписку и завершение, нужен для отмены),
+ * а drain обходит не их все, а MPSC-очередь готовых: inner встаёт туда при первом событии
+ * после того, как drain его опустошил. Работа на элемент не зависит от числа inner-ов.
+ */
+public final class FlowableFlatMapOperator<T, R> implements Flowable.FlowableSource<R> {
+
+    private final Flowable<T> source;
+    private final Function<? super T, ? extends Flowable<R>> mapper;
+    private final int maxConcurrency;
+    private final int prefetch;
+
+    public FlowableFlatMapOperator(Flowable<T> src, Function<? super T, ? extends Flowable<R>> mapper,
+                                   int maxConcurrency, int prefetch) {
+        this.source         = src;
+        this.mapper         = mapper;
+        this.maxConcurrency = maxConcurrency;
+        this.prefetch       = prefetch;
+    }
+
+    @Override public void subscribe(Subscriber<? super R> subscriber) {
+        source.subscribe(new MergeSubscriber<>(subscriber, mapper, maxConcurrency, prefetch));
+    }
+
+    static final class MergeSubscriber<T, R> implements Subscriber<T>, Subscription {
+
+        private final Subscriber<? super R> downstream;
+        private final Function<? super T, ? extends Flowable<R>> mapper;
+        private final int maxConcurrency;
+        private final int prefetch;
+
+        private final CompositeDisposable inners = new CompositeDisposable();     // живые inner-ы, для отмены
+        private final SimpleQueue<InnerSubscriber<R>> ready = new MpscLinkedArrayQueue<>(16); // inner-ы с новыми событиями
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        private Subscription upstream;
+        private volatile boolean done;
+        private volatile boolean cancelled;
+
+        /* состояние drain-цикла, трогает только он */
+        private long emitted;
+        private InnerSubscriber<R> stalled;         // упёрся в запрос, не опустошив очередь; идёт первым
+
+        MergeSubscriber(Subscriber<? super R> downstream, Function<? super T, ? extends Flowable<R>> mapper,
+                        int maxConcurrency, int prefetch) {
+            this.downstream     = downstream;
+            this.mapper         = mapper;
+            this.maxConcurrency = maxConcurrency;
+            this.prefetch       = prefetch;
+        }
+
+        @Override public void onSubscribe(Subscription s) {
+            upstream = s;
+            downstream.onSubscribe(this);
+            s.request(maxConcurrency == Integer.MAX_VALUE ? Long.MAX_VALUE : maxConcurrency);
+        }
+
+        @Override public void onNext(T item) {
+            if (done) return;
+            Flowable<R> inner;
+            try { inner = mapper.apply(item); }
+            catch (Exception ex) { upstream.cancel(); onError(ex); return; }
+
+            InnerSubscriber<R> in = new InnerSubscriber<>(this, prefetch);
+            if (!inners.add(in)) return;            // уже отменены — add сам отменил inner
+            inner.subscribe(in);
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            error.compareAndSet(null, t);
+            done = true;
+            drain();
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            drain();
+        }
+
+        @Override public void request(long n) {
+            if (n <= 0) { innerError(BackpressureHelper.badRequest(n)); return; }
+            BackpressureHelper.add(requested, n);
+            drain();
+        }
+
+        @Override public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            upstream.cancel();
+            inners.dispose();
+            if (wip.getAndIncrement() == 0) clear();
+        }
+
+        void innerError(Throwable t) {
+            if (error.compareAndSet(null, t)) upstream.cancel();
+            drain();
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() == 0) drainLoop();
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            long e = emitted;
+            for (;;) {
+                if (cancelled) { clear(); return; }
+                Throwable ex = error.get();
+                if (ex != null) {
+                    cancelled = true;
+                    inners.dispose();
+                    clear();
+                    downstream.onError(ex);
+                    return;
+                }
+
+                boolean mainDone = done;
+                long r = requested.get();
+                int finished = 0;
+                for (;;) {
+                    InnerSubscriber<R> in = stalled;
+                    if (in == null) in = ready.poll();
+                    if (in == null) break;
+                    stalled = null;
+
+                    int signals = in.signals.get();
+                    boolean innerDone = in.done;            // читаем до poll, иначе потеряем хвост
+                    while (e != r) {
+                        if (cancelled) { clear(); return; }
+                        R item = in.queue.poll();
+                        if (item == null) break;
+                        downstream.onNext(item);
+                        e++;
+                        in.consumedOne();
+                    }
+                    if (e == r && !in.queue.isEmpty()) {
+                        stalled = in;
+                        break;
+                    }
+                    if (innerDone) {
+                        inners.delete(in);
+                        finished++;
+                    } else if (in.signals.addAndGet(-signals) != 0) {
+                        ready.offer(in);                    // пока выгребали, пришло ещё
+                    }
+                }
+
+                if (mainDone && inners.size() == 0 && error.get() == null) {
+                    cancelled = true;
+                    downstream.onComplete();
+                    return;
+                }
+                if (finished != 0 && !mainDone && maxConcurrency != Integer.MAX_VALUE) {
+                    upstream.request(finished);
+                }
+
+                emitted = e;
+                if (finished != 0) continue;          // освободились слоты — проверим ещё раз
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+
+        /** Очереди inner-ов, ждущих drain; у остальных они пусты. */
+        private void clear() {
+            InnerSubscriber<R> in = stalled;
+            stalled = null;
+            if (in != null) in.queue.clear();
+            while ((in = ready.poll()) != null) in.queue.clear();
+        }
+    }
+
+    static final class InnerSubscriber<R> implements Subscriber<R>, Disposable {
+
+        private final MergeSubscriber<?, R> parent;
+        private final int limit;
+        final SpscArrayQueue<R> queue;
+        private final AtomicReference<Subscription> upstream = new AtomicReference<>();
+        private final int prefetch;
+        private int consumed;                       // трогает только drain-цикл родителя
+        final AtomicInteger signals = new AtomicInteger();    // 0 → 1: inner встаёт в ready родителя
+        volatile boolean done;
+
+        InnerSubscriber(MergeSubscriber<?, R> parent, int prefetch) {
+            this.parent   = parent;
+            this.prefetch = prefetch;
+            this.limit    = prefetch - (prefetch >> 2);
+            this.queue    = new SpscArrayQueue<>(prefetch);
+        }
+
+        @Override public void onSubscribe(Subscription s) {
+            if (!upstream.compareAndSet(null, s)) { s.cancel(); return; }
+            s.request(prefetch);
+        }
+
+        @Override public void onNext(R item) {
+            if (done) return;
+            if (!queue.offer(item)) {
+                onError(new MissingBackpressureException("flatMap: inner queue is full"));
+                return;
+            }
+            signal();
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            parent.innerError(t);
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            signal();
+        }
+
+        private void signal() {
+            if (signals.getAndIncrement() == 0) parent.ready.offer(this);
+            parent.drain();
+        }
+
+        void consumedOne() {
+            if (++consumed == limit) {
+                consumed = 0;
+                Subscription s = upstream.get();
+                if (s != null) s.request(limit);
+            }
+        }
+
+        @Override public void dispose() {
+            Subscription s = upstream.getAndSet(BackpressureHelper.CANCELLED);
+            if (s != null && s != BackpressureHelper.CANCELLED) s.cancel();
+        }
+
+        @Override public boolean isDisposed() { return upstream.get() == BackpressureHelper.CANCELLED; }
+    }
+}
@@ -0,0 +1,34 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+import com.myrxjava.functions.Function;
+
+/** Реализация map для Flowable: запросы проходят к источнику без изменений. */
+public final class FlowableMapOperator<T, R> implements Flowable.FlowableSource<R> {
+
+    private final Flowable<T> source;
+    private final Function<? super T, ? extends R> mapper;
+
+    public FlowableMapOperator(Flowable<T> src, Function<? super T, ? extends R> mapper) {
+        this.source = src;
+        this.mapper = mapper;
+    }
+
+    @Override public void subscribe(Subscriber<? super R> subscriber) {
+        source.subscribe(new Subscriber<T>() {
+            Subscription upstream;
+            boolean done;
+
+            @Override public void onSubscribe(Subscription s) { upstream = s; subscriber.onSubscribe(s); }
+            @Override public void onNext(T item) {
+                if (done) return;
+                R r;
+                try { r = mapper.apply(item); }
+                catch (Exception ex) { upstream.cancel(); onError(ex); return; }
+                subscriber.onNext(r);
+            }
+            @Override public void onError(Throwable t) { if (!done) { done = true; subscriber.onError(t); } }
+            @Override public void onComplete()         { if (!done) { done = true; subscriber.onComplete(); } }
+        });
+    }
+}
@@ -0,0 +1,171 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+import com.myrxjava.core.queue.SpscArrayQueue;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Реализация observeOn для Flowable.  <br/>
+ * У источника запрашивается не больше {@code prefetch} элементов; после выдачи
+ * трёх четвертей буфера запрос пополняется, так что очередь никогда не переполняется.
+ */
+public final class FlowableObserveOnOperator<T> implements Flowable.FlowableSource<T> {
+
+    private final Flowable<T> source;
+    private final Scheduler scheduler;
+    private final int prefetch;
+
+    public FlowableObserveOnOperator(Flowable<T> src, Scheduler scheduler, int prefetch) {
+        this.source    = src;
+        this.scheduler = scheduler;
+        this.prefetch  = prefetch;
+    }
+
+    @Override public void subscribe(Subscriber<? super T> subscriber) {
+        source.subscribe(new ObserveOnSubscriber<>(subscriber, scheduler, prefetch));
+    }
+
+    static final class ObserveOnSubscriber<T> implements Subscriber<T>, Subscription, Runnable {
+
+        private final Subscriber<? super T> downstream;
+        private final Scheduler.Worker worker;
+        private final int prefetch;
+        private final int limit;
+        private final SpscArrayQueue<T> queue;
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+
+        private Subscription upstream;
+        private Throwable error;
+        private volatile Throwable violation;       // §3.9: уходит вниз раньше очереди, даже после done
+        private volatile boolean done;
+        private volatile boolean cancelled;
+
+        /* состояние drain-цикла, трогает только он */
+        private long emitted;
+        private int consumed;
+
+        ObserveOnSubscriber(Subscriber<? super T> downstream, Scheduler scheduler, int prefetch) {
+            this.downstream = downstream;
+            this.worker     = scheduler.createWorker();
+            this.prefetch   = prefetch;
+            this.limit      = prefetch - (prefetch >> 2);
+            this.queue      = new SpscArrayQueue<>(prefetch);
+        }
+
+        @Override public void onSubscribe(Subscription s) {
+            upstream = s;
+            downstream.onSubscribe(this);
+            s.request(prefetch);
+        }
+
+        @Override public void onNext(T item) {
+            if (done) return;
+            if (!queue.offer(item)) {
+                upstream.cancel();
+                error = new MissingBackpressureException("observeOn: queue is full");
+                done  = true;
+            }
+            schedule();
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            error = t;
+            done  = true;
+            schedule();
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            schedule();
+        }
+
+        @Override public void request(long n) {
+            if (n <= 0) {
+                if (cancelled) return;
+                violation = BackpressureHelper.badRequest(n);
+                upstream.cancel();
+                schedule();
+                return;
+            }
+            BackpressureHelper.add(requested, n);
+            schedule();
+        }
+
+        @Override public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            upstream.cancel();
+            worker.dispose();
+            if (wip.getAndIncrement() == 0) queue.clear();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() != 0) return;
+            try {
+                worker.execute(this);
+            } catch (RejectedExecutionException ex) {
+                cancelled = true;
+                worker.dispose();
+                upstream.cancel();
+                queue.clear();
+                downstream.onError(ex);
+            }
+        }
+
+        @Override public void run() {
+            int missed = 1;
+            long e = emitted;
+            int c = consumed;
+            for (;;) {
+                long r = requested.get();
+                while (e != r) {
+                    boolean d = done;
+                    T item = queue.poll();
+                    boolean empty = item == null;
+                    if (checkTerminated(d, empty)) return;
+                    if (empty) break;
+
+                    downstream.onNext(item);
+                    e++;
+                    if (++c == limit) {
+                        c = 0;
+                        upstream.request(limit);
+                    }
+                }
+                if (e == r && checkTerminated(done, queue.isEmpty())) return;
+
+                emitted  = e;
+                consumed = c;
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+
+        private boolean checkTerminated(boolean d, boolean empty) {
+            if (cancelled) { queue.clear(); return true; }
+            Throwable v = violation;
+            if (v != null) {
+                cancelled = true;
+                worker.dispose();
+                queue.clear();
+                downstream.onError(v);
+                return true;
+            }
+            if (d && empty) {
+                cancelled = true;
+                worker.dispose();
+                Throwable t = error;
+                if (t != null) downstream.onError(t);
+                else           downstream.onComplete();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+
+/** Источник Observable.fromArray: синхронный и конечный, поддерживает SYNC-fusion. */
+public final class FromArraySource<T> implements Observable.ObservableOnSubscribe<T>, Fuseable {
+
+    private final T[] array;
+
+    public FromArraySource(T[] array) { this.array = array; }
+
+    @Override public void subscribe(Observer<? super T> observer) {
+        ArrayDisposable<T> d = new ArrayDisposable<>(observer, array);
+        observer.onSubscribe(d);
+        if (!d.fused) d.run();
+    }
+
+    static final class ArrayDisposable<T> implements QueueDisposable<T> {
+
+        private final Observer<? super T> downstream;
+        private final T[] array;
+        private int index;
+        boolean fused;
+        private volatile boolean disposed;
+
+        ArrayDisposable(Observer<? super T> downstream, T[] array) {
+            this.downstream = downstream;
+            this.array      = array;
+        }
+
+        void run() {
+            T[] a = array;
+            int n = a.length;
+            for (int i = 0; i < n && !disposed; i++) {
+                T v = a[i];
+                if (v == null) {
+                    disposed = true;
+                    downstream.onError(new NullPointerException("The element at index " + i + " is null"));
+                    return;
+                }
+                try { downstream.onNext(v); }
+                catch (Throwable ex) { disposed = true; downstream.onError(ex); return; }
+            }
+            if (!disposed) {
+                disposed = true;
+                downstream.onComplete();
+            }
+        }
+
+        @Override public int requestFusion(int mode) {
+            if ((mode & SYNC) != 0) {
+                fused = true;
+                return SYNC;
+            }
+            return NONE;
+        }
+
+        @Override public T poll() {
+            int i = index;
+            if (i == array.length) return null;
+            index = i + 1;
+            T v = array[i];
+            if (v == null) throw new NullPointerException("The element at index " + i + " is null");
+            return v;
+        }
+
+        @Override public boolean offer(T value) { throw new UnsupportedOperationException("Should not be called"); }
+        @Override public boolean isEmpty()      { return index == array.length; }
+        @Override public void clear()           { index = array.length; }
+        @Override public long sizeHint()        { return array.length - index; }
+
+        @Override public void dispose()       { disposed = true; }
+        @Override public boolean isDisposed() { return disposed; }
+    }
+}
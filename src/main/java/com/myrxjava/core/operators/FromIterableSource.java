@@ -0,0 +1,116 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Источник Observable.fromIterable: синхронный, поддерживает SYNC-fusion.  <br/>
+ * Для {@link Collection} размер известен заранее и отдаётся потребителю через {@link QueueDisposable#sizeHint()}.
+ */
+public final class FromIterableSource<T> implements Observable.ObservableOnSubscribe<T>, Fuseable {
+
+    private final Iterable<? extends T> iterable;
+
+    public FromIterableSource(Iterable<? extends T> iterable) { this.iterable = iterable; }
+
+    @Override public void subscribe(Observer<? super T> observer) {
+        Iterator<? extends T> it;
+        try {
+            it = iterable.iterator();
+        } catch (Throwable ex) {
+            EmptySource.error(observer, ex);
+            return;
+        }
+        long size = iterable instanceof Collection ? ((Collection<?>) iterable).size() : -1;
+        IteratorDisposable<T> d = new IteratorDisposable<>(observer, it, size, null);
+        observer.onSubscribe(d);
+        if (!d.fused) d.run();
+    }
+
+    /** Итератор как QueueDisposable; {@code resource} закрывается по завершении или отписке. */
+    static final class IteratorDisposable<T> implements QueueDisposable<T> {
+
+        private final Observer<? super T> downstream;
+        private final Iterator<? extends T> it;
+        private final AutoCloseable resource;
+        private long remaining;                             // -1 — неизвестно
+        boolean fused;
+        private volatile boolean disposed;
+
+        IteratorDisposable(Observer<? super T> downstream, Iterator<? extends T> it, long size, AutoCloseable resource) {
+            this.downstream = downstream;
+            this.it         = it;
+            this.remaining  = size;
+            this.resource   = resource;
+        }
+
+        void run() {
+            Iterator<? extends T> it = this.it;
+            try {
+                while (!disposed) {
+                    if (!it.hasNext()) {
+                        if (!disposed) {
+                            disposed = true;
+                            close();
+                            downstream.onComplete();
+                        }
+                        return;
+                    }
+                    T v = it.next();
+                    if (v == null) throw new NullPointerException("The iterator returned a null value");
+                    if (remaining > 0) remaining--;
+                    downstream.onNext(v);
+                }
+            } catch (Throwable ex) {
+                if (disposed) return;
+                disposed = true;
+                close();
+                downstream.onError(ex);
+            }
+        }
+
+        @Override public int requestFusion(int mode) {
+            if ((mode & SYNC) != 0) {
+                fused = true;
+                return SYNC;
+            }
+            return NONE;
+        }
+
+        @Override public T poll() {
+            if (!it.hasNext()) {
+                close();
+                return null;
+            }
+            T v = it.next();
+            if (v == null) throw new NullPointerException("The iterator returned a null value");
+            if (remaining > 0) remaining--;
+            return v;
+        }
+
+        @Override public boolean offer(T value) { throw new UnsupportedOperationException("Should not be called"); }
+        @Override public boolean isEmpty()      { return !it.hasNext(); }
+        @Override public void clear()           { close(); }
+        @Override public long sizeHint()        { return remaining; }
+
+        @Override public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            close();
+        }
+
+        @Override public boolean isDisposed() { return disposed; }
+
+        private void close() {
+            if (resource == null) return;
+            try {
+                resource.close();
+            } catch (Throwable ex) {
+                Thread t = Thread.currentThread();
+                t.getUncaughtExceptionHandler().uncaughtException(t, ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Источник Observable.fromStream.  <br/>
+ * Stream одноразовый: повторная подписка получает {@link IllegalStateException}. Поток закрывается
+ * по завершении и при отписке, так что {@code Files.lines(...)} и подобные освобождают файл сразу.
+ */
+public final class FromStreamSource<T> implements Observable.ObservableOnSubscribe<T>, Fuseable {
+
+    private final Stream<? extends T> stream;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    public FromStreamSource(Stream<? extends T> stream) { this.stream = stream; }
+
+    @Override public void subscribe(Observer<? super T> observer) {
+        if (!subscribed.compareAndSet(false, true)) {
+            EmptySource.error(observer, new IllegalStateException("Stream can be consumed only once"));
+            return;
+        }
+        FromIterableSource.IteratorDisposable<T> d;
+        try {
+            Spliterator<? extends T> sp = stream.spliterator();
+            d = new FromIterableSource.IteratorDisposable<>(observer, Spliterators.iterator(sp),
+                                                           sp.getExactSizeIfKnown(), stream);
+        } catch (Throwable ex) {
+            stream.close();
+            EmptySource.error(observer, ex);
+            return;
+        }
+        observer.onSubscribe(d);
+        if (!d.fused) d.run();
+    }
+}
@@ -0,0 +1,54 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+
+/** Источник Observable.just: один элемент; поддерживает SYNC-fusion. */
+public final class JustSource<T> implements Observable.ObservableOnSubscribe<T>, Fuseable {
+
+    private final T item;
+
+    public JustSource(T item) { this.item = item; }
+
+    @Override public void subscribe(Observer<? super T> observer) {
+        ScalarDisposable<T> d = new ScalarDisposable<>(item);
+        observer.onSubscribe(d);
+        if (d.fused || d.disposed) return;
+        try { observer.onNext(item); }
+        catch (Throwable ex) { d.disposed = true; observer.onError(ex); return; }
+        if (!d.disposed) {
+            d.disposed = true;
+            observer.onComplete();
+        }
+    }
+
+    static final class ScalarDisposable<T> implements QueueDisposable<T> {
+
+        private T item;                                     // null — уже отдан
+        boolean fused;
+        volatile boolean disposed;
+
+        ScalarDisposable(T item) { this.item = item; }
+
+        @Override public int requestFusion(int mode) {
+            if ((mode & SYNC) != 0) {
+                fused = true;
+                return SYNC;
+            }
+            return NONE;
+        }
+
+        @Override public T poll() {
+            T v = item;
+            item = null;
+            return v;
+        }
+
+        @Override public boolean offer(T value) { throw new UnsupportedOperationException("Should not be called"); }
+        @Override public boolean isEmpty()      { return item == null; }
+        @Override public void clear()           { item = null; }
+        @Override public long sizeHint()        { return item == null ? 0 : 1; }
+
+        @Override public void dispose()       { disposed = true; }
+        @Override public boolean isDisposed() { return disposed; }
+    }
+}
@@ -0,0 +1,72 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Режет поток байтовых блоков на строки по {@code '\n'} (завершающий {@code '\r'} отбрасывается).  <br/>
+ * Строка, целиком лежащая внутри блока, отдаётся его срезом без копирования; копируется только
+ * строка, разорванная границей блоков. Декодирование в текст — дело потребителя.
+ */
+public final class LineSplitOperator implements Observable.ObservableOnSubscribe<ByteBuffer> {
+
+    private final Observable<ByteBuffer> source;
+
+    public LineSplitOperator(Observable<ByteBuffer> src) { this.source = src; }
+
+    @Override public void subscribe(Observer<? super ByteBuffer> observer) {
+        source.subscribe(new Observer<ByteBuffer>() {
+            ByteBuffer carry;                               // начало строки из прошлых блоков, режим записи
+
+            @Override public void onSubscribe(Disposable d) { observer.onSubscribe(d); }
+
+            @Override public void onNext(ByteBuffer chunk) {
+                int start = chunk.position();
+                int limit = chunk.limit();
+                for (int i = start; i < limit; i++) {
+                    if (chunk.get(i) != '\n') continue;
+                    if (carry != null) {
+                        ByteBuffer line = append(carry, chunk, start, i);
+                        carry = null;
+                        observer.onNext(trim(line.flip()));
+                    } else {
+                        observer.onNext(trim(chunk.slice(start, i - start)));
+                    }
+                    start = i + 1;
+                }
+                if (start < limit) carry = append(carry, chunk, start, limit);
+            }
+
+            @Override public void onError(Throwable t) {
+                carry = null;
+                observer.onError(t);
+            }
+
+            @Override public void onComplete() {
+                ByteBuffer tail = carry;
+                carry = null;
+                if (tail != null && tail.position() > 0) observer.onNext(trim(tail.flip()));
+                observer.onComplete();
+            }
+        });
+    }
+
+    /** Дописывает {@code src[from, to)} в {@code carry}, при нехватке места — в новый буфер вдвое больше. */
+    private static ByteBuffer append(ByteBuffer carry, ByteBuffer src, int from, int to) {
+        int n = to - from;
+        if (carry == null) {
+            carry = ByteBuffer.allocate(Math.max(n, 64));
+        } else if (carry.remaining() < n) {
+            ByteBuffer bigger = ByteBuffer.allocate(Math.max(carry.capacity() * 2, carry.position() + n));
+            carry = bigger.put(carry.flip());
+        }
+        return carry.put(carry.position(), src, from, n).position(carry.position() + n);
+    }
+
+    private static ByteBuffer trim(ByteBuffer line) {
+        int end = line.limit();
+        if (end > line.position() && line.get(end - 1) == '\r') line.limit(end - 1);
+        return line;
+    }
+}
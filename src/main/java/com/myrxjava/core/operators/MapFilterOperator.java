@@ -0,0 +1,88 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+import com.myrxjava.functions.Function;
+import com.myrxjava.functions.Predicate;
+
+import java.util.Arrays;
+
+/**
+ * Реализация map и filter со слиянием на этапе сборки.  <br/>
+ * Подряд идущие {@code map}/{@code filter} не оборачивают друг друга, а копят функции
+ * в одной стадии: на каждый элемент — один onNext, один цикл и один try/catch.
+ * Каждый промежуточный Observable хранит свою копию цепочки и подписывается независимо.
+ */
+public final class MapFilterOperator<T, R> implements Observable.ObservableOnSubscribe<R> {
+
+    private final Observable<T> source;
+    private final Object[] stages;          // Function или Predicate
+    private final boolean[] filters;        // filters[i] — stages[i] это Predicate
+
+    private MapFilterOperator(Observable<T> src, Object[] stages, boolean[] filters) {
+        this.source  = src;
+        this.stages  = stages;
+        this.filters = filters;
+    }
+
+    public static <T, R> MapFilterOperator<T, R> map(Observable<T> src, Function<? super T, ? extends R> mapper) {
+        return new MapFilterOperator<>(src, new Object[] { mapper }, new boolean[] { false });
+    }
+
+    public static <T> MapFilterOperator<T, T> filter(Observable<T> src, Predicate<? super T> p) {
+        return new MapFilterOperator<>(src, new Object[] { p }, new boolean[] { true });
+    }
+
+    /** Та же цепочка плюс ещё один map в конце. */
+    public <V> MapFilterOperator<T, V> thenMap(Function<? super R, ? extends V> mapper) {
+        return new MapFilterOperator<>(source, append(stages, mapper), append(filters, false));
+    }
+
+    /** Та же цепочка плюс ещё один filter в конце. */
+    public MapFilterOperator<T, R> thenFilter(Predicate<? super R> p) {
+        return new MapFilterOperator<>(source, append(stages, p), append(filters, true));
+    }
+
+    /** Число слитых стадий. */
+    public int stageCount() { return stages.length; }
+
+    @Override public void subscribe(Observer<? super R> observer) {
+        final Object[] stages = this.stages;
+        final boolean[] filters = this.filters;
+        final int n = stages.length;
+
+        source.subscribe(new Observer<T>() {
+            @Override public void onSubscribe(Disposable d) { observer.onSubscribe(d); }
+
+            @SuppressWarnings("unchecked")
+            @Override public void onNext(T item) {
+                Object v = item;
+                try {
+                    for (int i = 0; i < n; i++) {
+                        if (filters[i]) {
+                            if (!((Predicate<Object>) stages[i]).test(v)) return;
+                        } else {
+                            v = ((Function<Object, Object>) stages[i]).apply(v);
+                        }
+                    }
+                    observer.onNext((R) v);
+                }
+                catch (Exception ex) { observer.onError(ex); }
+            }
+
+            @Override public void onError(Throwable t) { observer.onError(t); }
+            @Override public void onComplete()         { observer.onComplete(); }
+        });
+    }
+
+    private static Object[] append(Object[] a, Object v) {
+        Object[] b = Arrays.copyOf(a, a.length + 1);
+        b[a.length] = v;
+        return b;
+    }
+
+    private static boolean[] append(boolean[] a, boolean v) {
+        boolean[] b = Arrays.copyOf(a, a.length + 1);
+        b[a.length] = v;
+        return b;
+    }
+}
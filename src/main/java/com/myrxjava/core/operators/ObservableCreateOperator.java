@@ -0,0 +1,180 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+import com.myrxjava.core.queue.MpscLinkedArrayQueue;
+import com.myrxjava.core.queue.SimpleQueue;
+import com.myrxjava.functions.Cancellable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Реализация Observable.fromEmitter.  <br/>
+ * Эмиттер сам соблюдает контракт Observer, поэтому источник подписывается без SafeObserver;
+ * отписка видна источнику через {@link ObservableEmitter#isDisposed()} и освобождает его ресурс.
+ */
+public final class ObservableCreateOperator<T> implements Observable.ObservableOnSubscribe<T>, Fuseable {
+
+    private final Observable.EmitterOnSubscribe<T> source;
+
+    public ObservableCreateOperator(Observable.EmitterOnSubscribe<T> source) { this.source = source; }
+
+    @Override public void subscribe(Observer<? super T> observer) {
+        CreateEmitter<T> emitter = new CreateEmitter<>(observer);
+        observer.onSubscribe(emitter);
+        try {
+            source.subscribe(emitter);
+        } catch (Throwable ex) {
+            emitter.onError(ex);
+        }
+    }
+
+    /* ----------  эмиттер  ---------- */
+
+    static final class CreateEmitter<T> implements ObservableEmitter<T>, Disposable {
+
+        private final Observer<? super T> downstream;
+        private final AtomicReference<Disposable> resource = new AtomicReference<>();
+        private volatile boolean disposed;
+
+        CreateEmitter(Observer<? super T> downstream) { this.downstream = downstream; }
+
+        @Override public void onNext(T item) {
+            if (item == null) { onError(new NullPointerException("onNext called with null")); return; }
+            if (!disposed) downstream.onNext(item);
+        }
+
+        @Override public void onError(Throwable t) {
+            if (disposed) return;
+            disposed = true;
+            try { downstream.onError(t != null ? t : new NullPointerException("onError called with null")); }
+            finally { disposeResource(); }
+        }
+
+        @Override public void onComplete() {
+            if (disposed) return;
+            disposed = true;
+            try { downstream.onComplete(); } finally { disposeResource(); }
+        }
+
+        @Override public void setDisposable(Disposable d) {
+            Disposable old = resource.getAndSet(d);
+            if (old != null) old.dispose();
+            if (disposed) disposeResource();
+        }
+
+        @Override public void setCancellable(Cancellable c) { setDisposable(new CancellableDisposable(c)); }
+
+        @Override public ObservableEmitter<T> serialize() { return new SerializedEmitter<>(this); }
+
+        @Override public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            disposeResource();
+        }
+
+        @Override public boolean isDisposed() { return disposed; }
+
+        private void disposeResource() {
+            Disposable d = resource.getAndSet(null);
+            if (d != null) d.dispose();
+        }
+    }
+
+    /** Cancellable как Disposable: действие выполняется один раз, исключение уходит в uncaught-обработчик. */
+    static final class CancellableDisposable implements Disposable {
+
+        private final AtomicReference<Cancellable> cancellable;
+
+        CancellableDisposable(Cancellable c) { this.cancellable = new AtomicReference<>(c); }
+
+        @Override public void dispose() {
+            Cancellable c = cancellable.getAndSet(null);
+            if (c == null) return;
+            try {
+                c.cancel();
+            } catch (Throwable ex) {
+                Thread t = Thread.currentThread();
+                t.getUncaughtExceptionHandler().uncaughtException(t, ex);
+            }
+        }
+
+        @Override public boolean isDisposed() { return cancellable.get() == null; }
+    }
+
+    /**
+     * Эмиттер для нескольких потоков-производителей.  <br/>
+     * Свободный вызов отдаёт элемент сразу (fast-path), занятый — кладёт в MPSC-очередь,
+     * которую выгребает тот, кто держит wip; первая ошибка выигрывает, остальные события после неё отбрасываются.
+     */
+    static final class SerializedEmitter<T> implements ObservableEmitter<T> {
+
+        private final CreateEmitter<T> emitter;
+        private final SimpleQueue<T> queue = new MpscLinkedArrayQueue<>(16);
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private volatile boolean done;
+
+        SerializedEmitter(CreateEmitter<T> emitter) { this.emitter = emitter; }
+
+        @Override public void onNext(T item) {
+            if (done || emitter.isDisposed()) return;
+            if (item == null) { onError(new NullPointerException("onNext called with null")); return; }
+            if (wip.get() == 0 && wip.compareAndSet(0, 1)) {
+                emitter.onNext(item);
+                if (wip.decrementAndGet() == 0) return;
+            } else {
+                queue.offer(item);
+                if (wip.getAndIncrement() != 0) return;
+            }
+            drainLoop();
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done || emitter.isDisposed()) return;
+            if (t == null) t = new NullPointerException("onError called with null");
+            if (!error.compareAndSet(null, t)) return;
+            done = true;
+            drain();
+        }
+
+        @Override public void onComplete() {
+            if (done || emitter.isDisposed()) return;
+            done = true;
+            drain();
+        }
+
+        @Override public boolean isDisposed()               { return emitter.isDisposed(); }
+        @Override public void setDisposable(Disposable d)    { emitter.setDisposable(d); }
+        @Override public void setCancellable(Cancellable c)  { emitter.setCancellable(c); }
+        @Override public ObservableEmitter<T> serialize()    { return this; }
+
+        private void drain() {
+            if (wip.getAndIncrement() == 0) drainLoop();
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (emitter.isDisposed()) { queue.clear(); return; }
+                    Throwable ex = error.get();
+                    if (ex != null) {
+                        queue.clear();
+                        emitter.onError(ex);
+                        return;
+                    }
+                    boolean d = done;
+                    T item = queue.poll();
+                    if (item == null) {
+                        if (d) emitter.onComplete();
+                        break;
+                    }
+                    emitter.onNext(item);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+import com.myrxjava.core.queue.MpscLinkedArrayQueue;
+import com.myrxjava.core.queue.SimpleQueue;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Реализация observeOn: очередь на каждую подписку + drain-цикл по счётчику wip.  <br/>
+ * Один запланированный таск выгребает всё, что успело накопиться, поэтому
+ * элементы доставляются строго по порядку и никогда не параллельно. Drain идёт через
+ * {@link Scheduler.Worker} подписки, так что на event-loop планировщике все её события — на одном потоке.
+ * Синхронные источники ({@link QueueDisposable#SYNC}) читаются напрямую, без своей очереди.
+ */
+public final class ObserveOnOperator<T> implements Observable.ObservableOnSubscribe<T> {
+
+    private final Observable<T> source;
+    private final Scheduler scheduler;
+    private final int bufferSize;
+
+    /** @param bufferSize размер блока внутренней очереди */
+    public ObserveOnOperator(Observable<T> src, Scheduler scheduler, int bufferSize) {
+        this.source     = src;
+        this.scheduler  = scheduler;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override public void subscribe(Observer<? super T> observer) {
+        source.subscribe(new ObserveOnObserver<>(observer, scheduler, bufferSize));
+    }
+
+    static final class ObserveOnObserver<T> implements Observer<T>, Disposable, Runnable {
+
+        private final Observer<? super T> downstream;
+        private final Scheduler.Worker worker;
+        private final int bufferSize;
+        private final AtomicInteger wip = new AtomicInteger();   // >0 — drain запланирован или идёт
+
+        private SimpleQueue<T> queue;
+        private boolean sync;                                   // queue — это сам источник
+        private Disposable upstream;
+        private Throwable error;                                // публикуется через volatile done
+        private volatile boolean done;
+        private volatile boolean disposed;
+
+        ObserveOnObserver(Observer<? super T> downstream, Scheduler scheduler, int bufferSize) {
+            this.downstream = downstream;
+            this.worker     = scheduler.createWorker();
+            this.bufferSize = bufferSize;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            if (d instanceof QueueDisposable) {
+                QueueDisposable<T> qd = (QueueDisposable<T>) d;
+                if (qd.requestFusion(QueueDisposable.SYNC | QueueDisposable.BOUNDARY) == QueueDisposable.SYNC) {
+                    queue = qd;
+                    sync  = true;
+                    done  = true;
+                    downstream.onSubscribe(this);
+                    schedule();
+                    return;
+                }
+            }
+            queue = new MpscLinkedArrayQueue<>(bufferSize);
+            downstream.onSubscribe(this);
+        }
+
+        /** Очередь создаётся лениво: источник мог не вызвать onSubscribe. Трогает только поток-источник или drain после него. */
+        private SimpleQueue<T> queue() {
+            SimpleQueue<T> q = queue;
+            if (q == null) queue = q = new MpscLinkedArrayQueue<>(bufferSize);
+            return q;
+        }
+
+        @Override public void onNext(T item) {
+            if (done) return;
+            if (item == null) { onError(new NullPointerException("onNext called with null")); return; }
+            queue().offer(item);
+            schedule();
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            error = t;
+            done  = true;
+            schedule();
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            schedule();
+        }
+
+        @Override public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            if (upstream != null) upstream.dispose();
+            worker.dispose();
+            if (wip.getAndIncrement() == 0 && queue != null) queue.clear();   // drain не идёт — чистим сами
+        }
+
+        @Override public boolean isDisposed() { return disposed; }
+
+        /** Планирует drain только при переходе wip 0 → 1; отказ планировщика уходит в onError. */
+        private void schedule() {
+            if (wip.getAndIncrement() != 0) return;
+            try {
+                worker.execute(this);
+            } catch (RejectedExecutionException ex) {
+                disposed = true;                                // wip остаётся > 0: drain больше не запустится
+                worker.dispose();
+                if (upstream != null) upstream.dispose();
+                queue().clear();
+                downstream.onError(ex);
+            }
+        }
+
+        @Override public void run() {
+            if (sync) { drainSync(); return; }
+
+            SimpleQueue<T> queue = queue();
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (disposed) { queue.clear(); return; }
+
+                    boolean d = done;
+                    T item = queue.poll();
+                    boolean empty = item == null;
+
+                    if (d && empty) {
+                        disposed = true;
+                        worker.dispose();
+                        Throwable e = error;
+                        if (e != null) downstream.onError(e);
+                        else           downstream.onComplete();
+                        return;
+                    }
+                    if (empty) break;
+
+                    try { downstream.onNext(item); }
+                    catch (Throwable ex) {
+                        disposed = true;
+                        worker.dispose();
+                        queue.clear();
+                        if (upstream != null) upstream.dispose();
+                        downstream.onError(ex);
+                        return;
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+
+        /** SYNC-режим: источник сам очередь, {@code null} из poll() означает конец. */
+        private void drainSync() {
+            SimpleQueue<T> q = queue;
+            for (;;) {
+                if (disposed) { q.clear(); return; }
+                T item;
+                try { item = q.poll(); }
+                catch (Throwable ex) {
+                    disposed = true;
+                    worker.dispose();
+                    upstream.dispose();
+                    downstream.onError(ex);
+                    return;
+                }
+                if (item == null) {
+                    disposed = true;
+                    worker.dispose();
+                    downstream.onComplete();
+                    return;
+                }
+                try { downstream.onNext(item); }
+                catch (Throwable ex) {
+                    disposed = true;
+                    worker.dispose();
+                    upstream.dispose();
+                    downstream.onError(ex);
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+import com.myrxjava.core.queue.MpscLinkedArrayQueue;
+import com.myrxjava.core.queue.SimpleQueue;
+import com.myrxjava.core.queue.SpscLinkedArrayQueue;
+import com.myrxjava.functions.BiFunction;
+import com.myrxjava.functions.Function;
+import com.myrxjava.functions.Predicate;
+import com.myrxjava.functions.Supplier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Реализация {@link ParallelObservable}: раздача по рельсам, стадии на рельсах и сборка обратно.  <br/>
+ * Вход рельсы — неограниченная SPSC-очередь блоками по {@code prefetch}: поток источника никогда
+ * не ждёт рельсу, поэтому источник и рельсы могут работать на одном планировщике. Без порядка источник
+ * кладёт элемент в первую рельсу, у которой меньше {@code prefetch} необработанных (если таких нет —
+ * по кругу), а рельсы сливают результаты в общую очередь (или сразу вниз, если эмиттер свободен).
+ * С порядком раздача строго round-robin: {@code i}-й элемент всегда уходит в рельсу {@code i % n},
+ * рельса на каждый вход отдаёт ровно одну запись (значение или {@code SKIP}), и сборщик
+ * читает рельсы по кругу без индексов и обёрток на элемент.
+ */
+public final class ParallelOperator<R> implements Observable.ObservableOnSubscribe<R> {
+
+    public static final byte MAP = 0, FILTER = 1, REDUCE = 2;
+
+    /** Стадия reduce: начальное значение на каждую рельсу и функция свёртки. */
+    public static final class Reduce {
+        final Supplier<?> seed;
+        final BiFunction<Object, Object, Object> reducer;
+
+        @SuppressWarnings("unchecked")
+        public Reduce(Supplier<?> seed, BiFunction<?, ?, ?> reducer) {
+            this.seed    = seed;
+            this.reducer = (BiFunction<Object, Object, Object>) reducer;
+        }
+    }
+
+    private static final Object SKIP = new Object();    // вход отфильтрован или поглощён reduce
+    private static final Object DONE = new Object();    // рельса выдала всё, включая результаты reduce
+
+    private final Observable<?> source;
+    private final int parallelism;
+    private final Scheduler scheduler;
+    private final int prefetch;
+    private final Object[] stages;
+    private final byte[] kinds;
+    private final boolean ordered;
+
+    public ParallelOperator(Observable<?> src, int parallelism, Scheduler scheduler, int prefetch,
+                            Object[] stages, byte[] kinds, boolean ordered) {
+        this.source      = src;
+        this.parallelism = parallelism;
+        this.scheduler   = scheduler;
+        this.prefetch    = prefetch;
+        this.stages      = stages;
+        this.kinds       = kinds;
+        this.ordered     = ordered;
+    }
+
+    @Override public void subscribe(Observer<? super R> downstream) {
+        Coordinator<R> parent = new Coordinator<>(downstream, parallelism, prefetch, stages, kinds, ordered);
+        downstream.onSubscribe(parent);
+        try {
+            parent.start(scheduler);
+        } catch (Throwable ex) {
+            parent.dispose();
+            downstream.onError(ex);
+            return;
+        }
+        source.subscribe(parent);
+    }
+
+    static final class Coordinator<R> implements Observer<Object>, Disposable {
+
+        private final Observer<? super R> downstream;
+        private final int prefetch;
+        private final Object[] stages;
+        private final byte[] kinds;
+        private final boolean ordered;
+        private final Rail[] rails;
+
+        private final SimpleQueue<Object> out;                      // общий выход, только без порядка
+        private final AtomicInteger wip = new AtomicInteger();      // право эмитить вниз
+        private final AtomicInteger activeRails;
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        /* поток источника */
+        private Disposable upstream;
+        private int nextRail;
+        private long emitted;
+
+        private long total;                                         // публикуется через volatile sourceDone
+        private volatile boolean sourceDone;
+        private volatile boolean cancelled;
+
+        /* drain, только с порядком */
+        private long index;
+        private int cursor;
+        private int tailRail;
+
+        Coordinator(Observer<? super R> downstream, int parallelism, int prefetch,
+                    Object[] stages, byte[] kinds, boolean ordered) {
+            this.downstream  = downstream;
+            this.prefetch    = prefetch;
+            this.stages      = stages;
+            this.kinds       = kinds;
+            this.ordered     = ordered;
+            this.rails       = new Rail[parallelism];
+            this.activeRails = new AtomicInteger(parallelism);
+            this.out         = ordered ? null : new MpscLinkedArrayQueue<>(prefetch);
+        }
+
+        void start(Scheduler scheduler) throws Exception {
+            for (int i = 0; i < rails.length; i++) {
+                Object[] acc = new Object[stages.length];
+                for (int k = 0; k < stages.length; k++) {
+                    if (kinds[k] == REDUCE) acc[k] = ((Reduce) stages[k]).seed.get();
+                }
+                rails[i] = new Rail(this, scheduler.createWorker(), acc, prefetch, ordered);
+            }
+        }
+
+        /* ----------  источник  ---------- */
+
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            if (cancelled) d.dispose();
+        }
+
+        @Override public void onNext(Object item) {
+            if (sourceDone || isStopped()) return;
+            Rail r = pick();
+            r.produced++;
+            r.queue.offer(item);
+            emitted++;
+            r.schedule();
+        }
+
+        /** С порядком — строго по кругу; без порядка — ближайшая по кругу рельса, не набравшая {@code prefetch}. */
+        private Rail pick() {
+            int n = rails.length;
+            Rail r = rails[nextRail];
+            if (++nextRail == n) nextRail = 0;
+            if (ordered) return r;
+            for (int i = 1; i < n && r.backlog() >= prefetch; i++) {
+                r = rails[nextRail];
+                if (++nextRail == n) nextRail = 0;
+            }
+            return r;
+        }
+
+        @Override public void onError(Throwable t) {
+            if (sourceDone) return;
+            if (error.compareAndSet(null, t)) cancelAll();
+            sourceDone = true;                                      // после error: рельсы не примут конец за успех
+            drain();
+        }
+
+        @Override public void onComplete() {
+            if (sourceDone) return;
+            total = emitted;
+            sourceDone = true;
+            for (Rail r : rails) r.schedule();                      // пусть увидят конец и выдадут reduce
+            drain();
+        }
+
+        @Override public void dispose() {
+            if (cancelled) return;
+            cancelled = true;
+            cancelAll();
+            if (wip.getAndIncrement() == 0) clearAll();
+        }
+
+        @Override public boolean isDisposed() { return cancelled; }
+
+        private boolean isStopped() { return cancelled || error.get() != null; }
+
+        private void fail(Throwable t) {
+            if (error.compareAndSet(null, t)) cancelAll();
+            drain();
+        }
+
+        private void cancelAll() {
+            Disposable d = upstream;
+            if (d != null) d.dispose();
+            for (Rail r : rails) if (r != null) r.worker.dispose();
+        }
+
+        private void clearAll() {
+            if (out != null) out.clear();
+            for (Rail r : rails) {
+                if (r == null) continue;
+                r.queue.clear();
+                if (r.out != null) r.out.clear();
+            }
+        }
+
+        /* ----------  стадии  ---------- */
+
+        @SuppressWarnings("unchecked")
+        private void process(Rail rail, Object v, int from) {
+            try {
+                for (int i = from; i < stages.length; i++) {
+                    switch (kinds[i]) {
+                        case MAP -> {
+                            v = ((Function<Object, Object>) stages[i]).apply(v);
+                            if (v == null) throw new NullPointerException("The mapper returned a null value");
+                        }
+                        case FILTER -> {
+                            if (!((Predicate<Object>) stages[i]).test(v)) { emit(rail, SKIP); return; }
+                        }
+                        default -> {
+                            rail.acc[i] = ((Reduce) stages[i]).reducer.apply(rail.acc[i], v);
+                            emit(rail, SKIP);
+                            return;
+                        }
+                    }
+                }
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            emit(rail, v);
+        }
+
+        /** Результаты reduce по порядку стадий: каждый проходит оставшиеся стадии, как обычный элемент. */
+        private void flush(Rail rail) {
+            for (int k = 0; k < stages.length && !isStopped(); k++) {
+                if (kinds[k] != REDUCE) continue;
+                Object v = rail.acc[k];
+                rail.acc[k] = null;
+                if (v == null) { fail(new NullPointerException("The reducer returned a null value")); return; }
+                process(rail, v, k + 1);
+            }
+        }
+
+        /* ----------  сборка  ---------- */
+
+        @SuppressWarnings("unchecked")
+        private void emit(Rail rail, Object v) {
+            if (ordered) {
+                rail.out.offer(v);
+                drain();
+                return;
+            }
+            if (v == SKIP) return;
+            if (wip.get() == 0 && wip.compareAndSet(0, 1)) {
+                if (!cancelled) downstream.onNext((R) v);
+                if (wip.decrementAndGet() == 0) return;
+            } else {
+                out.offer(v);
+                if (wip.getAndIncrement() != 0) return;
+            }
+            drainLoop();
+        }
+
+        private void railDone(Rail rail) {
+            if (ordered) rail.out.offer(DONE);
+            activeRails.decrementAndGet();
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() == 0) drainLoop();
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            for (;;) {
+                if (ordered ? drainOrdered() : drainUnordered()) return;
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+
+        /** @return {@code true}, если поток завершён и drain больше не нужен */
+        @SuppressWarnings("unchecked")
+        private boolean drainUnordered() {
+            for (;;) {
+                if (cancelled) { clearAll(); return true; }
+                Throwable e = error.get();
+                if (e != null) { terminate(e); return true; }
+
+                boolean d = activeRails.get() == 0;
+                Object v = out.poll();
+                if (v == null) {
+                    if (d) { terminate(null); return true; }
+                    return false;
+                }
+                downstream.onNext((R) v);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean drainOrdered() {
+            int n = rails.length;
+            for (;;) {
+                if (cancelled) { clearAll(); return true; }
+                Throwable e = error.get();
+                if (e != null) { terminate(e); return true; }
+
+                long limit = sourceDone ? total : Long.MAX_VALUE;
+                if (index < limit) {
+                    Object v = rails[cursor].out.poll();
+                    if (v == null) return false;
+                    index++;
+                    if (++cursor == n) cursor = 0;
+                    if (v != SKIP) downstream.onNext((R) v);
+                    continue;
+                }
+                if (tailRail == n) { terminate(null); return true; }
+                Object v = rails[tailRail].out.poll();               // хвост: результаты reduce рельса за рельсой
+                if (v == null) return false;
+                if (v == DONE) tailRail++;
+                else if (v != SKIP) downstream.onNext((R) v);
+            }
+        }
+
+        private void terminate(Throwable e) {
+            if (e == null) e = error.get();                         // ошибка могла прийти, пока рельсы завершались
+            cancelled = true;
+            cancelAll();
+            clearAll();
+            if (e != null) downstream.onError(e);
+            else           downstream.onComplete();
+        }
+    }
+
+    /* ----------  рельса  ---------- */
+
+    static final class Rail implements Runnable {
+        final Coordinator<?> parent;
+        final SimpleQueue<Object> queue;
+        final SimpleQueue<Object> out;                          // свой выход, только с порядком
+        final Scheduler.Worker worker;
+        final Object[] acc;                                     // аккумуляторы reduce-стадий
+        final AtomicInteger railWip = new AtomicInteger();
+        final AtomicLong consumed = new AtomicLong();           // пишет только рельса
+        long produced;                                          // трогает только поток источника
+
+        Rail(Coordinator<?> parent, Scheduler.Worker worker, Object[] acc, int prefetch, boolean ordered) {
+            this.parent = parent;
+            this.worker = worker;
+            this.acc    = acc;
+            this.queue  = new SpscLinkedArrayQueue<>(prefetch);
+            this.out    = ordered ? new MpscLinkedArrayQueue<>(prefetch) : null;
+        }
+
+        /** Сколько элементов ждут в очереди; читает поток источника. */
+        long backlog() { return produced - consumed.get(); }
+
+        void schedule() {
+            if (railWip.getAndIncrement() == 0) worker.execute(this);
+        }
+
+        @Override public void run() {
+            int missed = 1;
+            long c = consumed.get();
+            for (;;) {
+                for (;;) {
+                    if (parent.isStopped()) { queue.clear(); return; }
+                    boolean d = parent.sourceDone;
+                    Object v = queue.poll();
+                    if (v == null) {
+                        if (d) {
+                            parent.flush(this);
+                            worker.dispose();
+                            parent.railDone(this);
+                            return;
+                        }
+                        break;
+                    }
+                    consumed.lazySet(++c);
+                    parent.process(this, v, 0);
+                }
+                missed = railWip.addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+    }
+}
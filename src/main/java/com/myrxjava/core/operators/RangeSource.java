@@ -0,0 +1,71 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+
+/** Источник Observable.range: синхронный и конечный, поддерживает SYNC-fusion. */
+public final class RangeSource implements Observable.ObservableOnSubscribe<Integer>, Fuseable {
+
+    private final int start;
+    private final long end;                 // не включая
+
+    public RangeSource(int start, int count) {
+        this.start = start;
+        this.end   = (long) start + count;
+    }
+
+    @Override public void subscribe(Observer<? super Integer> observer) {
+        RangeDisposable d = new RangeDisposable(observer, start, end);
+        observer.onSubscribe(d);
+        if (!d.fused) d.run();
+    }
+
+    static final class RangeDisposable implements QueueDisposable<Integer> {
+
+        private final Observer<? super Integer> downstream;
+        private final long end;
+        private long index;
+        boolean fused;
+        private volatile boolean disposed;
+
+        RangeDisposable(Observer<? super Integer> downstream, long start, long end) {
+            this.downstream = downstream;
+            this.index      = start;
+            this.end        = end;
+        }
+
+        void run() {
+            long e = end;
+            for (long i = index; i != e && !disposed; i++) {
+                try { downstream.onNext((int) i); }
+                catch (Throwable ex) { disposed = true; downstream.onError(ex); return; }
+            }
+            if (!disposed) {
+                disposed = true;
+                downstream.onComplete();
+            }
+        }
+
+        @Override public int requestFusion(int mode) {
+            if ((mode & SYNC) != 0) {
+                fused = true;
+                return SYNC;
+            }
+            return NONE;
+        }
+
+        @Override public Integer poll() {
+            long i = index;
+            if (i == end) return null;
+            index = i + 1;
+            return (int) i;
+        }
+
+        @Override public boolean offer(Integer value) { throw new UnsupportedOperationException("Should not be called"); }
+        @Override public boolean isEmpty()            { return index == end; }
+        @Override public void clear()                 { index = end; }
+        @Override public long sizeHint()              { return end - index; }
+
+        @Override public void dispose()       { disposed = true; }
+        @Override public boolean isDisposed() { return disposed; }
+    }
+}
@@ -0,0 +1,92 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * rateLimit: не больше {@code permitsPerSecond} элементов в секунду, пачкой — до {@code burst} подряд;
+ * элементы сверх лимита отбрасываются.  <br/>
+ * Ведро токенов в форме GCRA: всё его состояние — одно «теоретическое время прихода» (TAT).
+ * Пополнение вычисляется из часов, поэтому таймеры не нужны, а вся проверка — одно чтение и один CAS.
+ */
+public final class RateLimitOperator<T> implements Observable.ObservableOnSubscribe<T> {
+
+    private final Observable<T> source;
+    private final long intervalNanos;
+    private final int burst;
+
+    public RateLimitOperator(Observable<T> src, double permitsPerSecond, int burst) {
+        this.source        = src;
+        this.intervalNanos = Math.max(1L, Math.round(1_000_000_000d / permitsPerSecond));
+        this.burst         = burst;
+    }
+
+    @Override public void subscribe(Observer<? super T> observer) {
+        source.subscribe(new RateLimitObserver<>(observer, new TokenBucket(intervalNanos, burst)));
+    }
+
+    /**
+     * Lock-free ведро токенов.  <br/>
+     * Токен выдаётся, если TAT опережает текущее время не больше чем на {@code burst - 1} интервалов;
+     * выдача сдвигает TAT на интервал. Ведро можно делить между потоками — гонку разрешает CAS.
+     */
+    static final class TokenBucket {
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final long origin = System.nanoTime();
+        private final AtomicLong tat = new AtomicLong();
+
+        TokenBucket(long intervalNanos, int burst) {
+            this.intervalNanos  = intervalNanos;
+            this.toleranceNanos = (long) Math.min((double) intervalNanos * (burst - 1), Long.MAX_VALUE >> 2);
+        }
+
+        boolean tryAcquire() {
+            long now = System.nanoTime() - origin;
+            for (;;) {
+                long t = tat.get();
+                long base = Math.max(t, now);
+                if (base - now > toleranceNanos) return false;
+                if (tat.compareAndSet(t, base + intervalNanos)) return true;
+            }
+        }
+    }
+
+    static final class RateLimitObserver<T> implements Observer<T>, Disposable {
+
+        private final Observer<? super T> downstream;
+        private final TokenBucket bucket;
+        private Disposable upstream;
+        private boolean done;
+
+        RateLimitObserver(Observer<? super T> downstream, TokenBucket bucket) {
+            this.downstream = downstream;
+            this.bucket     = bucket;
+        }
+
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override public void onNext(T item) {
+            if (!done && bucket.tryAcquire()) downstream.onNext(item);
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            downstream.onComplete();
+        }
+
+        @Override public void dispose()       { upstream.dispose(); }
+        @Override public boolean isDisposed() { return upstream.isDisposed(); }
+    }
+}
@@ -0,0 +1,98 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+import com.myrxjava.functions.BiFunction;
+import com.myrxjava.functions.Supplier;
+
+/**
+ * Реализация reduce: один итоговый элемент по завершении источника.  <br/>
+ * С {@code seed} аккумулятор создаётся на каждую подписку; без него первый элемент становится
+ * аккумулятором, а пустой источник завершается без элементов.
+ */
+public final class ReduceOperator<T, R> implements Observable.ObservableOnSubscribe<R> {
+
+    private final Observable<T> source;
+    private final Supplier<R> seed;
+    private final BiFunction<R, ? super T, R> reducer;
+
+    /** @param seed {@code null} — без начального значения, тогда {@code R} совпадает с {@code T} */
+    public ReduceOperator(Observable<T> src, Supplier<R> seed, BiFunction<R, ? super T, R> reducer) {
+        this.source  = src;
+        this.seed    = seed;
+        this.reducer = reducer;
+    }
+
+    @Override public void subscribe(Observer<? super R> observer) {
+        R initial = null;
+        if (seed != null) {
+            try {
+                initial = seed.get();
+                if (initial == null) throw new NullPointerException("The seed supplier returned null");
+            } catch (Throwable ex) {
+                EmptySource.error(observer, ex);
+                return;
+            }
+        }
+        source.subscribe(new ReduceObserver<>(observer, initial, reducer));
+    }
+
+    static final class ReduceObserver<T, R> implements Observer<T>, Disposable {
+
+        private final Observer<? super R> downstream;
+        private final BiFunction<R, ? super T, R> reducer;
+        private R value;                                    // null — ещё не было ни seed, ни элемента
+        private Disposable upstream;
+        private boolean done;
+
+        ReduceObserver(Observer<? super R> downstream, R seed, BiFunction<R, ? super T, R> reducer) {
+            this.downstream = downstream;
+            this.value      = seed;
+            this.reducer    = reducer;
+        }
+
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override public void onNext(T item) {
+            if (done) return;
+            R v = value;
+            if (v == null) {
+                value = (R) item;                           // без seed: R == T
+                return;
+            }
+            try {
+                v = reducer.apply(v, item);
+                if (v == null) throw new NullPointerException("The reducer returned null");
+            } catch (Exception ex) {
+                done = true;
+                value = null;
+                upstream.dispose();
+                downstream.onError(ex);
+                return;
+            }
+            value = v;
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            value = null;
+            downstream.onError(t);
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            R v = value;
+            value = null;
+            if (v != null) downstream.onNext(v);
+            downstream.onComplete();
+        }
+
+        @Override public void dispose()       { upstream.dispose(); }
+        @Override public boolean isDisposed() { return upstream.isDisposed(); }
+    }
+}
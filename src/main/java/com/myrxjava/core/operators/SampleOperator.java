@@ -0,0 +1,129 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * sample / throttleLast: раз в {@code period} вниз уходит последний пришедший за период элемент.  <br/>
+ * onNext только перезаписывает атомарный слот; периодический таймер на Worker-е подписки забирает
+ * его {@code getAndSet(null)}, так что пустой период ничего не эмитит, а повтора не бывает.
+ * Терминальные события тоже идут через Worker — вниз всё последовательно.
+ */
+public final class SampleOperator<T> implements Observable.ObservableOnSubscribe<T> {
+
+    private final Observable<T> source;
+    private final long period;
+    private final TimeUnit unit;
+    private final Scheduler scheduler;
+    private final boolean emitLast;
+
+    public SampleOperator(Observable<T> src, long period, TimeUnit unit, Scheduler scheduler, boolean emitLast) {
+        this.source    = src;
+        this.period    = period;
+        this.unit      = unit;
+        this.scheduler = scheduler;
+        this.emitLast  = emitLast;
+    }
+
+    @Override public void subscribe(Observer<? super T> observer) {
+        source.subscribe(new SampleObserver<>(observer, period, unit, scheduler.createWorker(), emitLast));
+    }
+
+    static final class SampleObserver<T> implements Observer<T>, Disposable, Runnable {
+
+        private final Observer<? super T> downstream;
+        private final long period;
+        private final TimeUnit unit;
+        private final Scheduler.Worker worker;
+        private final boolean emitLast;
+        private final AtomicReference<T> latest = new AtomicReference<>();
+
+        private Disposable upstream;
+        private volatile Disposable timer;
+        private boolean done;
+        private volatile boolean disposed;
+
+        SampleObserver(Observer<? super T> downstream, long period, TimeUnit unit,
+                       Scheduler.Worker worker, boolean emitLast) {
+            this.downstream = downstream;
+            this.period     = period;
+            this.unit       = unit;
+            this.worker     = worker;
+            this.emitLast   = emitLast;
+        }
+
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.onSubscribe(this);
+            timer = worker.schedulePeriodically(this, period, period, unit, this::rejected);
+            if (disposed) timer.dispose();
+        }
+
+        @Override public void onNext(T item) {
+            if (!done) latest.lazySet(item);                    // забирает getAndSet таймера, полный барьер не нужен
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            terminate(() -> {
+                latest.set(null);
+                downstream.onError(t);
+            });
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            terminate(() -> {
+                T v = latest.getAndSet(null);
+                if (emitLast && v != null) downstream.onNext(v);
+                downstream.onComplete();
+            });
+        }
+
+        @Override public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            if (upstream != null) upstream.dispose();
+            worker.dispose();
+            Disposable t = timer;
+            if (t != null) t.dispose();
+        }
+
+        @Override public boolean isDisposed() { return disposed; }
+
+        /** Конец периода, на Worker-е. */
+        @Override public void run() {
+            if (disposed) return;
+            T v = latest.getAndSet(null);
+            if (v != null) downstream.onNext(v);
+        }
+
+        private void terminate(Runnable signal) {
+            Disposable t = timer;
+            if (t != null) t.dispose();
+            try {
+                worker.execute(() -> {
+                    if (disposed) return;
+                    disposed = true;
+                    signal.run();
+                    worker.dispose();
+                });
+            } catch (RejectedExecutionException ex) {
+                rejected(ex);
+            }
+        }
+
+        /** Worker отклонил период или терминальное событие — дальше ничего не выполнится, отказ уходит вниз. */
+        private void rejected(Throwable ex) {
+            if (disposed) return;
+            dispose();
+            latest.set(null);
+            downstream.onError(ex);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+
+/**
+ * Реализация take: первые {@code count} элементов.  <br/>
+ * Источник отменяется сразу на последнем нужном элементе — до того, как тот уйдёт вниз, —
+ * так что он не досчитывает поток до конца впустую.
+ */
+public final class TakeOperator<T> implements Observable.ObservableOnSubscribe<T> {
+
+    private final Observable<T> source;
+    private final long count;
+
+    public TakeOperator(Observable<T> src, long count) {
+        this.source = src;
+        this.count  = count;
+    }
+
+    @Override public void subscribe(Observer<? super T> observer) {
+        source.subscribe(new TakeObserver<>(observer, count));
+    }
+
+    static final class TakeObserver<T> implements Observer<T>, Disposable {
+
+        private final Observer<? super T> downstream;
+        private long remaining;
+        private Disposable upstream;
+        private boolean done;
+
+        TakeObserver(Observer<? super T> downstream, long count) {
+            this.downstream = downstream;
+            this.remaining  = count;
+        }
+
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.onSubscribe(this);
+            if (remaining == 0 && !done) {
+                done = true;
+                d.dispose();
+                downstream.onComplete();
+            }
+        }
+
+        @Override public void onNext(T item) {
+            if (done) return;
+            if (--remaining == 0) {
+                done = true;
+                upstream.dispose();
+                downstream.onNext(item);
+                downstream.onComplete();
+                return;
+            }
+            downstream.onNext(item);
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            downstream.onComplete();
+        }
+
+        @Override public void dispose()       { upstream.dispose(); }
+        @Override public boolean isDisposed() { return upstream.isDisposed(); }
+    }
+}
@@ -0,0 +1,72 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+import com.myrxjava.functions.Predicate;
+
+/** Реализация takeWhile: элементы, пока выполняется условие; на первом «нет» источник отменяется. */
+public final class TakeWhileOperator<T> implements Observable.ObservableOnSubscribe<T> {
+
+    private final Observable<T> source;
+    private final Predicate<? super T> predicate;
+
+    public TakeWhileOperator(Observable<T> src, Predicate<? super T> predicate) {
+        this.source    = src;
+        this.predicate = predicate;
+    }
+
+    @Override public void subscribe(Observer<? super T> observer) {
+        source.subscribe(new TakeWhileObserver<>(observer, predicate));
+    }
+
+    static final class TakeWhileObserver<T> implements Observer<T>, Disposable {
+
+        private final Observer<? super T> downstream;
+        private final Predicate<? super T> predicate;
+        private Disposable upstream;
+        private boolean done;
+
+        TakeWhileObserver(Observer<? super T> downstream, Predicate<? super T> predicate) {
+            this.downstream = downstream;
+            this.predicate  = predicate;
+        }
+
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override public void onNext(T item) {
+            if (done) return;
+            boolean pass;
+            try { pass = predicate.test(item); }
+            catch (Exception ex) {
+                done = true;
+                upstream.dispose();
+                downstream.onError(ex);
+                return;
+            }
+            if (pass) {
+                downstream.onNext(item);
+                return;
+            }
+            done = true;
+            upstream.dispose();
+            downstream.onComplete();
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            downstream.onComplete();
+        }
+
+        @Override public void dispose()       { upstream.dispose(); }
+        @Override public boolean isDisposed() { return upstream.isDisposed(); }
+    }
+}
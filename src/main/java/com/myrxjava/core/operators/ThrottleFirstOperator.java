@@ -0,0 +1,99 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * throttleFirst: первый элемент проходит и закрывает окно на {@code window}, остальные в окне отбрасываются.  <br/>
+ * Элементы уходят вниз прямо с потока источника; таймер на Worker-е подписки только открывает окно,
+ * так что отброшенный элемент стоит одно чтение volatile-флага.
+ */
+public final class ThrottleFirstOperator<T> implements Observable.ObservableOnSubscribe<T> {
+
+    private final Observable<T> source;
+    private final long window;
+    private final TimeUnit unit;
+    private final Scheduler scheduler;
+
+    public ThrottleFirstOperator(Observable<T> src, long window, TimeUnit unit, Scheduler scheduler) {
+        this.source    = src;
+        this.window    = window;
+        this.unit      = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override public void subscribe(Observer<? super T> observer) {
+        source.subscribe(new ThrottleFirstObserver<>(observer, window, unit, scheduler.createWorker()));
+    }
+
+    static final class ThrottleFirstObserver<T> implements Observer<T>, Disposable {
+
+        private final Observer<? super T> downstream;
+        private final long window;
+        private final TimeUnit unit;
+        private final Scheduler.Worker worker;
+        private final Runnable open = () -> gated = false;
+
+        private Disposable upstream;
+        private volatile Disposable timer;
+        private volatile boolean gated;
+        private boolean done;
+        private volatile boolean disposed;
+
+        ThrottleFirstObserver(Observer<? super T> downstream, long window, TimeUnit unit, Scheduler.Worker worker) {
+            this.downstream = downstream;
+            this.window     = window;
+            this.unit       = unit;
+            this.worker     = worker;
+        }
+
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override public void onNext(T item) {
+            if (done || gated || disposed) return;
+            gated = true;
+            timer = worker.schedule(open, window, unit, this::rejected);
+            downstream.onNext(item);
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            release();
+            downstream.onError(t);
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            release();
+            downstream.onComplete();
+        }
+
+        @Override public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            if (upstream != null) upstream.dispose();
+            release();
+        }
+
+        @Override public boolean isDisposed() { return disposed; }
+
+        /** Worker отклонил открытие окна: оно бы не открылось никогда, поэтому отказ уходит вниз. */
+        private void rejected(Throwable ex) {
+            if (done || disposed) return;
+            dispose();
+            downstream.onError(ex);
+        }
+
+        private void release() {
+            worker.dispose();
+            Disposable t = timer;
+            if (t != null) t.dispose();
+        }
+    }
+}
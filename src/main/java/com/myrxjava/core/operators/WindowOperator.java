@@ -0,0 +1,199 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+import com.myrxjava.core.queue.MpscLinkedArrayQueue;
+import com.myrxjava.core.queue.SimpleQueue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Реализация window(count): каждые {@code count} элементов — отдельный Observable.  <br/>
+ * Окно открывается на первом своём элементе (пустых окон нет) и копит элементы, пока на него
+ * не подпишутся; подписчик у окна один.  <br/>
+ * Источник держат внешний поток и каждое открытое окно (счётчик ссылок, как в RxJava): dispose внешнего
+ * только перестаёт открывать новые окна, а источник отменяется, когда закрыто или отменено и текущее окно.
+ * Поэтому {@code window(n).take(1)} получает первое окно целиком.
+ */
+public final class WindowOperator<T> implements Observable.ObservableOnSubscribe<Observable<T>> {
+
+    private final Observable<T> source;
+    private final int count;
+    private final int bufferSize;
+
+    /** @param bufferSize размер блока очереди окна */
+    public WindowOperator(Observable<T> src, int count, int bufferSize) {
+        this.source     = src;
+        this.count      = count;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override public void subscribe(Observer<? super Observable<T>> observer) {
+        source.subscribe(new WindowObserver<>(observer, count, bufferSize));
+    }
+
+    static final class WindowObserver<T> implements Observer<T>, Disposable {
+
+        private final Observer<? super Observable<T>> downstream;
+        private final int count;
+        private final int bufferSize;
+        private final AtomicReference<UnicastWindow<T>> window = new AtomicReference<>();
+        private final AtomicInteger refs = new AtomicInteger(1);   // внешний поток + открытые окна
+        private final Runnable release = this::release;
+        private Disposable upstream;
+        private int size;
+        private boolean done;
+        private volatile boolean disposed;
+
+        WindowObserver(Observer<? super Observable<T>> downstream, int count, int bufferSize) {
+            this.downstream = downstream;
+            this.count      = count;
+            this.bufferSize = bufferSize;
+        }
+
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override public void onNext(T item) {
+            if (done) return;
+            UnicastWindow<T> w = window.get();
+            if (w == null) {
+                if (disposed) return;                           // новых окон после dispose не будет
+                refs.getAndIncrement();
+                w = new UnicastWindow<>(bufferSize, release);
+                window.set(w);
+                downstream.onNext(Observable.create(w));
+            }
+            w.onNext(item);
+            if (++size == count) {
+                size = 0;
+                if (window.compareAndSet(w, null)) w.onComplete();
+            }
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            UnicastWindow<T> w = window.getAndSet(null);
+            if (w != null) w.onError(t);
+            if (!disposed) downstream.onError(t);
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            UnicastWindow<T> w = window.getAndSet(null);
+            if (w != null) w.onComplete();
+            if (!disposed) downstream.onComplete();
+        }
+
+        @Override public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            release();
+        }
+
+        /** Внешний поток или окно отпускает источник; последний отменяет его. */
+        private void release() {
+            if (refs.decrementAndGet() == 0) upstream.dispose();
+        }
+
+        @Override public boolean isDisposed() { return disposed; }
+    }
+
+    /**
+     * Окно: буфер до подписки и drain-цикл после неё. Пишет только поток источника.  <br/>
+     * Закрывшись (по счёту или терминальному событию источника) или будучи отменённым своим подписчиком,
+     * окно один раз отпускает ссылку на источник — {@code onRelease}.
+     */
+    static final class UnicastWindow<T> implements Observable.ObservableOnSubscribe<T>, Disposable {
+
+        private final SimpleQueue<T> queue;
+        private final AtomicReference<Observer<? super T>> downstream = new AtomicReference<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicBoolean released = new AtomicBoolean();
+        private final Runnable onRelease;
+        private Throwable error;                                // публикуется через volatile done
+        private volatile boolean done;
+        private volatile boolean disposed;
+
+        UnicastWindow(int bufferSize, Runnable onRelease) {
+            this.queue     = new MpscLinkedArrayQueue<>(bufferSize);
+            this.onRelease = onRelease;
+        }
+
+        @Override public void subscribe(Observer<? super T> observer) {
+            if (!downstream.compareAndSet(null, observer)) {
+                observer.onSubscribe(new BooleanDisposable());
+                observer.onError(new IllegalStateException("Window allows only a single observer"));
+                return;
+            }
+            observer.onSubscribe(this);
+            drain();
+        }
+
+        void onNext(T item) {
+            if (done || disposed) return;
+            queue.offer(item);
+            drain();
+        }
+
+        void onError(Throwable t) {
+            if (done) return;
+            error = t;
+            done  = true;
+            release();
+            drain();
+        }
+
+        void onComplete() {
+            if (done) return;
+            done = true;
+            release();
+            drain();
+        }
+
+        @Override public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            release();
+            if (wip.getAndIncrement() == 0) queue.clear();
+        }
+
+        private void release() {
+            if (!released.get() && released.compareAndSet(false, true)) onRelease.run();
+        }
+
+        @Override public boolean isDisposed() { return disposed; }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) return;
+            int missed = 1;
+            for (;;) {
+                Observer<? super T> a = downstream.get();
+                if (a != null) {
+                    for (;;) {
+                        if (disposed) { queue.clear(); return; }
+                        boolean d = done;
+                        T item = queue.poll();
+                        boolean empty = item == null;
+                        if (d && empty) {
+                            disposed = true;
+                            Throwable e = error;
+                            if (e != null) a.onError(e);
+                            else           a.onComplete();
+                            return;
+                        }
+                        if (empty) break;
+                        a.onNext(item);
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.myrxjava.core.operators;
+
+import com.myrxjava.core.*;
+import com.myrxjava.core.queue.SimpleQueue;
+import com.myrxjava.core.queue.SpscLinkedArrayQueue;
+import com.myrxjava.functions.Function;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * zip: i-й элемент результата собирается из i-х элементов всех источников.  <br/>
+ * У каждого источника своя SPSC-очередь: писатель — его поток, читатель — drain-цикл,
+ * так что на элемент приходится одна запись в очередь и инкремент {@code wip}, без блокировок.
+ * Недособранная строка живёт в {@code row} между проходами drain, чтобы не опрашивать очереди заново.
+ * Поток завершается, как только закончился источник с пустой очередью — дальше строк уже не будет.
+ */
+public final class ZipOperator<T, R> implements Observable.ObservableOnSubscribe<R> {
+
+    private final Observable<? extends T>[] sources;
+    private final Function<? super Object[], ? extends R> zipper;
+    private final int bufferSize;
+
+    public ZipOperator(Observable<? extends T>[] sources, Function<? super Object[], ? extends R> zipper, int bufferSize) {
+        this.sources    = sources;
+        this.zipper     = zipper;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override public void subscribe(Observer<? super R> downstream) {
+        int n = sources.length;
+        ZipCoordinator<T, R> parent = new ZipCoordinator<>(downstream, zipper, n, bufferSize);
+        downstream.onSubscribe(parent);
+        for (int i = 0; i < n && !parent.disposed; i++) sources[i].subscribe(parent.observers[i]);
+    }
+
+    static final class ZipCoordinator<T, R> implements Disposable {
+
+        private final Observer<? super R> downstream;
+        private final Function<? super Object[], ? extends R> zipper;
+        final ZipObserver<T>[] observers;
+        private final Object[] row;                                  // трогает только drain
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        volatile boolean disposed;
+
+        @SuppressWarnings("unchecked")
+        ZipCoordinator(Observer<? super R> downstream, Function<? super Object[], ? extends R> zipper, int n, int bufferSize) {
+            this.downstream = downstream;
+            this.zipper     = zipper;
+            this.observers  = (ZipObserver<T>[]) new ZipObserver<?>[n];
+            this.row        = new Object[n];
+            for (int i = 0; i < n; i++) observers[i] = new ZipObserver<>(this, bufferSize);
+        }
+
+        @Override public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            cancelAll();
+            if (wip.getAndIncrement() == 0) clear();
+        }
+
+        @Override public boolean isDisposed() { return disposed; }
+
+        void innerError(Throwable t) {
+            if (error.compareAndSet(null, t)) cancelAll();
+            drain();
+        }
+
+        private void cancelAll() {
+            for (ZipObserver<T> o : observers) o.dispose();
+        }
+
+        private void clear() {
+            for (ZipObserver<T> o : observers) o.queue.clear();
+            Arrays.fill(row, null);
+        }
+
+        /* ----------  drain  ---------- */
+
+        void drain() {
+            if (wip.getAndIncrement() != 0) return;
+            ZipObserver<T>[] obs = observers;
+            Object[] r = row;
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (disposed) { clear(); return; }
+
+                    Throwable ex = error.get();
+                    if (ex != null) {
+                        terminate();
+                        downstream.onError(ex);
+                        return;
+                    }
+
+                    int empty = 0;
+                    for (int i = 0; i < obs.length; i++) {
+                        if (r[i] != null) continue;
+                        ZipObserver<T> o = obs[i];
+                        boolean d = o.done;
+                        T v = o.queue.poll();
+                        if (v == null) {
+                            if (d) {                                  // источник кончился — строк больше не будет
+                                terminate();
+                                downstream.onComplete();
+                                return;
+                            }
+                            empty++;
+                        } else {
+                            r[i] = v;
+                        }
+                    }
+                    if (empty != 0) break;
+
+                    R result;
+                    try {
+                        result = zipper.apply(r.clone());
+                    } catch (Exception e) {
+                        error.compareAndSet(null, e);
+                        continue;
+                    }
+                    Arrays.fill(r, null);
+                    if (result == null) {
+                        error.compareAndSet(null, new NullPointerException("zipper returned null"));
+                        continue;
+                    }
+                    downstream.onNext(result);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) break;
+            }
+        }
+
+        private void terminate() {
+            disposed = true;
+            cancelAll();
+            clear();
+        }
+    }
+
+    static final class ZipObserver<T> implements Observer<T>, Disposable {
+
+        private final ZipCoordinator<T, ?> parent;
+        final SimpleQueue<T> queue;
+        private volatile Disposable upstream;
+        volatile boolean done;
+
+        ZipObserver(ZipCoordinator<T, ?> parent, int bufferSize) {
+            this.parent = parent;
+            this.queue  = new SpscLinkedArrayQueue<>(bufferSize);
+        }
+
+        @Override public void onSubscribe(Disposable d) {
+            upstream = d;
+            if (parent.disposed) d.dispose();
+        }
+
+        @Override public void onNext(T item) {
+            if (done) return;
+            queue.offer(item);
+            parent.drain();
+        }
+
+        @Override public void onError(Throwable t) {
+            if (done) return;
+            done = true;
+            parent.innerError(t);
+        }
+
+        @Override public void onComplete() {
+            if (done) return;
+            done = true;
+            parent.drain();
+        }
+
+        @Override public void dispose() {
+            Disposable d = upstream;
+            if (d != null) d.dispose();
+        }
+
+        @Override public boolean isDisposed() { return parent.disposed; }
+    }
+}
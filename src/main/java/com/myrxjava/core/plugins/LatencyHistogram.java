@@ -0,0 +1,81 @@
+package com.myrxjava.core.plugins;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free гистограмма значений (обычно наносекунд) в духе HdrHistogram.  <br/>
+ * Корзины лог-линейные: 16 подкорзин на каждую степень двойки, т.е. погрешность до 1/16
+ * во всём диапазоне {@code long}. Запись — один инкремент в {@link AtomicLongArray}.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS) * SUB + SUB;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long value) {
+        if (value < 0) value = 0;
+        counts.incrementAndGet(index(value));
+        count.increment();
+        sum.add(value);
+        long m = max.get();
+        while (value > m && !max.compareAndSet(m, value)) m = max.get();
+    }
+
+    public long count() { return count.sum(); }
+
+    public long max() { return max.get(); }
+
+    public double mean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /** Верхняя граница корзины, в которую попадает {@code percentile} (0..100) значений. */
+    public long percentile(double percentile) {
+        long n = count.sum();
+        if (n == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(n * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= target) return Math.min(upperBound(i), max.get());
+        }
+        return max.get();
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) counts.set(i, 0);
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    @Override public String toString() {
+        return String.format("count=%d mean=%.0f p50=%d p99=%d max=%d",
+                count(), mean(), percentile(50), percentile(99), max());
+    }
+
+    /* ----------  корзины  ---------- */
+
+    static int index(long value) {
+        if (value < SUB) return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;   // значение >>> shift — в [SUB, 2*SUB)
+        return (shift << SUB_BITS) + (int) (value >>> shift);
+    }
+
+    static long upperBound(int index) {
+        if (index < 2 * SUB) return index;
+        int shift = (index >>> SUB_BITS) - 1;
+        long mantissa = index - ((long) shift << SUB_BITS);
+        long bound = ((mantissa + 1) << shift) - 1;
+        return bound < 0 ? Long.MAX_VALUE : bound;                      // последняя корзина
+    }
+}
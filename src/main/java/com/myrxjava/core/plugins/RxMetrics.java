@@ -0,0 +1,172 @@
+package com.myrxjava.core.plugins;
+
+import com.myrxjava.core.Disposable;
+import com.myrxjava.core.Observable;
+import com.myrxjava.core.Observer;
+import com.myrxjava.core.Scheduler;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Встроенные метрики поверх {@link RxPlugins}.  <br/>
+ * По операторам (имя класса источника): число элементов и время onNext — от выдачи элемента
+ * стадией до возврата из нижележащей цепочки, т.е. включительно. По планировщикам: сколько задач
+ * поставлено и выполнено, текущая глубина очереди, время ожидания в очереди и время выполнения.
+ * Пока метрики не установлены ({@link #install()}), они ничего не стоят.
+ */
+public final class RxMetrics {
+
+    public static final class OperatorStats {
+        private final LongAdder items = new LongAdder();
+        private final LatencyHistogram onNextNanos = new LatencyHistogram();
+
+        public long items() { return items.sum(); }
+        public LatencyHistogram onNextNanos() { return onNextNanos; }
+
+        @Override public String toString() { return "items=" + items() + " onNext[" + onNextNanos + "]"; }
+    }
+
+    public static final class SchedulerStats {
+        private final LongAdder submitted = new LongAdder();
+        private final LongAdder started = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LatencyHistogram waitNanos = new LatencyHistogram();
+        private final LatencyHistogram runNanos = new LatencyHistogram();
+
+        public long submitted() { return submitted.sum(); }
+        public long completed() { return completed.sum(); }
+        /** Поставлены, но ещё не начаты. */
+        public long queueDepth() { return Math.max(0, submitted.sum() - started.sum()); }
+        public LatencyHistogram waitNanos() { return waitNanos; }
+        public LatencyHistogram runNanos() { return runNanos; }
+
+        @Override public String toString() {
+            return "submitted=" + submitted() + " completed=" + completed() + " queued=" + queueDepth()
+                    + " wait[" + waitNanos + "] run[" + runNanos + "]";
+        }
+    }
+
+    private static final Map<String, OperatorStats> OPERATORS = new ConcurrentHashMap<>();
+    private static final Map<String, SchedulerStats> SCHEDULERS = new ConcurrentHashMap<>();
+
+    /* хуки, стоявшие до install(), и наши обёртки поверх них; под монитором класса */
+    private static RxPlugins.AssemblyHook previousAssembly;
+    private static RxPlugins.ScheduleHook previousSchedule;
+    private static RxPlugins.AssemblyHook installedAssembly;
+    private static RxPlugins.ScheduleHook installedSchedule;
+
+    private RxMetrics() { }
+
+    /**
+     * Ставит хуки сборки и планирования поверх уже зарегистрированных: сначала отрабатывает
+     * прежний хук, метрики оборачивают его результат. Уже собранные Observable не затрагиваются;
+     * повторный вызов ничего не делает.
+     */
+    public static synchronized void install() {
+        if (installedAssembly != null) return;
+        RxPlugins.AssemblyHook prevAssembly = RxPlugins.getOnObservableAssembly();
+        RxPlugins.ScheduleHook prevSchedule = RxPlugins.getOnSchedule();
+        previousAssembly  = prevAssembly;
+        previousSchedule  = prevSchedule;
+        installedAssembly = new MeteringAssemblyHook(prevAssembly);
+        installedSchedule = (scheduler, task) ->
+                instrument(scheduler, prevSchedule == null ? task : prevSchedule.onSchedule(scheduler, task));
+        RxPlugins.setOnObservableAssembly(installedAssembly);
+        RxPlugins.setOnSchedule(installedSchedule);
+    }
+
+    /**
+     * Возвращает хуки, стоявшие до {@link #install()}. Хук, который после установки заменили
+     * через {@link RxPlugins}, не трогается.
+     */
+    public static synchronized void uninstall() {
+        if (installedAssembly == null) return;
+        if (RxPlugins.getOnObservableAssembly() == installedAssembly) RxPlugins.setOnObservableAssembly(previousAssembly);
+        if (RxPlugins.getOnSchedule() == installedSchedule)           RxPlugins.setOnSchedule(previousSchedule);
+        previousAssembly  = null;
+        previousSchedule  = null;
+        installedAssembly = null;
+        installedSchedule = null;
+    }
+
+    public static void reset() {
+        OPERATORS.clear();
+        SCHEDULERS.clear();
+    }
+
+    public static Map<String, OperatorStats> operators() { return Collections.unmodifiableMap(OPERATORS); }
+
+    public static Map<String, SchedulerStats> schedulers() { return Collections.unmodifiableMap(SCHEDULERS); }
+
+    /* ----------  операторы  ---------- */
+
+    /** Метрики поверх прежнего хука; имя оператора берётся по исходному источнику, а не по обёртке. */
+    private static final class MeteringAssemblyHook implements RxPlugins.AssemblyHook {
+        private final RxPlugins.AssemblyHook previous;
+
+        MeteringAssemblyHook(RxPlugins.AssemblyHook previous) { this.previous = previous; }
+
+        @Override public <T> Observable.ObservableOnSubscribe<T> onAssembly(Observable.ObservableOnSubscribe<T> source) {
+            OperatorStats stats = OPERATORS.computeIfAbsent(name(source.getClass()), k -> new OperatorStats());
+            Observable.ObservableOnSubscribe<T> wrapped = previous == null ? source : previous.onAssembly(source);
+            return observer -> wrapped.subscribe(new MeteredObserver<>(observer, stats));
+        }
+    }
+
+    /** Имя класса, для лямбд — {@code Владелец#lambda}. */
+    static String name(Class<?> type) {
+        String name = type.getSimpleName();
+        int lambda = name.indexOf("$$Lambda");
+        return lambda >= 0 ? name.substring(0, lambda) + "#lambda" : name;
+    }
+
+    private static final class MeteredObserver<T> implements Observer<T> {
+        private final Observer<? super T> actual;
+        private final OperatorStats stats;
+
+        MeteredObserver(Observer<? super T> actual, OperatorStats stats) {
+            this.actual = actual;
+            this.stats  = stats;
+        }
+
+        @Override public void onSubscribe(Disposable d) { actual.onSubscribe(d); }
+
+        @Override public void onNext(T item) {
+            long start = System.nanoTime();
+            try {
+                actual.onNext(item);
+            } finally {
+                stats.onNextNanos.record(System.nanoTime() - start);
+                stats.items.increment();
+            }
+        }
+
+        @Override public void onError(Throwable t) { actual.onError(t); }
+        @Override public void onComplete()         { actual.onComplete(); }
+
+        /** Источник create спрашивает об отписке у этой обёртки, а не у SafeObserver под ней. */
+        @Override public boolean isDisposed()      { return actual.isDisposed(); }
+    }
+
+    /* ----------  планировщики  ---------- */
+
+    private static Runnable instrument(Scheduler scheduler, Runnable task) {
+        SchedulerStats stats = SCHEDULERS.computeIfAbsent(name(scheduler.getClass()), k -> new SchedulerStats());
+        long queued = System.nanoTime();
+        stats.submitted.increment();
+        return () -> {
+            long start = System.nanoTime();
+            stats.started.increment();
+            stats.waitNanos.record(start - queued);
+            try {
+                task.run();
+            } finally {
+                stats.runNanos.record(System.nanoTime() - start);
+                stats.completed.increment();
+            }
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.myrxjava.core.plugins;
+
+import com.myrxjava.core.Observable;
+import com.myrxjava.core.Scheduler;
+
+/**
+ * Глобальные хуки в духе RxJavaPlugins.  <br/>
+ * {@link AssemblyHook} оборачивает каждый источник при сборке Observable, {@link ScheduleHook} —
+ * каждую задачу, переданную в {@code Scheduler.execute} (и в Worker event-loop-а).
+ * Без хуков цена — одно чтение volatile-поля и проверка на {@code null}.
+ * Обёрнутый источник больше не узнаётся как map/filter или {@code Fuseable}, поэтому
+ * слияние стадий и fusion при включённом assembly-хуке отключаются.
+ */
+public final class RxPlugins {
+
+    /** Если хук оборачивает Observer, обёртка должна делегировать {@link com.myrxjava.core.Observer#isDisposed()}. */
+    @FunctionalInterface
+    public interface AssemblyHook {
+        <T> Observable.ObservableOnSubscribe<T> onAssembly(Observable.ObservableOnSubscribe<T> source);
+    }
+
+    @FunctionalInterface
+    public interface ScheduleHook {
+        Runnable onSchedule(Scheduler scheduler, Runnable task);
+    }
+
+    private static volatile AssemblyHook onObservableAssembly;
+    private static volatile ScheduleHook onSchedule;
+
+    private RxPlugins() { }
+
+    public static void setOnObservableAssembly(AssemblyHook hook) { onObservableAssembly = hook; }
+
+    public static AssemblyHook getOnObservableAssembly() { return onObservableAssembly; }
+
+    public static void setOnSchedule(ScheduleHook hook) { onSchedule = hook; }
+
+    public static ScheduleHook getOnSchedule() { return onSchedule; }
+
+    /** Снимает все хуки. */
+    public static void reset() {
+        onObservableAssembly = null;
+        onSchedule = null;
+    }
+
+    /* ----------  точки вызова  ---------- */
+
+    public static <T> Observable.ObservableOnSubscribe<T> onAssembly(Observable.ObservableOnSubscribe<T> source) {
+        AssemblyHook h = onObservableAssembly;
+        return h == null ? source : h.onAssembly(source);
+    }
+
+    public static Runnable onSchedule(Scheduler scheduler, Runnable task) {
+        ScheduleHook h = onSchedule;
+        return h == null ? task : h.onSchedule(scheduler, task);
+    }
+}
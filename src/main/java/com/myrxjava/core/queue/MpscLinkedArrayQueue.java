@@ -0,0 +1,87 @@
+package com.myrxjava.core.queue;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Неограниченная lock-free очередь «много писателей — один читатель».  <br/>
+ * Элементы лежат в связанных массивах по {@code chunkSize} штук, поэтому память
+ * выделяется на блок, а не на каждый элемент. Писатель занимает индекс одним
+ * {@code getAndIncrement}, читатель только двигается по своим блокам.
+ */
+public final class MpscLinkedArrayQueue<T> implements SimpleQueue<T> {
+
+    private final int chunkSize;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+    private final AtomicReference<Chunk> producerChunk;     // подсказка: один из последних блоков
+    private Chunk consumerChunk;                             // трогает только читатель
+
+    public MpscLinkedArrayQueue(int chunkSize) {
+        this.chunkSize = Math.max(2, chunkSize);
+        Chunk first = new Chunk(0L, this.chunkSize, null);
+        this.producerChunk = new AtomicReference<>(first);
+        this.consumerChunk = first;
+    }
+
+    @Override public boolean offer(T value) {
+        Objects.requireNonNull(value, "value");
+        long index = producerIndex.getAndIncrement();
+
+        Chunk c = producerChunk.get();
+        while (index < c.base) c = c.prev;                   // подсказку уже сдвинул более быстрый писатель
+        while (index >= c.base + chunkSize) {
+            Chunk next = c.next.get();
+            if (next == null) {
+                Chunk fresh = new Chunk(c.base + chunkSize, chunkSize, c);
+                next = c.next.compareAndSet(null, fresh) ? fresh : c.next.get();
+            }
+            c = next;
+        }
+        Chunk hint = producerChunk.get();
+        if (hint.base < c.base) producerChunk.compareAndSet(hint, c);
+
+        c.slots.lazySet((int) (index - c.base), value);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override public T poll() {
+        long index = consumerIndex.get();
+        Chunk c = consumerChunk;
+        int offset = (int) (index - c.base);
+        if (offset == chunkSize) {
+            Chunk next = c.next.get();
+            if (next == null) return null;
+            next.prev = null;                                // назад в прочитанный блок уже никто не пойдёт
+            consumerChunk = c = next;
+            offset = 0;
+        }
+        Object value = c.slots.get(offset);
+        if (value == null) return null;                      // индекс занят, но запись ещё не видна
+        c.slots.lazySet(offset, null);
+        consumerIndex.lazySet(index + 1);
+        return (T) value;
+    }
+
+    @Override public boolean isEmpty() { return producerIndex.get() == consumerIndex.get(); }
+
+    @Override public void clear() {
+        while (poll() != null) { /* выгребаем */ }
+    }
+
+    private static final class Chunk {
+        final long base;
+        final AtomicReferenceArray<Object> slots;
+        final AtomicReference<Chunk> next = new AtomicReference<>();
+        volatile Chunk prev;
+
+        Chunk(long base, int size, Chunk prev) {
+            this.base  = base;
+            this.slots = new AtomicReferenceArray<>(size);
+            this.prev  = prev;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.myrxjava.core.queue;
+
+/** Минимальный контракт очереди для drain-циклов операторов; {@code null} не допускается. */
+public interface SimpleQueue<T> {
+    /** @return {@code false}, если очередь ограничена и заполнена. */
+    boolean offer(T value);
+
+    /** @return следующий элемент или {@code null}, если очередь пуста. */
+    T poll();
+
+    boolean isEmpty();
+
+    void clear();
+}
@@ -0,0 +1,51 @@
+package com.myrxjava.core.queue;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Ограниченная lock-free очередь «один писатель — один читатель» на кольцевом массиве.  <br/>
+ * Ёмкость округляется вверх до степени двойки.
+ */
+public final class SpscArrayQueue<T> implements SimpleQueue<T> {
+
+    private final AtomicReferenceArray<T> buffer;
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    public SpscArrayQueue(int capacity) {
+        int cap = 1 << (32 - Integer.numberOfLeadingZeros(Math.max(capacity, 2) - 1));
+        this.buffer = new AtomicReferenceArray<>(cap);
+        this.mask   = cap - 1;
+    }
+
+    @Override public boolean offer(T value) {
+        Objects.requireNonNull(value, "value");
+        long p = producerIndex.get();
+        int offset = (int) p & mask;
+        if (buffer.get(offset) != null) return false;          // слот ещё не освободил читатель
+        buffer.lazySet(offset, value);
+        producerIndex.lazySet(p + 1);
+        return true;
+    }
+
+    @Override public T poll() {
+        long c = consumerIndex.get();
+        int offset = (int) c & mask;
+        T value = buffer.get(offset);
+        if (value == null) return null;
+        buffer.lazySet(offset, null);
+        consumerIndex.lazySet(c + 1);
+        return value;
+    }
+
+    @Override public boolean isEmpty() { return producerIndex.get() == consumerIndex.get(); }
+
+    @Override public void clear() {
+        while (poll() != null || !isEmpty()) { /* выгребаем */ }
+    }
+
+    public int capacity() { return mask + 1; }
+}
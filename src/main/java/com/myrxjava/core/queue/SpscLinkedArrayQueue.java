@@ -0,0 +1,73 @@
+package com.myrxjava.core.queue;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Неограниченная lock-free очередь «один писатель — один читатель».  <br/>
+ * Как {@link MpscLinkedArrayQueue}, элементы лежат в связанных блоках по {@code chunkSize},
+ * но писатель единственный, поэтому вставка — обычная запись с release-семантикой, без CAS.
+ * Размер блока округляется вверх до степени двойки.
+ */
+public final class SpscLinkedArrayQueue<T> implements SimpleQueue<T> {
+
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+    private Chunk producerChunk;                            // трогает только писатель
+    private Chunk consumerChunk;                            // трогает только читатель
+
+    public SpscLinkedArrayQueue(int chunkSize) {
+        int size = 1 << (32 - Integer.numberOfLeadingZeros(Math.max(chunkSize, 2) - 1));
+        this.mask = size - 1;
+        this.producerChunk = this.consumerChunk = new Chunk(size);
+    }
+
+    @Override public boolean offer(T value) {
+        Objects.requireNonNull(value, "value");
+        long index = producerIndex.get();
+        int offset = (int) index & mask;
+        Chunk c = producerChunk;
+        if (offset == 0 && index != 0) {
+            Chunk fresh = new Chunk(mask + 1);
+            fresh.slots.lazySet(0, value);
+            c.next = fresh;                                 // volatile: читатель увидит блок вместе с элементом
+            producerChunk = fresh;
+        } else {
+            c.slots.lazySet(offset, value);
+        }
+        producerIndex.lazySet(index + 1);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override public T poll() {
+        long index = consumerIndex.get();
+        int offset = (int) index & mask;
+        Chunk c = consumerChunk;
+        if (offset == 0 && index != 0) {
+            Chunk next = c.next;
+            if (next == null) return null;
+            consumerChunk = c = next;                       // прочитанный блок больше не держим
+        }
+        Object value = c.slots.get(offset);
+        if (value == null) return null;
+        c.slots.lazySet(offset, null);
+        consumerIndex.lazySet(index + 1);
+        return (T) value;
+    }
+
+    @Override public boolean isEmpty() { return producerIndex.get() == consumerIndex.get(); }
+
+    @Override public void clear() {
+        while (poll() != null) { /* выгребаем */ }
+    }
+
+    private static final class Chunk {
+        final AtomicReferenceArray<Object> slots;
+        volatile Chunk next;
+
+        Chunk(int size) { this.slots = new AtomicReferenceArray<>(size); }
+    }
+}
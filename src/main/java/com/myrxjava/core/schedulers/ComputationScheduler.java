@@ -1,22 +1,365 @@
 package com.myrxjava.core.schedulers;
 
 import com.myrxjava.core.Scheduler;
+import com.myrxjava.core.plugins.RxPlugins;
+import com.myrxjava.core.queue.MpscLinkedArrayQueue;
 
+import java.util.Queue;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
-/** Аналог Schedulers.computation() — FixedThreadPool по числу ядер. */
-public final class ComputationScheduler implements Scheduler {
+/**
+ * Аналог Schedulers.computation() — event-loop-ы по числу ядер.  <br/>
+ * У каждого цикла своя lock-free очередь, общей очереди на весь пул нет.
+ * {@link #createWorker()} закрепляет Worker за одним циклом (round-robin), так что задачи
+ * одной подписки выполняются на одном потоке по порядку. Простаивающий цикл может
+ * забрать у соседа задачу, отправленную через {@link #execute}; задачи Worker-ов
+ * не воруются никогда — иначе сломался бы их порядок.  <br/>
+ * {@link #builder()} задаёт общую ёмкость очередей и {@link RejectionPolicy}. Задачи Worker-ов
+ * политика не выбрасывает и не выполняет на чужом потоке: при CALLER_RUNS притормаживается
+ * поставщик, при DROP_OLDEST выбрасывается старейшая задача из {@link #execute}.
+ * Тикер {@link TimerWheel} и сами циклы не притормаживаются и чужих задач не выполняют —
+ * их задачи встают сверх ёмкости.
+ * Потоки event-loop-ов живут до {@link #shutdown()}, keep-alive у них нет.
+ */
+public final class ComputationScheduler implements Scheduler, SchedulerGauges, Lifecycle {
 
-    private static final int SIZE = Runtime.getRuntime().availableProcessors();
     private static final AtomicInteger IDX = new AtomicInteger();
+    private static final int UNBOUNDED = Integer.MAX_VALUE;
+    private static final long THROTTLE_NANOS = 50_000;
+    private static final int WORKER_BATCH = 64;         // задач Worker-а подряд, потом очередь соседей по циклу
 
-    private final ExecutorService pool = Executors.newFixedThreadPool(
-            SIZE,
-            r -> new Thread(r, "ComputationThread-" + IDX.incrementAndGet())
-    );
+    private final EventLoop[] loops;
+    private final boolean workStealing;
+    private final int queueCapacity;
+    private final RejectionPolicy rejectionPolicy;
+    private final int priority;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile boolean shutdown;                  // новые задачи не принимаются
+    private volatile boolean stopNow;                   // и очереди не дорабатываются
 
-    @Override public void execute(Runnable task) { pool.execute(task); }
+    /* счётчики: queued = submitted - taken, active = taken - completed - dropped */
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder taken = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
 
-    public void shutdown() { pool.shutdownNow(); }
+    /** Размер по числу ядер; work-stealing отключается {@code -Dmyrxjava.computation.work-stealing=false}. */
+    public ComputationScheduler() { this(builder()); }
+
+    public ComputationScheduler(int parallelism, boolean workStealing) {
+        this(builder().parallelism(parallelism).workStealing(workStealing));
+    }
+
+    private ComputationScheduler(Builder b) {
+        if (b.parallelism <= 0) throw new IllegalArgumentException("parallelism > 0 required but it was " + b.parallelism);
+        PooledExecutor.checkSettings(b.parallelism, b.queueCapacity, 0, b.priority);
+        if (b.rejectionPolicy == null) throw new NullPointerException("rejectionPolicy");
+        this.workStealing    = b.workStealing;
+        this.queueCapacity   = b.queueCapacity;
+        this.rejectionPolicy = b.rejectionPolicy;
+        this.priority        = b.priority;
+        this.loops = new EventLoop[b.parallelism];
+        for (int i = 0; i < b.parallelism; i++) loops[i] = new EventLoop();
+    }
+
+    public static Builder builder() { return new Builder(); }
+
+    @Override public void execute(Runnable task) {
+        if (shutdown) throw new RejectedExecutionException("ComputationScheduler is shut down");
+        Runnable r = RxPlugins.onSchedule(this, task);
+        if (queueCapacity != UNBOUNDED && queuedTasks() >= queueCapacity && !admit(r)) return;
+        EventLoop loop = pick();
+        loop.submitting.getAndIncrement();
+        try {
+            if (shutdown) throw new RejectedExecutionException("ComputationScheduler is shut down");
+            submitted.increment();
+            loop.shared.offer(r);
+        } finally {
+            loop.submitting.getAndDecrement();
+        }
+        if (!loop.signal() && workStealing) wakeIdle(loop);
+    }
+
+    @Override public Worker createWorker() { return new EventLoopWorker(pick()); }
+
+    public int parallelism() { return loops.length; }
+
+    @Override public int activeThreads()   { return (int) Math.max(0, taken.sum() - completed.sum() - dropped.sum()); }
+    @Override public long queuedTasks()    { return Math.max(0, submitted.sum() - taken.sum()); }
+    @Override public long completedTasks() { return completed.sum(); }
+    @Override public long rejectedTasks()  { return rejected.sum(); }
+
+    /** Перестаёт принимать задачи; уже поставленные дорабатываются, после чего циклы останавливаются. */
+    @Override public void shutdown() {
+        shutdown = true;
+        wakeAll();
+    }
+
+    /** Останавливает циклы после текущей задачи, очереди выбрасываются. */
+    @Override public void shutdownNow() {
+        stopNow = true;
+        shutdown();
+    }
+
+    @Override public boolean isShutdown() { return shutdown; }
+
+    @Override public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (EventLoop loop : loops) {
+            Thread t = loop.thread;
+            if (t == null) continue;
+            long left = deadline - System.nanoTime();
+            if (left > 0) TimeUnit.NANOSECONDS.timedJoin(t, left);
+            if (t.isAlive()) return false;
+        }
+        return true;
+    }
+
+    private void wakeAll() {
+        for (EventLoop loop : loops) {
+            Thread t = loop.thread;
+            if (t != null) LockSupport.unpark(t);
+        }
+    }
+
+    private EventLoop pick() { return loops[Math.floorMod(next.getAndIncrement(), loops.length)]; }
+
+    /* ----------  переполнение  ---------- */
+
+    /** Очередь полна, задача из {@link #execute}; {@code false} — политика уже распорядилась ею сама. */
+    private boolean admit(Runnable r) {
+        rejected.increment();
+        switch (rejectionPolicy) {
+            case ERROR -> throw new RejectedExecutionException("ComputationScheduler queue is full (capacity " + queueCapacity + ")");
+            case DROP_OLDEST -> { if (dropOldest()) return true; }
+            case CALLER_RUNS -> { }
+        }
+        if (NonBlockingThread.current()) return true;   // тикер и циклы чужую задачу не выполняют — сверх ёмкости
+        r.run();                                        // CALLER_RUNS или выбрасывать нечего
+        return false;
+    }
+
+    /** Очередь полна, задача Worker-а: её нельзя ни выбросить, ни выполнить вне цикла. */
+    private void admitPinned(EventLoopWorker worker) {
+        switch (rejectionPolicy) {
+            case ERROR -> {
+                rejected.increment();
+                throw new RejectedExecutionException("ComputationScheduler queue is full (capacity " + queueCapacity + ")");
+            }
+            case DROP_OLDEST -> dropOldest();
+            case CALLER_RUNS -> {
+                if (NonBlockingThread.current()) return;    // цикл ждать себя не может, тикер — тем более
+                while (queuedTasks() >= queueCapacity && !shutdown && !worker.disposed) {
+                    LockSupport.parkNanos(this, THROTTLE_NANOS);
+                }
+            }
+        }
+    }
+
+    /** Выбрасывает старейшую задачу из общих очередей; задачи Worker-ов не трогает. */
+    private boolean dropOldest() {
+        for (EventLoop loop : loops) {
+            if (loop.shared.poll() != null) {
+                taken.increment();
+                dropped.increment();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Целевой цикл занят — будим любой спящий, чтобы он украл задачу. */
+    private void wakeIdle(EventLoop busy) {
+        for (EventLoop loop : loops) {
+            if (loop != busy && loop.started.get() && loop.wakeIfSleeping()) return;
+        }
+    }
+
+    /* ----------  event loop  ---------- */
+
+    private final class EventLoop implements Runnable {
+
+        volatile Thread thread;                 // создаётся при первой задаче
+        final MpscLinkedArrayQueue<Runnable> pinned = new MpscLinkedArrayQueue<>(64);  // только свой Worker
+        final Queue<Runnable> shared = new ConcurrentLinkedQueue<>();                   // можно украсть
+        final AtomicBoolean sleeping = new AtomicBoolean();
+        final AtomicBoolean started = new AtomicBoolean();
+        /** Постановки в этот цикл, успевшие проверить shutdown, но ещё не положившие задачу. */
+        final AtomicInteger submitting = new AtomicInteger();
+
+        /** Запускает поток при первой задаче или будит его; {@code false} — цикл и так не спит. */
+        boolean signal() {
+            if (!started.get() && started.compareAndSet(false, true)) {
+                Thread t = new LoopThread(this, "ComputationThread-" + IDX.incrementAndGet());
+                t.setPriority(priority);
+                t.setDaemon(true);
+                thread = t;
+                t.start();
+                return true;
+            }
+            return wakeIfSleeping();
+        }
+
+        boolean wakeIfSleeping() {
+            if (sleeping.get() && sleeping.compareAndSet(true, false)) {
+                LockSupport.unpark(thread);
+                return true;
+            }
+            return false;
+        }
+
+        @Override public void run() {
+            while (!stopNow) {
+                Runnable task = poll();
+                if (task == null) {
+                    if (shutdown) {
+                        if (submitting.get() != 0) {    // постановка проверила флаг до shutdown — дождаться задачи
+                            Thread.onSpinWait();
+                            continue;
+                        }
+                        task = poll();
+                        if (task == null) break;        // очередь доработана
+                    } else {
+                        sleeping.set(true);
+                        task = poll();                  // перепроверка: задача могла прийти до флага
+                        if (task == null) {
+                            if (!shutdown) LockSupport.park(this);
+                            sleeping.set(false);
+                            Thread.interrupted();       // прерывание не должно превратить park в спин
+                            continue;
+                        }
+                        sleeping.set(false);
+                    }
+                }
+                if (task instanceof EventLoopWorker) task.run();     // считает свои задачи сам
+                else runTask(task);
+            }
+            pinned.clear();
+            shared.clear();
+        }
+
+        void runTask(Runnable task) {
+            taken.increment();
+            try {
+                task.run();
+            } catch (Throwable ex) {
+                Thread t = Thread.currentThread();
+                t.getUncaughtExceptionHandler().uncaughtException(t, ex);
+            }
+            completed.increment();
+        }
+
+        private Runnable poll() {
+            Runnable task = pinned.poll();
+            if (task == null) task = shared.poll();
+            if (task == null && workStealing) task = steal();
+            return task;
+        }
+
+        private Runnable steal() {
+            for (EventLoop other : loops) {
+                if (other != this) {
+                    Runnable task = other.shared.poll();
+                    if (task != null) return task;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Worker, закреплённый за одним циклом.  <br/>
+     * Задачи копятся в своей MPSC-очереди, а в очередь цикла Worker попадает сам, когда в нём
+     * появляется работа, — как {@link SerialWorker}, только без отдельного таска на пул.
+     * disposed проверяется в drain-е перед каждой задачей, обёртки на задачу нет.
+     */
+    private final class EventLoopWorker implements Worker, Runnable {
+
+        private final EventLoop loop;
+        private final MpscLinkedArrayQueue<Runnable> queue = new MpscLinkedArrayQueue<>(16);
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean disposed;
+
+        EventLoopWorker(EventLoop loop) { this.loop = loop; }
+
+        @Override public void execute(Runnable task) {
+            if (disposed) return;
+            if (shutdown) throw new RejectedExecutionException("ComputationScheduler is shut down");
+            Runnable r = RxPlugins.onSchedule(ComputationScheduler.this, task);
+            if (queueCapacity != UNBOUNDED && queuedTasks() >= queueCapacity) admitPinned(this);
+            loop.submitting.getAndIncrement();
+            try {
+                if (shutdown) throw new RejectedExecutionException("ComputationScheduler is shut down");
+                submitted.increment();
+                queue.offer(r);
+                if (wip.getAndIncrement() != 0) return;     // drain уже в очереди цикла или идёт
+                loop.pinned.offer(this);
+            } finally {
+                loop.submitting.getAndDecrement();
+            }
+            loop.signal();
+        }
+
+        /** Drain на потоке цикла; после {@link #WORKER_BATCH} задач Worker встаёт в конец очереди цикла. */
+        @Override public void run() {
+            int missed = 1;
+            int budget = WORKER_BATCH;
+            for (;;) {
+                Runnable task;
+                while ((task = queue.poll()) != null) {
+                    if (disposed || stopNow) {
+                        discard();
+                        return;                             // wip не сбрасывается: drain больше не нужен
+                    }
+                    loop.runTask(task);
+                    if (--budget == 0) {
+                        loop.pinned.offer(this);
+                        return;
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) return;
+            }
+        }
+
+        /** Не начатые задачи снятого Worker-а: учитываются как выброшенные. */
+        private void discard() {
+            int n = 1;                                      // уже вынутая из очереди
+            while (queue.poll() != null) n++;
+            taken.add(n);
+            dropped.add(n);
+        }
+
+        @Override public void dispose()       { disposed = true; }
+        @Override public boolean isDisposed() { return disposed; }
+    }
+
+    private static final class LoopThread extends Thread implements NonBlockingThread {
+        LoopThread(Runnable loop, String name) { super(loop, name); }
+    }
+
+    /** По умолчанию: по потоку на ядро, work-stealing по system property, очередь без ограничения. */
+    public static final class Builder {
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private boolean workStealing = !"false".equals(System.getProperty("myrxjava.computation.work-stealing"));
+        private int queueCapacity = UNBOUNDED;
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+        private int priority = Thread.NORM_PRIORITY;
+
+        private Builder() { }
+
+        public Builder parallelism(int parallelism)              { this.parallelism = parallelism; return this; }
+        public Builder workStealing(boolean workStealing)        { this.workStealing = workStealing; return this; }
+        /** Общая ёмкость очередей всех циклов (задачи {@link #execute} и Worker-ов вместе). */
+        public Builder queueCapacity(int queueCapacity)          { this.queueCapacity = queueCapacity; return this; }
+        public Builder rejectionPolicy(RejectionPolicy policy)   { this.rejectionPolicy = policy; return this; }
+        public Builder priority(int priority)                    { this.priority = priority; return this; }
+
+        public ComputationScheduler build() { return new ComputationScheduler(this); }
+    }
 }
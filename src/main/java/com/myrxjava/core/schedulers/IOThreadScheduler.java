@@ -1,21 +1,71 @@
 package com.myrxjava.core.schedulers;
 
 import com.myrxjava.core.Scheduler;
+import com.myrxjava.core.plugins.RxPlugins;
 
-import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
 
-/** Аналог Schedulers.io() — CachedThreadPool c читаемыми именами потоков. */
-public final class IOThreadScheduler implements Scheduler {
+/**
+ * Аналог Schedulers.io() — CachedThreadPool c читаемыми именами потоков.  <br/>
+ * Через {@link #builder()} пул можно ограничить: число потоков, ёмкость очереди и
+ * {@link RejectionPolicy} на переполнение — под перегрузкой задачи отбрасываются предсказуемо,
+ * а не копятся в невидимой очереди.
+ */
+public final class IOThreadScheduler implements Scheduler, SchedulerGauges, Lifecycle {
 
-    private static final AtomicInteger IDX = new AtomicInteger();
+    private final PooledExecutor executor;
 
-    private final ExecutorService executor = Executors.newCachedThreadPool(
-            r -> new Thread(r, "IOThread-" + IDX.incrementAndGet())
-    );
+    public IOThreadScheduler() { this(builder()); }
 
-    @Override public void execute(Runnable task) { executor.execute(task); }
+    private IOThreadScheduler(Builder b) {
+        this.executor = new PooledExecutor("IOThread", true, b.maxThreads, b.queueCapacity,
+                                           b.rejectionPolicy, b.keepAliveNanos, b.priority);
+    }
 
-    /** Удобно в тестах / при завершении JVM. */
-    public void shutdown() { executor.shutdownNow(); }
+    public static Builder builder() { return new Builder(); }
+
+    @Override public void execute(Runnable task) {
+        executor.execute(executor.mark(task, RxPlugins.onSchedule(this, task)));
+    }
+
+    @Override public int activeThreads()   { return executor.activeThreads(); }
+    @Override public long queuedTasks()    { return executor.queuedTasks(); }
+    @Override public long completedTasks() { return executor.completedTasks(); }
+    @Override public long rejectedTasks()  { return executor.rejectedTasks(); }
+
+    /** Перестаёт принимать задачи; уже поставленные дорабатываются. */
+    @Override public void shutdown() { executor.shutdown(); }
+
+    /** Прерывает выполняемые задачи и выбрасывает очередь. */
+    @Override public void shutdownNow() { executor.shutdownNow(); }
+
+    @Override public boolean isShutdown() { return executor.isShutdown(); }
+
+    @Override public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    /** По умолчанию: потоков и очереди без ограничения, keep-alive 60 с, обычный приоритет. */
+    public static final class Builder {
+        private int maxThreads = PooledExecutor.UNBOUNDED;
+        private int queueCapacity = PooledExecutor.UNBOUNDED;
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+        private long keepAliveNanos = TimeUnit.SECONDS.toNanos(60);
+        private int priority = Thread.NORM_PRIORITY;
+
+        private Builder() { }
+
+        /** Ограничивает пул; без этого очередь не используется и {@link #queueCapacity} ни на что не влияет. */
+        public Builder maxThreads(int maxThreads)                 { this.maxThreads = maxThreads; return this; }
+        public Builder queueCapacity(int queueCapacity)           { this.queueCapacity = queueCapacity; return this; }
+        public Builder rejectionPolicy(RejectionPolicy policy)    { this.rejectionPolicy = policy; return this; }
+        public Builder keepAlive(long time, TimeUnit unit)        { this.keepAliveNanos = unit.toNanos(time); return this; }
+        public Builder priority(int priority)                     { this.priority = priority; return this; }
+
+        public IOThreadScheduler build() {
+            PooledExecutor.checkSettings(maxThreads, queueCapacity, keepAliveNanos, priority);
+            if (rejectionPolicy == null) throw new NullPointerException("rejectionPolicy");
+            return new IOThreadScheduler(this);
+        }
+    }
 }
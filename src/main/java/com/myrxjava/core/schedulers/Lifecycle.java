@@ -0,0 +1,17 @@
+package com.myrxjava.core.schedulers;
+
+import java.util.concurrent.TimeUnit;
+
+/** Остановка планировщика в терминах ExecutorService; через неё {@link Schedulers} гасит общие экземпляры. */
+public interface Lifecycle {
+    /** Новые задачи отклоняются, поставленные дорабатываются. */
+    void shutdown();
+
+    /** Новые задачи отклоняются, очередь выбрасывается. */
+    void shutdownNow();
+
+    boolean isShutdown();
+
+    /** @return {@code true}, если все потоки планировщика завершились до таймаута */
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException;
+}
@@ -0,0 +1,11 @@
+package com.myrxjava.core.schedulers;
+
+/**
+ * Метка потоков, которые политика переполнения не должна ни занимать чужой задачей, ни парковать:
+ * тикер {@link TimerWheel} и event-loop-ы {@link ComputationScheduler}.
+ * Задача с такого потока встаёт в очередь сверх ёмкости.
+ */
+interface NonBlockingThread {
+
+    static boolean current() { return Thread.currentThread() instanceof NonBlockingThread; }
+}
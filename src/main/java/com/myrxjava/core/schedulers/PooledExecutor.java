@@ -0,0 +1,127 @@
+package com.myrxjava.core.schedulers;
+
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ThreadPoolExecutor для IO и Single: ограниченная очередь, {@link RejectionPolicy} и счётчики.  <br/>
+ * Без ограничения потоков пул ведёт себя как CachedThreadPool (очереди нет, поток на задачу).
+ */
+final class PooledExecutor extends ThreadPoolExecutor implements SchedulerGauges {
+
+    static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private final RejectionPolicy policy;
+    private final int queueCapacity;
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder active = new LongAdder();           // getActiveCount() берёт mainLock пула
+    private final LongAdder completed = new LongAdder();        // как и getCompletedTaskCount()
+    /** Задачи тикера и event-loop-ов, не влезшие в очередь; переносятся в неё по мере освобождения. */
+    private final Deque<Runnable> overflow = new ConcurrentLinkedDeque<>();
+    private final LongAdder overflowed = new LongAdder();
+
+    PooledExecutor(String threadName, boolean numbered, int maxThreads, int queueCapacity,
+                   RejectionPolicy policy, long keepAliveNanos, int priority) {
+        super(maxThreads == UNBOUNDED ? 0 : maxThreads, maxThreads, keepAliveNanos, TimeUnit.NANOSECONDS,
+              maxThreads == UNBOUNDED ? new SynchronousQueue<>()
+                      : queueCapacity == UNBOUNDED ? new LinkedBlockingQueue<>()
+                      : new ArrayBlockingQueue<>(queueCapacity),
+              factory(threadName, numbered, priority));
+        this.policy        = policy;
+        this.queueCapacity = queueCapacity;
+        if (maxThreads != UNBOUNDED && keepAliveNanos > 0) allowCoreThreadTimeOut(true);
+        setRejectedExecutionHandler((r, e) -> reject(r));
+    }
+
+    private static ThreadFactory factory(String name, boolean numbered, int priority) {
+        AtomicInteger idx = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, numbered ? name + "-" + idx.incrementAndGet() : name);
+            t.setPriority(priority);
+            t.setDaemon(true);                          // пул не должен держать JVM
+            return t;
+        };
+    }
+
+    static void checkSettings(int maxThreads, int queueCapacity, long keepAliveNanos, int priority) {
+        if (maxThreads <= 0) throw new IllegalArgumentException("maxThreads > 0 required but it was " + maxThreads);
+        if (queueCapacity <= 0) throw new IllegalArgumentException("queueCapacity > 0 required but it was " + queueCapacity);
+        if (keepAliveNanos < 0) throw new IllegalArgumentException("keepAlive >= 0 required but it was " + keepAliveNanos);
+        if (priority < Thread.MIN_PRIORITY || priority > Thread.MAX_PRIORITY) {
+            throw new IllegalArgumentException("priority in [1..10] required but it was " + priority);
+        }
+    }
+
+    /** Drain Worker-а помечается, чтобы DROP_OLDEST его не выбросил. */
+    Runnable mark(Runnable original, Runnable task) {
+        return policy == RejectionPolicy.DROP_OLDEST && original instanceof SerialWorker ? new Pinned(task) : task;
+    }
+
+    private void reject(Runnable r) {
+        if (isShutdown()) throw new RejectedExecutionException("Scheduler is shut down");
+        rejected.increment();
+        switch (policy) {
+            case ERROR -> throw new RejectedExecutionException("Scheduler queue is full (capacity " + queueCapacity + ")");
+            case CALLER_RUNS -> { if (!handOff(r)) r.run(); }
+            case DROP_OLDEST -> {
+                if (dropOldest()) execute(r);
+                else if (!handOff(r)) r.run();              // в очереди одни drain-ы — выполняем на месте
+            }
+        }
+    }
+
+    /** Тикер и event-loop-ы чужих задач не выполняют: задача ждёт в overflow, пока очередь не освободится. */
+    private boolean handOff(Runnable r) {
+        if (!NonBlockingThread.current()) return false;
+        overflowed.increment();
+        overflow.offer(r);
+        drainOverflow();                                    // потоки могли освободиться, пока задача шла сюда
+        return true;
+    }
+
+    private void drainOverflow() {
+        Runnable r;
+        while ((r = overflow.poll()) != null) {
+            if (!getQueue().offer(r)) {
+                overflow.offerFirst(r);
+                return;
+            }
+            overflowed.decrement();
+            prestartCoreThread();                           // простаивающие потоки могли истечь по keep-alive
+        }
+    }
+
+    private boolean dropOldest() {
+        for (Iterator<Runnable> it = getQueue().iterator(); it.hasNext(); ) {
+            Runnable queued = it.next();
+            if (!(queued instanceof Pinned) && getQueue().remove(queued)) return true;
+        }
+        return false;
+    }
+
+    /* ----------  счётчики  ---------- */
+
+    @Override protected void beforeExecute(Thread t, Runnable r) { active.increment(); }
+
+    @Override protected void afterExecute(Runnable r, Throwable t) {
+        active.decrement();
+        completed.increment();
+        if (!overflow.isEmpty()) drainOverflow();
+    }
+
+    @Override public int activeThreads()   { return (int) Math.max(0, active.sum()); }
+    @Override public long queuedTasks()    { return getQueue().size() + overflowed.sum(); }
+    @Override public long completedTasks() { return completed.sum(); }
+    @Override public long rejectedTasks()  { return rejected.sum(); }
+
+    private static final class Pinned implements Runnable {
+        private final Runnable task;
+
+        Pinned(Runnable task) { this.task = task; }
+
+        @Override public void run() { task.run(); }
+    }
+}
@@ -0,0 +1,16 @@
+package com.myrxjava.core.schedulers;
+
+/**
+ * Что делать с задачей, когда очередь планировщика заполнена.  <br/>
+ * Drain-задачи Worker-ов никогда не выбрасываются: потеря одной остановила бы всю подписку.
+ * Тикер {@link TimerWheel} и event-loop-ы computation() чужую задачу не выполняют и не ждут:
+ * вместо CALLER_RUNS их задача встаёт в очередь сверх ёмкости.
+ */
+public enum RejectionPolicy {
+    /** Задача выполняется на вызывающем потоке — источник сам притормаживает. */
+    CALLER_RUNS,
+    /** Выбрасывается самая старая задача из очереди, новая встаёт в конец. */
+    DROP_OLDEST,
+    /** {@code execute} бросает {@link java.util.concurrent.RejectedExecutionException}; observeOn/subscribeOn и операторы со временем отдают её в onError. */
+    ERROR
+}
@@ -0,0 +1,16 @@
+package com.myrxjava.core.schedulers;
+
+/**
+ * Текущая загрузка планировщика; значения читаются без блокировки пула и могут немного отставать.  <br/>
+ * Счётчики потоков и задач — {@code LongAdder}-ы; {@link #queuedTasks()} у ограниченной очереди
+ * ThreadPoolExecutor-а берёт короткую блокировку самой очереди (не пула).
+ */
+public interface SchedulerGauges {
+    /** Потоки, которые сейчас выполняют задачу. */
+    int activeThreads();
+    /** Задачи в очереди, ещё не начатые. */
+    long queuedTasks();
+    long completedTasks();
+    /** Задачи, отклонённые или выброшенные политикой {@link RejectionPolicy}. */
+    long rejectedTasks();
+}
@@ -0,0 +1,115 @@
+package com.myrxjava.core.schedulers;
+
+import com.myrxjava.core.Scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Общие экземпляры планировщиков и их жизненный цикл.  <br/>
+ * Пулы создаются при первом обращении, потоки у всех daemon — JVM завершается и без явного shutdown.
+ * {@link #shutdown(long, TimeUnit)} дорабатывает очереди и останавливает потоки; до {@link #start()}
+ * общие планировщики отклоняют задачи (observeOn/subscribeOn отдают отказ в onError).  <br/>
+ * System properties: {@code myrxjava.io.virtual=true} направляет {@link #io()} на виртуальные потоки,
+ * {@code myrxjava.virtual.max-concurrency=N} ограничивает число одновременных задач {@link #virtual()}.
+ */
+public final class Schedulers {
+
+    private static final boolean IO_ON_VIRTUAL_THREADS = Boolean.getBoolean("myrxjava.io.virtual");
+
+    private static final Object LOCK = new Object();
+    private static volatile IOThreadScheduler io;
+    private static volatile ComputationScheduler computation;
+    private static volatile SingleThreadScheduler single;
+    private static volatile VirtualThreadScheduler virtual;
+    private static boolean stopped;                     // guarded by LOCK
+
+    private Schedulers() { }
+
+    public static Scheduler io() { return IO_ON_VIRTUAL_THREADS ? virtual() : ioThreads(); }
+
+    public static ComputationScheduler computation() {
+        ComputationScheduler s = computation;
+        if (s != null) return s;
+        synchronized (LOCK) {
+            if (computation == null) computation = created(new ComputationScheduler());
+            return computation;
+        }
+    }
+
+    public static SingleThreadScheduler single() {
+        SingleThreadScheduler s = single;
+        if (s != null) return s;
+        synchronized (LOCK) {
+            if (single == null) single = created(new SingleThreadScheduler());
+            return single;
+        }
+    }
+
+    public static VirtualThreadScheduler virtual() {
+        VirtualThreadScheduler s = virtual;
+        if (s != null) return s;
+        synchronized (LOCK) {
+            if (virtual == null) {
+                virtual = created(new VirtualThreadScheduler(Integer.getInteger("myrxjava.virtual.max-concurrency", 0)));
+            }
+            return virtual;
+        }
+    }
+
+    private static IOThreadScheduler ioThreads() {
+        IOThreadScheduler s = io;
+        if (s != null) return s;
+        synchronized (LOCK) {
+            if (io == null) io = created(new IOThreadScheduler());
+            return io;
+        }
+    }
+
+    /** Созданный после shutdown экземпляр сразу остановлен — до start() все общие планировщики ведут себя одинаково. */
+    private static <S extends Lifecycle> S created(S scheduler) {
+        if (stopped) scheduler.shutdown();
+        return scheduler;
+    }
+
+    /* ----------  жизненный цикл  ---------- */
+
+    /**
+     * Перестаёт принимать задачи, дорабатывает поставленные и ждёт остановки потоков.  <br/>
+     * Задачи, отложенные через {@code schedule(...)} и не успевшие сработать, будут отклонены.
+     * @return {@code true}, если все потоки завершились до таймаута
+     */
+    public static boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        Lifecycle[] all = stop();
+        for (Lifecycle s : all) if (s != null) s.shutdown();
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        boolean terminated = true;
+        for (Lifecycle s : all) {
+            if (s != null) terminated &= s.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+        return terminated;
+    }
+
+    /** Останавливает всё сразу: выполняемые задачи прерываются, очереди выбрасываются. */
+    public static void shutdownNow() {
+        for (Lifecycle s : stop()) if (s != null) s.shutdownNow();
+    }
+
+    /** После shutdown: следующие обращения создадут свежие пулы. Для работающих планировщиков ничего не делает. */
+    public static void start() {
+        synchronized (LOCK) {
+            if (!stopped) return;
+            stopped = false;
+            io = null;
+            computation = null;
+            single = null;
+            virtual = null;
+        }
+    }
+
+    private static Lifecycle[] stop() {
+        synchronized (LOCK) {
+            stopped = true;
+            return new Lifecycle[] { io, computation, single, virtual };
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.myrxjava.core.schedulers;
+
+import com.myrxjava.core.Scheduler;
+import com.myrxjava.core.queue.MpscLinkedArrayQueue;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Worker поверх любого планировщика.  <br/>
+ * Задачи копятся в MPSC-очереди и выполняются по одной: пока очередь не пуста,
+ * у планировщика занят ровно один таск, поэтому порядок сохраняется даже на пуле.
+ */
+public final class SerialWorker implements Scheduler.Worker, Runnable {
+
+    private final Scheduler scheduler;
+    private final MpscLinkedArrayQueue<Runnable> queue = new MpscLinkedArrayQueue<>(16);
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile boolean disposed;
+
+    public SerialWorker(Scheduler scheduler) { this.scheduler = scheduler; }
+
+    @Override public void execute(Runnable task) {
+        if (disposed) return;
+        queue.offer(task);
+        if (wip.getAndIncrement() == 0) {
+            try {
+                scheduler.execute(this);
+            } catch (RejectedExecutionException ex) {
+                disposed = true;                        // drain не запустится — Worker больше не годен
+                queue.clear();
+                throw ex;
+            }
+        }
+    }
+
+    @Override public void run() {
+        int missed = 1;
+        for (;;) {
+            for (;;) {
+                if (disposed) { queue.clear(); return; }
+                Runnable task = queue.poll();
+                if (task == null) break;
+                try {
+                    task.run();
+                } catch (Throwable ex) {
+                    Thread t = Thread.currentThread();
+                    t.getUncaughtExceptionHandler().uncaughtException(t, ex);
+                }
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+
+    @Override public void dispose()       { disposed = true; }
+    @Override public boolean isDisposed() { return disposed; }
+}
@@ -1,16 +1,64 @@
 package com.myrxjava.core.schedulers;
 
 import com.myrxjava.core.Scheduler;
+import com.myrxjava.core.plugins.RxPlugins;
 
-import java.util.concurrent.*;
+import java.util.concurrent.TimeUnit;
 
-public final class SingleThreadScheduler implements Scheduler {
+/** Один поток; {@link #builder()} ограничивает очередь и задаёт {@link RejectionPolicy}, keep-alive и приоритет. */
+public final class SingleThreadScheduler implements Scheduler, SchedulerGauges, Lifecycle {
 
-    private final ExecutorService pool = Executors.newSingleThreadExecutor(
-            r -> new Thread(r, "SingleThread")
-    );
+    private final PooledExecutor pool;
 
-    @Override public void execute(Runnable task) { pool.execute(task); }
+    public SingleThreadScheduler() { this(builder()); }
 
-    public void shutdown() { pool.shutdownNow(); }
+    private SingleThreadScheduler(Builder b) {
+        this.pool = new PooledExecutor("SingleThread", false, 1, b.queueCapacity,
+                                       b.rejectionPolicy, b.keepAliveNanos, b.priority);
+    }
+
+    public static Builder builder() { return new Builder(); }
+
+    @Override public void execute(Runnable task) {
+        pool.execute(pool.mark(task, RxPlugins.onSchedule(this, task)));
+    }
+
+    @Override public int activeThreads()   { return pool.activeThreads(); }
+    @Override public long queuedTasks()    { return pool.queuedTasks(); }
+    @Override public long completedTasks() { return pool.completedTasks(); }
+    @Override public long rejectedTasks()  { return pool.rejectedTasks(); }
+
+    /** Перестаёт принимать задачи; уже поставленные дорабатываются. */
+    @Override public void shutdown() { pool.shutdown(); }
+
+    /** Прерывает выполняемые задачи и выбрасывает очередь. */
+    @Override public void shutdownNow() { pool.shutdownNow(); }
+
+    @Override public boolean isShutdown() { return pool.isShutdown(); }
+
+    @Override public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return pool.awaitTermination(timeout, unit);
+    }
+
+    /** По умолчанию: очередь без ограничения, поток живёт всегда, обычный приоритет. */
+    public static final class Builder {
+        private int queueCapacity = PooledExecutor.UNBOUNDED;
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+        private long keepAliveNanos;
+        private int priority = Thread.NORM_PRIORITY;
+
+        private Builder() { }
+
+        public Builder queueCapacity(int queueCapacity)           { this.queueCapacity = queueCapacity; return this; }
+        public Builder rejectionPolicy(RejectionPolicy policy)    { this.rejectionPolicy = policy; return this; }
+        /** Сколько простаивающий поток ждёт до остановки; {@code 0} — не останавливается. */
+        public Builder keepAlive(long time, TimeUnit unit)        { this.keepAliveNanos = unit.toNanos(time); return this; }
+        public Builder priority(int priority)                     { this.priority = priority; return this; }
+
+        public SingleThreadScheduler build() {
+            PooledExecutor.checkSettings(1, queueCapacity, keepAliveNanos, priority);
+            if (rejectionPolicy == null) throw new NullPointerException("rejectionPolicy");
+            return new SingleThreadScheduler(this);
+        }
+    }
 }
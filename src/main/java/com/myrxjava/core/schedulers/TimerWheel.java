@@ -0,0 +1,273 @@
+package com.myrxjava.core.schedulers;
+
+import com.myrxjava.core.Disposable;
+import com.myrxjava.core.queue.MpscLinkedArrayQueue;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Хешированное колесо таймеров: один поток-тикер на всё приложение.  <br/>
+ * Постановка и отмена — O(1): новый таймаут кладётся в MPSC-очередь, отменённый — помечается
+ * CAS-ом и вычищается из корзины на ближайшем тике. Срабатывание только передаёт задачу
+ * её планировщику через execute(), сам код пользователя на тикере не выполняется.
+ * Пока таймаутов нет, тикер спит и не просыпается каждый тик.
+ */
+public final class TimerWheel {
+
+    private static final class Holder {
+        static final TimerWheel INSTANCE = new TimerWheel(1, TimeUnit.MILLISECONDS, 512, "RxTimerWheel");
+    }
+
+    /** Общее колесо для {@code Scheduler.schedule(...)}: тик 1 мс, 512 корзин. */
+    public static TimerWheel shared() { return Holder.INSTANCE; }
+
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startTime = System.nanoTime();
+    private final MpscLinkedArrayQueue<Timeout> additions = new MpscLinkedArrayQueue<>(256);
+    private final MpscLinkedArrayQueue<Timeout> cancellations = new MpscLinkedArrayQueue<>(256);
+    private final AtomicLong pending = new AtomicLong();        // поставлены и ещё не сработали/не отменены
+    private final Thread thread;
+    private volatile boolean idle;
+    private long tick;                                          // трогает только тикер
+
+    public TimerWheel(long tickDuration, TimeUnit unit, int wheelSize, String threadName) {
+        if (tickDuration <= 0) throw new IllegalArgumentException("tickDuration > 0 required but it was " + tickDuration);
+        int size = 1 << (32 - Integer.numberOfLeadingZeros(Math.max(wheelSize, 2) - 1));
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheel = new Bucket[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) wheel[i] = new Bucket();
+        this.thread = new TickerThread(this::run, threadName);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /** Однократный запуск {@code task} на потоке тикера через {@code delay}. */
+    public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+        return scheduleAt(task, elapsed() + toNanos(delay, unit));
+    }
+
+    /**
+     * Периодический запуск с фиксированной частотой: каждый прогон передаётся в {@code target},
+     * следующий таймаут ставится после завершения предыдущего, так что прогоны не перекрываются.
+     * Исключение из {@code task} останавливает повторы.
+     */
+    public Disposable schedulePeriodically(Executor target, Runnable task,
+                                           long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) throw new IllegalArgumentException("period > 0 required but it was " + period);
+        PeriodicTask p = new PeriodicTask(target, task, elapsed() + toNanos(initialDelay, unit), unit.toNanos(period));
+        p.arm();
+        return p;
+    }
+
+    /** Таймауты, которые ещё не сработали и не отменены. */
+    public long pendingTimeouts() { return pending.get(); }
+
+    /* ----------  внутреннее  ---------- */
+
+    private long elapsed() { return System.nanoTime() - startTime; }
+
+    private static long toNanos(long delay, TimeUnit unit) {
+        long nanos = unit.toNanos(Math.max(0L, delay));
+        return Math.min(nanos, Long.MAX_VALUE >> 2);                // без переполнения deadline
+    }
+
+    private Timeout scheduleAt(Runnable task, long deadline) {
+        Timeout t = new Timeout(task, deadline);
+        pending.incrementAndGet();
+        additions.offer(t);
+        if (idle) LockSupport.unpark(thread);
+        return t;
+    }
+
+    private void run() {
+        for (;;) {
+            if (pending.get() == 0) {
+                processCancellations();
+                transferAdditions();
+                idle = true;
+                if (pending.get() == 0) LockSupport.park(this);
+                idle = false;
+                tick = Math.max(tick, elapsed() / tickNanos);        // корзины пусты — догонять тики незачем
+                continue;
+            }
+            long now = waitForNextTick();
+            processCancellations();
+            transferAdditions();
+            wheel[(int) (tick & mask)].expire(now);
+            tick++;
+        }
+    }
+
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        for (;;) {
+            long current = elapsed();
+            long sleep = deadline - current;
+            if (sleep <= 0) return current;
+            LockSupport.parkNanos(this, sleep);
+        }
+    }
+
+    private void transferAdditions() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout t = additions.poll();
+            if (t == null) return;
+            if (t.state.get() != Timeout.INIT) continue;
+            long calculated = t.deadline / tickNanos;
+            t.remainingRounds = (calculated - tick) / wheel.length;
+            long ticks = Math.max(calculated, tick);                // просроченные — в текущую корзину
+            wheel[(int) (ticks & mask)].add(t);
+        }
+    }
+
+    private void processCancellations() {
+        for (;;) {
+            Timeout t = cancellations.poll();
+            if (t == null) return;
+            if (t.bucket != null) t.bucket.remove(t);
+        }
+    }
+
+    /* ----------  таймаут  ---------- */
+
+    private final class Timeout implements Disposable {
+        static final int INIT = 0, CANCELLED = 1, EXPIRED = 2;
+
+        final Runnable task;
+        final long deadline;
+        final AtomicInteger state = new AtomicInteger(INIT);
+
+        /* поля корзины — только тикер */
+        long remainingRounds;
+        Bucket bucket;
+        Timeout prev, next;
+
+        Timeout(Runnable task, long deadline) {
+            this.task     = task;
+            this.deadline = deadline;
+        }
+
+        void expire() {
+            if (!state.compareAndSet(INIT, EXPIRED)) return;
+            pending.decrementAndGet();
+            try {
+                task.run();
+            } catch (Throwable ex) {
+                Thread t = Thread.currentThread();
+                t.getUncaughtExceptionHandler().uncaughtException(t, ex);
+            }
+        }
+
+        @Override public void dispose() {
+            if (state.compareAndSet(INIT, CANCELLED)) {
+                pending.decrementAndGet();
+                cancellations.offer(this);
+            }
+        }
+
+        @Override public boolean isDisposed() { return state.get() != INIT; }
+    }
+
+    /** Тикер не выполняет код пользователя, и политики переполнения его не паркуют. */
+    private static final class TickerThread extends Thread implements NonBlockingThread {
+        TickerThread(Runnable ticker, String name) { super(ticker, name); }
+    }
+
+    /** Двусвязный список таймаутов одной позиции колеса. */
+    private static final class Bucket {
+        private TimerWheel.Timeout head, tail;
+
+        void add(TimerWheel.Timeout t) {
+            t.bucket = this;
+            if (head == null) {
+                head = tail = t;
+            } else {
+                tail.next = t;
+                t.prev = tail;
+                tail = t;
+            }
+        }
+
+        void remove(TimerWheel.Timeout t) {
+            TimerWheel.Timeout next = t.next;
+            if (t.prev != null) t.prev.next = next;
+            if (next != null) next.prev = t.prev;
+            if (t == head) head = next;
+            if (t == tail) tail = t.prev;
+            t.prev = t.next = null;
+            t.bucket = null;
+        }
+
+        void expire(long now) {
+            TimerWheel.Timeout t = head;
+            while (t != null) {
+                TimerWheel.Timeout next = t.next;
+                if (t.state.get() != TimerWheel.Timeout.INIT) {
+                    remove(t);
+                } else if (t.remainingRounds <= 0 && t.deadline <= now) {
+                    remove(t);
+                    t.expire();
+                } else if (t.remainingRounds > 0) {
+                    t.remainingRounds--;
+                }
+                t = next;
+            }
+        }
+    }
+
+    /* ----------  периодическая задача  ---------- */
+
+    private final class PeriodicTask implements Disposable, Runnable {
+        private final Executor target;
+        private final Runnable task;
+        private final long periodNanos;
+        private final AtomicReference<Disposable> current = new AtomicReference<>();
+        private long nextDeadline;                              // меняет только сам прогон
+        private volatile boolean disposed;
+
+        PeriodicTask(Executor target, Runnable task, long firstDeadline, long periodNanos) {
+            this.target       = target;
+            this.task         = task;
+            this.nextDeadline = firstDeadline;
+            this.periodNanos  = periodNanos;
+        }
+
+        void arm() {
+            Disposable t = scheduleAt(() -> target.execute(this), nextDeadline);
+            current.set(t);
+            if (disposed) t.dispose();
+        }
+
+        @Override public void run() {
+            if (disposed) return;
+            try {
+                task.run();
+            } catch (Throwable ex) {
+                disposed = true;
+                throw ex;
+            }
+            nextDeadline += periodNanos;
+            long now = elapsed();
+            if (nextDeadline < now) nextDeadline = now;         // пропущенные периоды не нагоняем пачкой
+            if (!disposed) arm();
+        }
+
+        @Override public void dispose() {
+            disposed = true;
+            Disposable d = current.getAndSet(null);
+            if (d != null) d.dispose();
+        }
+
+        @Override public boolean isDisposed() { return disposed; }
+    }
+}
@@ -0,0 +1,60 @@
+package com.myrxjava.core.schedulers;
+
+import com.myrxjava.core.Scheduler;
+import com.myrxjava.core.plugins.RxPlugins;
+
+import java.util.concurrent.*;
+
+/**
+ * Планировщик на виртуальных потоках (JDK 21): отдельный поток на каждую задачу.  <br/>
+ * Блокирующий вызов паркует только виртуальный поток, поэтому сотни тысяч одновременных
+ * подписок не плодят платформенные потоки. Необязательный семафор ограничивает число
+ * одновременно выполняемых задач — лишние ждут разрешения, не занимая носителей.
+ */
+public final class VirtualThreadScheduler implements Scheduler, Lifecycle {
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("VirtualThread-", 1).factory()
+    );
+    private final Semaphore permits;                    // null — без ограничения
+
+    public VirtualThreadScheduler() { this(0); }
+
+    /** @param maxConcurrency сколько задач выполняется одновременно; {@code 0} — без ограничения */
+    public VirtualThreadScheduler(int maxConcurrency) {
+        if (maxConcurrency < 0) throw new IllegalArgumentException("maxConcurrency >= 0 required but it was " + maxConcurrency);
+        this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency, true) : null;
+    }
+
+    @Override public void execute(Runnable original) {
+        Runnable task = RxPlugins.onSchedule(this, original);
+        Semaphore p = permits;
+        if (p == null) {
+            executor.execute(task);
+            return;
+        }
+        executor.execute(() -> {
+            p.acquireUninterruptibly();                 // ждёт виртуальный поток, носитель свободен
+            try {
+                task.run();
+            } finally {
+                p.release();
+            }
+        });
+    }
+
+    /** Свободные разрешения; {@code -1}, если ограничения нет. */
+    public int availablePermits() { return permits == null ? -1 : permits.availablePermits(); }
+
+    /** Перестаёт принимать задачи; уже поставленные дорабатываются. */
+    @Override public void shutdown() { executor.shutdown(); }
+
+    /** Прерывает выполняемые задачи и выбрасывает очередь. */
+    @Override public void shutdownNow() { executor.shutdownNow(); }
+
+    @Override public boolean isShutdown() { return executor.isShutdown(); }
+
+    @Override public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+}
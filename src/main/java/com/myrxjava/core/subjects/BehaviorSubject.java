@@ -0,0 +1,193 @@
+package com.myrxjava.core.subjects;
+
+import com.myrxjava.core.Disposable;
+import com.myrxjava.core.Observer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Помнит последнее значение и отдаёт его каждому новому подписчику, затем — всё последующее.  <br/>
+ * Значение хранится вместе с номером версии в неизменяемом {@code State}, поэтому подписчик
+ * читает пару атомарно, а раздача не берёт блокировок. Блокировка подписчика нужна только пока
+ * он догоняет первое значение; после этого он переходит на fast-path.
+ */
+public final class BehaviorSubject<T> extends Subject<T> {
+
+    /** Значение (или {@link Terminal}) и его номер; меняет только поток onXxx. */
+    private static final class State {
+        final Object value;
+        final long index;
+
+        State(Object value, long index) {
+            this.value = value;
+            this.index = index;
+        }
+    }
+
+    private static final class Terminal {
+        final Throwable error;
+        Terminal(Throwable error) { this.error = error; }
+    }
+
+    private final AtomicReference<Object[]> subscribers = new AtomicReference<>(Subscribers.EMPTY);
+    private volatile State state;
+
+    private BehaviorSubject(T initial) { this.state = new State(initial, 0); }
+
+    public static <T> BehaviorSubject<T> create() { return new BehaviorSubject<>(null); }
+
+    public static <T> BehaviorSubject<T> createDefault(T value) {
+        if (value == null) throw new NullPointerException("value");
+        return new BehaviorSubject<>(value);
+    }
+
+    @Override public void subscribe(Observer<? super T> observer) {
+        Inner<T> inner = new Inner<>(observer, this);
+        observer.onSubscribe(inner);
+        if (Subscribers.add(subscribers, inner)) {
+            if (inner.cancelled) Subscribers.remove(subscribers, inner);
+            else                 inner.emitFirst();
+        } else {
+            inner.deliver(state.value);
+        }
+    }
+
+    @Override public void onSubscribe(Disposable d) {
+        if (state.value instanceof Terminal) d.dispose();
+    }
+
+    @Override public void onNext(T item) {
+        if (item == null) { onError(new NullPointerException("onNext called with null")); return; }
+        State s = state;
+        if (s.value instanceof Terminal) return;
+        State next = new State(item, s.index + 1);
+        state = next;
+        for (Object o : subscribers.get()) ((Inner<?>) o).emitNext(item, next.index);
+    }
+
+    @Override public void onError(Throwable t) { terminate(new Terminal(t)); }
+
+    @Override public void onComplete() { terminate(new Terminal(null)); }
+
+    private void terminate(Terminal terminal) {
+        State s = state;
+        if (s.value instanceof Terminal) return;
+        State next = new State(terminal, s.index + 1);
+        state = next;
+        for (Object o : Subscribers.terminate(subscribers)) ((Inner<?>) o).emitNext(terminal, next.index);
+    }
+
+    /** Текущее значение; {@code null}, если его ещё нет или Subject завершён. */
+    @SuppressWarnings("unchecked")
+    public T getValue() {
+        Object v = state.value;
+        return v instanceof Terminal ? null : (T) v;
+    }
+
+    public boolean hasValue() { return getValue() != null; }
+
+    @Override public boolean hasObservers() { return subscribers.get().length != 0; }
+
+    @Override public boolean hasComplete() {
+        return state.value instanceof Terminal t && t.error == null;
+    }
+
+    @Override public boolean hasThrowable() { return getThrowable() != null; }
+
+    @Override public Throwable getThrowable() {
+        return state.value instanceof Terminal t ? t.error : null;
+    }
+
+    /* ----------  подписчик  ---------- */
+
+    static final class Inner<T> implements Disposable {
+        private final Observer<? super T> actual;
+        private final BehaviorSubject<T> parent;
+
+        /* guarded by this, пока не fastPath */
+        private boolean next;               // первое значение уже отдано (или вытеснено более новым)
+        private boolean emitting;           // идёт выдача — новые значения в очередь
+        private List<Object> queue;
+        private long index;                 // версия, отданная при подписке
+
+        private boolean fastPath;           // только поток onXxx
+        volatile boolean cancelled;
+
+        Inner(Observer<? super T> actual, BehaviorSubject<T> parent) {
+            this.actual = actual;
+            this.parent = parent;
+        }
+
+        void emitFirst() {
+            State s;
+            synchronized (this) {
+                if (cancelled || next) return;
+                s = parent.state;
+                index    = s.index;
+                emitting = true;
+                next     = true;
+            }
+            if (s.value != null && deliver(s.value)) return;
+            emitLoop();
+        }
+
+        void emitNext(Object value, long stateIndex) {
+            if (cancelled) return;
+            if (!fastPath) {
+                synchronized (this) {
+                    if (cancelled || index == stateIndex) return;  // эту версию уже отдал emitFirst
+                    if (emitting) {
+                        if (queue == null) queue = new ArrayList<>(4);
+                        queue.add(value);
+                        return;
+                    }
+                    next = true;
+                }
+                fastPath = true;
+            }
+            deliver(value);
+        }
+
+        private void emitLoop() {
+            for (;;) {
+                if (cancelled) return;
+                List<Object> q;
+                synchronized (this) {
+                    q = queue;
+                    if (q == null) {
+                        emitting = false;
+                        return;
+                    }
+                    queue = null;
+                }
+                for (Object v : q) {
+                    if (deliver(v)) return;
+                }
+            }
+        }
+
+        /** @return {@code true}, если выдавать больше нечего */
+        @SuppressWarnings("unchecked")
+        boolean deliver(Object v) {
+            if (cancelled) return true;
+            if (v instanceof Terminal t) {
+                cancelled = true;
+                if (t.error != null) actual.onError(t.error);
+                else                 actual.onComplete();
+                return true;
+            }
+            actual.onNext((T) v);
+            return false;
+        }
+
+        @Override public void dispose() {
+            if (cancelled) return;
+            cancelled = true;
+            Subscribers.remove(parent.subscribers, this);
+        }
+
+        @Override public boolean isDisposed() { return cancelled; }
+    }
+}
@@ -0,0 +1,80 @@
+package com.myrxjava.core.subjects;
+
+import com.myrxjava.core.Disposable;
+import com.myrxjava.core.Observer;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/** Раздаёт подписчикам только то, что пришло после их подписки. */
+public final class PublishSubject<T> extends Subject<T> {
+
+    private final AtomicReference<Object[]> subscribers = new AtomicReference<>(Subscribers.EMPTY);
+    private Throwable error;                                // публикуется через TERMINATED
+
+    private PublishSubject() { }
+
+    public static <T> PublishSubject<T> create() { return new PublishSubject<>(); }
+
+    @Override public void subscribe(Observer<? super T> observer) {
+        Inner<T> inner = new Inner<>(observer, this);
+        observer.onSubscribe(inner);
+        if (Subscribers.add(subscribers, inner)) {
+            if (inner.disposed) Subscribers.remove(subscribers, inner);
+        } else {
+            Throwable e = error;
+            if (e != null) observer.onError(e);
+            else           observer.onComplete();
+        }
+    }
+
+    @Override public void onSubscribe(Disposable d) {
+        if (subscribers.get() == Subscribers.TERMINATED) d.dispose();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override public void onNext(T item) {
+        if (item == null) { onError(new NullPointerException("onNext called with null")); return; }
+        for (Object o : subscribers.get()) ((Inner<T>) o).onNext(item);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override public void onError(Throwable t) {
+        if (subscribers.get() == Subscribers.TERMINATED) return;
+        error = t;
+        for (Object o : Subscribers.terminate(subscribers)) ((Inner<T>) o).onError(t);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override public void onComplete() {
+        if (subscribers.get() == Subscribers.TERMINATED) return;
+        for (Object o : Subscribers.terminate(subscribers)) ((Inner<T>) o).onComplete();
+    }
+
+    @Override public boolean hasObservers()  { return subscribers.get().length != 0; }
+    @Override public boolean hasComplete()   { return subscribers.get() == Subscribers.TERMINATED && error == null; }
+    @Override public boolean hasThrowable()  { return subscribers.get() == Subscribers.TERMINATED && error != null; }
+    @Override public Throwable getThrowable() { return subscribers.get() == Subscribers.TERMINATED ? error : null; }
+
+    static final class Inner<T> implements Disposable {
+        private final Observer<? super T> actual;
+        private final PublishSubject<T> parent;
+        volatile boolean disposed;
+
+        Inner(Observer<? super T> actual, PublishSubject<T> parent) {
+            this.actual = actual;
+            this.parent = parent;
+        }
+
+        void onNext(T item)       { if (!disposed) actual.onNext(item); }
+        void onError(Throwable t) { if (!disposed) actual.onError(t); }
+        void onComplete()         { if (!disposed) actual.onComplete(); }
+
+        @Override public void dispose() {
+            if (disposed) return;
+            disposed = true;
+            Subscribers.remove(parent.subscribers, this);
+        }
+
+        @Override public boolean isDisposed() { return disposed; }
+    }
+}
@@ -0,0 +1,195 @@
+package com.myrxjava.core.subjects;
+
+import com.myrxjava.core.Disposable;
+import com.myrxjava.core.Observer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Запоминает элементы и проигрывает их каждому новому подписчику, затем отдаёт живые.  <br/>
+ * Буфер — односвязный список узлов, ограниченный по числу и/или возрасту: писатель добавляет
+ * в хвост и сдвигает голову, подписчики читают каждый со своего узла без блокировок.
+ * Отброшенные узлы собирает GC, как только их прочитали все отставшие подписчики.
+ */
+public final class ReplaySubject<T> extends Subject<T> {
+
+    static final class Node {
+        final Object value;
+        final long time;
+        volatile Node next;
+
+        Node(Object value, long time) {
+            this.value = value;
+            this.time  = time;
+        }
+    }
+
+    private final AtomicReference<Object[]> subscribers = new AtomicReference<>(Subscribers.EMPTY);
+    private final int maxSize;
+    private final long maxAgeNanos;                         // Long.MAX_VALUE — без ограничения по времени
+
+    private volatile Node head;                             // служебный узел перед самым старым элементом
+    private Node tail;                                      // только поток onXxx
+    private int size;                                       // только поток onXxx
+    private Throwable error;                                // публикуется через volatile done
+    private volatile boolean done;
+
+    private ReplaySubject(int maxSize, long maxAgeNanos) {
+        this.maxSize     = maxSize;
+        this.maxAgeNanos = maxAgeNanos;
+        this.head = this.tail = new Node(null, Long.MIN_VALUE);
+    }
+
+    /** Без ограничений: хранит всё. */
+    public static <T> ReplaySubject<T> create() { return new ReplaySubject<>(Integer.MAX_VALUE, Long.MAX_VALUE); }
+
+    public static <T> ReplaySubject<T> createWithSize(int maxSize) {
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize > 0 required but it was " + maxSize);
+        return new ReplaySubject<>(maxSize, Long.MAX_VALUE);
+    }
+
+    public static <T> ReplaySubject<T> createWithTime(long maxAge, TimeUnit unit) {
+        return createWithTimeAndSize(maxAge, unit, Integer.MAX_VALUE);
+    }
+
+    public static <T> ReplaySubject<T> createWithTimeAndSize(long maxAge, TimeUnit unit, int maxSize) {
+        if (maxAge <= 0)  throw new IllegalArgumentException("maxAge > 0 required but it was " + maxAge);
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize > 0 required but it was " + maxSize);
+        return new ReplaySubject<>(maxSize, unit.toNanos(maxAge));
+    }
+
+    @Override public void subscribe(Observer<? super T> observer) {
+        Inner<T> inner = new Inner<>(observer, this);
+        observer.onSubscribe(inner);
+        if (Subscribers.add(subscribers, inner) && inner.cancelled) {
+            Subscribers.remove(subscribers, inner);
+            return;
+        }
+        replay(inner);
+    }
+
+    @Override public void onSubscribe(Disposable d) {
+        if (done) d.dispose();
+    }
+
+    @Override public void onNext(T item) {
+        if (item == null) { onError(new NullPointerException("onNext called with null")); return; }
+        if (done) return;
+        Node n = new Node(item, maxAgeNanos == Long.MAX_VALUE ? 0L : System.nanoTime());
+        tail.next = n;
+        tail = n;
+        size++;
+        trim();
+        for (Object o : subscribers.get()) replay((Inner<?>) o);
+    }
+
+    @Override public void onError(Throwable t) {
+        if (done) return;
+        error = t;
+        done  = true;
+        for (Object o : Subscribers.terminate(subscribers)) replay((Inner<?>) o);
+    }
+
+    @Override public void onComplete() {
+        if (done) return;
+        done = true;
+        for (Object o : Subscribers.terminate(subscribers)) replay((Inner<?>) o);
+    }
+
+    @Override public boolean hasObservers()   { return subscribers.get().length != 0; }
+    @Override public boolean hasComplete()    { return done && error == null; }
+    @Override public boolean hasThrowable()   { return done && error != null; }
+    @Override public Throwable getThrowable() { return done ? error : null; }
+
+    /** Сколько элементов сейчас доступно новому подписчику. */
+    public int size() {
+        int n = 0;
+        for (Node h = start().next; h != null; h = h.next) n++;
+        return n;
+    }
+
+    /* ----------  буфер  ---------- */
+
+    private void trim() {
+        Node h = head;
+        while (size > maxSize) {
+            h = h.next;
+            size--;
+        }
+        if (maxAgeNanos != Long.MAX_VALUE) {
+            long limit = System.nanoTime() - maxAgeNanos;
+            Node next;
+            while ((next = h.next) != null && next.time <= limit) {
+                h = next;
+                size--;
+            }
+        }
+        if (h != head) head = h;
+    }
+
+    /** Узел, с которого читает новый подписчик: устаревшие пропускаются без изменения списка. */
+    private Node start() {
+        Node h = head;
+        if (maxAgeNanos != Long.MAX_VALUE) {
+            long limit = System.nanoTime() - maxAgeNanos;
+            Node next;
+            while ((next = h.next) != null && next.time <= limit) h = next;
+        }
+        return h;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void replay(Inner<?> rawInner) {
+        Inner<T> inner = (Inner<T>) rawInner;
+        if (inner.wip.getAndIncrement() != 0) return;
+        int missed = 1;
+        Node node = inner.node;
+        if (node == null) node = start();
+        for (;;) {
+            for (;;) {
+                if (inner.cancelled) { inner.node = null; return; }
+                boolean d = done;
+                Node next = node.next;
+                if (next == null) {
+                    if (d) {
+                        inner.node = null;
+                        inner.cancelled = true;
+                        Throwable e = error;
+                        if (e != null) inner.actual.onError(e);
+                        else           inner.actual.onComplete();
+                        return;
+                    }
+                    break;
+                }
+                inner.actual.onNext((T) next.value);
+                node = next;
+            }
+            inner.node = node;
+            missed = inner.wip.addAndGet(-missed);
+            if (missed == 0) break;
+        }
+    }
+
+    static final class Inner<T> implements Disposable {
+        final Observer<? super T> actual;
+        private final ReplaySubject<T> parent;
+        final AtomicInteger wip = new AtomicInteger();
+        Node node;                                          // последний отданный узел, трогает только replay
+        volatile boolean cancelled;
+
+        Inner(Observer<? super T> actual, ReplaySubject<T> parent) {
+            this.actual = actual;
+            this.parent = parent;
+        }
+
+        @Override public void dispose() {
+            if (cancelled) return;
+            cancelled = true;
+            Subscribers.remove(parent.subscribers, this);
+        }
+
+        @Override public boolean isDisposed() { return cancelled; }
+    }
+}
@@ -0,0 +1,25 @@
+package com.myrxjava.core.subjects;
+
+import com.myrxjava.core.Observable;
+import com.myrxjava.core.Observer;
+
+/**
+ * Одновременно Observer и источник: всё, что приходит в onNext/onError/onComplete,
+ * раздаётся текущим подписчикам.  <br/>
+ * Вызовы onXxx должны быть сериализованы вызывающим, как для любого Observer.
+ * Подписчики хранятся в массиве copy-on-write, который подменяется CAS-ом: раздача элемента —
+ * проход по массиву без блокировок, подписка и отписка — копия массива.
+ */
+public abstract class Subject<T> implements Observer<T>, Observable.ObservableOnSubscribe<T> {
+
+    public abstract boolean hasObservers();
+
+    public abstract boolean hasComplete();
+
+    public abstract boolean hasThrowable();
+
+    /** Ошибка, которой завершился Subject, или {@code null}. */
+    public abstract Throwable getThrowable();
+
+    public Observable<T> toObservable() { return Observable.create(this); }
+}
@@ -0,0 +1,49 @@
+package com.myrxjava.core.subjects;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+/** Операции над массивом подписчиков Subject-а: копия на изменение, подмена CAS-ом. */
+final class Subscribers {
+
+    static final Object[] EMPTY = new Object[0];
+    static final Object[] TERMINATED = new Object[0];
+
+    private Subscribers() { }
+
+    /** @return {@code false}, если Subject уже завершён */
+    static boolean add(AtomicReference<Object[]> ref, Object s) {
+        for (;;) {
+            Object[] a = ref.get();
+            if (a == TERMINATED) return false;
+            Object[] b = Arrays.copyOf(a, a.length + 1);
+            b[a.length] = s;
+            if (ref.compareAndSet(a, b)) return true;
+        }
+    }
+
+    static void remove(AtomicReference<Object[]> ref, Object s) {
+        for (;;) {
+            Object[] a = ref.get();
+            int n = a.length;
+            if (n == 0) return;                                 // EMPTY или TERMINATED
+            int j = -1;
+            for (int i = 0; i < n; i++) {
+                if (a[i] == s) { j = i; break; }
+            }
+            if (j < 0) return;
+            Object[] b;
+            if (n == 1) {
+                b = EMPTY;
+            } else {
+                b = new Object[n - 1];
+                System.arraycopy(a, 0, b, 0, j);
+                System.arraycopy(a, j + 1, b, j, n - j - 1);
+            }
+            if (ref.compareAndSet(a, b)) return;
+        }
+    }
+
+    /** Закрывает массив для новых подписчиков и возвращает последних. */
+    static Object[] terminate(AtomicReference<Object[]> ref) { return ref.getAndSet(TERMINATED); }
+}
@@ -0,0 +1,6 @@
+package com.myrxjava.functions;
+
+@FunctionalInterface
+public interface BiConsumer<T, U> {
+    void accept(T t, U u) throws Exception;
+}
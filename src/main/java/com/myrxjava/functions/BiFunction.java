@@ -0,0 +1,6 @@
+package com.myrxjava.functions;
+
+@FunctionalInterface
+public interface BiFunction<T, U, R> {
+    R apply(T t, U u) throws Exception;
+}
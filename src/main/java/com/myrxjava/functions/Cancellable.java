@@ -0,0 +1,6 @@
+package com.myrxjava.functions;
+
+@FunctionalInterface
+public interface Cancellable {
+    void cancel() throws Exception;
+}
@@ -0,0 +1,6 @@
+package com.myrxjava.functions;
+
+@FunctionalInterface
+public interface DoubleBinaryOperator {
+    double applyAsDouble(double left, double right) throws Exception;
+}
@@ -0,0 +1,6 @@
+package com.myrxjava.functions;
+
+@FunctionalInterface
+public interface DoubleConsumer {
+    void accept(double v) throws Exception;
+}
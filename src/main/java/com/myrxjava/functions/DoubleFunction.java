@@ -0,0 +1,6 @@
+package com.myrxjava.functions;
+
+@FunctionalInterface
+public interface DoubleFunction<R> {
+    R apply(double v) throws Exception;
+}
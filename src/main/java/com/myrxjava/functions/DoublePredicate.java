@@ -0,0 +1,6 @@
+package com.myrxjava.functions;
+
+@FunctionalInterface
+public interface DoublePredicate {
+    boolean test(double v) throws Exception;
+}
@@ -0,0 +1,6 @@
+package com.myrxjava.functions;
+
+@FunctionalInterface
+public interface DoubleUnaryOperator {
+    double applyAsDouble(double v) throws Exception;
+}
@@ -0,0 +1,6 @@
+package com.myrxjava.functions;
+
+@FunctionalInterface
+public interface IntBinaryOperator {
+    int applyAsInt(int left, int right) throws Exception;
+}
@@ -0,0 +1,6 @@
+package com.myrxjava.functions;
+
+@FunctionalInterface
+public interface IntConsumer {
+    void accept(int v) throws Exception;
+}
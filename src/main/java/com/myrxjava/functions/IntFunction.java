@@ -0,0 +1,6 @@
+package com.myrxjava.functions;
+
+@FunctionalInterface
+public interface IntFunction<R> {
+    R apply(int v) throws Exception;
+}
@@ -0,0 +1,6 @@
+package com.myrxjava.functions;
+
+@FunctionalInterface
+public interface IntPredicate {
+    boolean test(int v) throws Exception;
+}
@@ -0,0 +1,6 @@
+package com.myrxjava.functions;
+
+@FunctionalInterface
+public interface IntUnaryOperator {
+    int applyAsInt(int v) throws Exception;
+}
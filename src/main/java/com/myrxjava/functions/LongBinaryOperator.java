@@ -0,0 +1,6 @@
+package com.myrxjava.functions;
+
+@FunctionalInterface
+public interface LongBinaryOperator {
+    long applyAsLong(long left, long right) throws Exception;
+}
@@ -0,0 +1,6 @@
+package com.myrxjava.functions;
+
+@FunctionalInterface
+public interface LongConsumer {
+    void accept(long v) throws Exception;
+}
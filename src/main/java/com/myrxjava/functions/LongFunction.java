@@ -0,0 +1,6 @@
+package com.myrxjava.functions;
+
+@FunctionalInterface
+public interface LongFunction<R> {
+    R apply(long v) throws Exception;
+}
@@ -0,0 +1,6 @@
+package com.myrxjava.functions;
+
+@FunctionalInterface
+public interface LongPredicate {
+    boolean test(long v) throws Exception;
+}
@@ -0,0 +1,6 @@
+package com.myrxjava.functions;
+
+@FunctionalInterface
+public interface LongUnaryOperator {
+    long applyAsLong(long v) throws Exception;
+}
@@ -0,0 +1,6 @@
+package com.myrxjava.functions;
+
+@FunctionalInterface
+public interface Supplier<T> {
+    T get() throws Exception;
+}
@@ -0,0 +1,6 @@
+package com.myrxjava.functions;
+
+@FunctionalInterface
+public interface ToIntFunction<T> {
+    int applyAsInt(T t) throws Exception;
+}
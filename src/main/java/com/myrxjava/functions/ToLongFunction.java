@@ -0,0 +1,6 @@
+package com.myrxjava.functions;
+
+@FunctionalInterface
+public interface ToLongFunction<T> {
+    long applyAsLong(T t) throws Exception;
+}
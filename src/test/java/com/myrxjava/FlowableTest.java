@@ -0,0 +1,241 @@
+package com.myrxjava;
+
+import com.myrxjava.core.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlowableTest {
+    private static final int TEST_TIMEOUT = 5;
+
+    @Test
+    void observeOnShouldEmitOnlyRequestedItems() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(5);
+        List<Integer> results = new ArrayList<>();
+        AtomicBoolean terminated = new AtomicBoolean(false);
+
+        Flowable.<Integer>create(emitter -> {
+                    for (int i = 0; i < 100; i++) emitter.onNext(i);
+                    emitter.onComplete();
+                }, BackpressureStrategy.BUFFER)
+                .observeOn(Scheduler.computation(), 16)
+                .subscribe(new Subscriber<Integer>() {
+                    @Override
+                    public void onSubscribe(Subscription s) {
+                        s.request(5);
+                    }
+
+                    @Override
+                    public void onNext(Integer item) {
+                        results.add(item);
+                        latch.countDown();
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        terminated.set(true);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        terminated.set(true);
+                    }
+                });
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        assertEquals(List.of(0, 1, 2, 3, 4), results);
+        assertFalse(terminated.get());
+    }
+
+    @Test
+    void dropStrategyShouldKeepOutstandingDemandBounded() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicLong maxRequested = new AtomicLong();
+        AtomicInteger received = new AtomicInteger();
+
+        Flowable.<Integer>create(emitter -> {
+                    for (int i = 0; i < 100_000; i++) {
+                        maxRequested.accumulateAndGet(emitter.requested(), Math::max);
+                        emitter.onNext(i);
+                    }
+                    emitter.onComplete();
+                }, BackpressureStrategy.DROP)
+                .observeOn(Scheduler.io(), 16)
+                .subscribe(item -> received.incrementAndGet(),
+                        error -> fail("Unexpected error"),
+                        latch::countDown);
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertTrue(maxRequested.get() <= 16);
+        assertTrue(received.get() > 0);
+    }
+
+    @Test
+    void errorStrategyShouldSignalMissingBackpressure() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        Flowable.<Integer>create(emitter -> {
+                    emitter.onNext(1);
+                    emitter.onNext(2);
+                    emitter.onComplete();
+                }, BackpressureStrategy.ERROR)
+                .subscribe(new Subscriber<Integer>() {
+                    @Override
+                    public void onSubscribe(Subscription s) {
+                        s.request(1);
+                    }
+
+                    @Override
+                    public void onNext(Integer item) {}
+
+                    @Override
+                    public void onError(Throwable t) {
+                        error.set(t);
+                        latch.countDown();
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        fail("Should not complete");
+                    }
+                });
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertTrue(error.get() instanceof MissingBackpressureException);
+    }
+
+    @Test
+    void flatMapShouldLimitActiveInnerSources() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        AtomicInteger received = new AtomicInteger();
+
+        Flowable.<Integer>create(emitter -> {
+                    for (int i = 0; i < 20; i++) emitter.onNext(i);
+                    emitter.onComplete();
+                }, BackpressureStrategy.BUFFER)
+                .flatMap(x -> Flowable.<Integer>create(inner -> {
+                    maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                    Thread.sleep(5);
+                    inner.onNext(x);
+                    active.decrementAndGet();
+                    inner.onComplete();
+                }, BackpressureStrategy.BUFFER).subscribeOn(Scheduler.io()), 2, 4)
+                .subscribe(item -> received.incrementAndGet(),
+                        error -> fail("Unexpected error"),
+                        latch::countDown);
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(20, received.get());
+        assertTrue(maxActive.get() <= 2);
+    }
+
+    @Test
+    void flatMapShouldMergeManyAsyncInnersUnderBoundedDemand() throws InterruptedException {
+        int sources = 2_000;
+        int perInner = 8;
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger received = new AtomicInteger();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        Flowable.<Integer>create(emitter -> {
+                    for (int i = 0; i < sources; i++) emitter.onNext(i);
+                    emitter.onComplete();
+                }, BackpressureStrategy.BUFFER)
+                .flatMap(x -> Flowable.<Integer>create(inner -> {
+                    for (int i = 0; i < perInner; i++) inner.onNext(x);
+                    inner.onComplete();
+                }, BackpressureStrategy.BUFFER).subscribeOn(Scheduler.computation()), Integer.MAX_VALUE, 4)
+                .subscribe(new Subscriber<Integer>() {
+                    private Subscription upstream;
+
+                    @Override
+                    public void onSubscribe(Subscription s) {
+                        upstream = s;
+                        s.request(7);
+                    }
+
+                    @Override
+                    public void onNext(Integer item) {
+                        if (received.incrementAndGet() % 7 == 0) upstream.request(7);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        error.set(t);
+                        latch.countDown();
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        latch.countDown();
+                    }
+                });
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertNull(error.get());
+        assertEquals(sources * perInner, received.get());
+    }
+
+    @Test
+    void nonPositiveRequestShouldCancelAndSignalIllegalArgument() throws InterruptedException {
+        List<UnaryOperator<Flowable<Integer>>> stages = List.of(
+                f -> f,
+                f -> f.flatMap(x -> Flowable.<Integer>create(inner -> {
+                    inner.onNext(x);
+                    inner.onComplete();
+                }, BackpressureStrategy.BUFFER)),
+                f -> f.observeOn(Scheduler.computation(), 16));
+
+        for (UnaryOperator<Flowable<Integer>> stage : stages) {
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicReference<Throwable> error = new AtomicReference<>();
+            AtomicReference<FlowableEmitter<Integer>> source = new AtomicReference<>();
+
+            stage.apply(Flowable.create(emitter -> {
+                        source.set(emitter);
+                        emitter.onNext(1);
+                        emitter.onNext(2);
+                    }, BackpressureStrategy.BUFFER))
+                    .subscribe(new Subscriber<Integer>() {
+                        @Override
+                        public void onSubscribe(Subscription s) {
+                            s.request(0);
+                        }
+
+                        @Override
+                        public void onNext(Integer item) {
+                            fail("Nothing was requested");
+                        }
+
+                        @Override
+                        public void onError(Throwable t) {
+                            error.set(t);
+                            latch.countDown();
+                        }
+
+                        @Override
+                        public void onComplete() {
+                            fail("Should not complete");
+                        }
+                    });
+
+            assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+            assertTrue(error.get() instanceof IllegalArgumentException);
+            assertTrue(source.get() == null || source.get().isCancelled());
+        }
+    }
+}
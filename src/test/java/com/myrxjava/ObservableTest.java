@@ -1,17 +1,24 @@
 package com.myrxjava;
 
 import com.myrxjava.core.*;
+import com.myrxjava.core.schedulers.ComputationScheduler;
+import com.myrxjava.core.subjects.PublishSubject;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -311,4 +318,799 @@ class ObservableTest {
         assertTrue(isDisposed.get());
         assertEquals(5, receivedItems.get());
     }
-}
\ No newline at end of file
+
+    @Test
+    void observeOnShouldPreserveOrderAndDeliverSerially() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Integer> results = new ArrayList<>();
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean(false);
+
+        Observable.create(new Observable.ObservableOnSubscribe<Integer>() {
+                    @Override
+                    public void subscribe(Observer<? super Integer> observer) {
+                        for (int i = 0; i < 10_000; i++) observer.onNext(i);
+                        observer.onComplete();
+                    }
+                })
+                .observeOn(Scheduler.computation())
+                .subscribe(new Observer<Integer>() {
+                    @Override
+                    public void onSubscribe(Disposable d) {}
+
+                    @Override
+                    public void onNext(Integer item) {
+                        if (concurrent.incrementAndGet() > 1) overlapped.set(true);
+                        results.add(item);
+                        concurrent.decrementAndGet();
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        fail("Unexpected error");
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        latch.countDown();
+                    }
+                });
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertFalse(overlapped.get());
+        assertEquals(10_000, results.size());
+        for (int i = 0; i < results.size(); i++) assertEquals(i, results.get(i).intValue());
+    }
+
+    @Test
+    void flatMapShouldLimitConcurrencyAndSerializeEmission() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean(false);
+        AtomicInteger received = new AtomicInteger();
+
+        Observable.create(new Observable.ObservableOnSubscribe<Integer>() {
+                    @Override
+                    public void subscribe(Observer<? super Integer> observer) {
+                        for (int i = 0; i < 50; i++) observer.onNext(i);
+                        observer.onComplete();
+                    }
+                })
+                .flatMap(x -> Observable.create(new Observable.ObservableOnSubscribe<Integer>() {
+                    @Override
+                    public void subscribe(Observer<? super Integer> obs) {
+                        maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                        for (int i = 0; i < 100; i++) obs.onNext(x);
+                        active.decrementAndGet();
+                        obs.onComplete();
+                    }
+                }).subscribeOn(Scheduler.io()), 4, 16)
+                .subscribe(new Observer<Integer>() {
+                    @Override
+                    public void onSubscribe(Disposable d) {}
+
+                    @Override
+                    public void onNext(Integer item) {
+                        if (concurrent.incrementAndGet() > 1) overlapped.set(true);
+                        received.incrementAndGet();
+                        concurrent.decrementAndGet();
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        fail("Unexpected error");
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        latch.countDown();
+                    }
+                });
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(5_000, received.get());
+        assertTrue(maxActive.get() <= 4);
+        assertFalse(overlapped.get());
+    }
+
+    @Test
+    void fusedMapFilterChainShouldKeepIntermediateStagesIndependent() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+        List<Integer> fused = new CopyOnWriteArrayList<>();
+        List<Integer> prefix = new CopyOnWriteArrayList<>();
+
+        Observable<Integer> doubled = Observable.range(1, 10).map(x -> x * 2);
+        Observable<Integer> chain = doubled
+                .filter(x -> x % 3 != 0)
+                .map(x -> x + 1)
+                .filter(x -> x < 20);
+
+        chain.subscribe(fused::add, error -> fail("Unexpected error"), latch::countDown);
+        doubled.subscribe(prefix::add, error -> fail("Unexpected error"), latch::countDown);
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(3, 5, 9, 11, 15, 17), fused);
+        assertEquals(Arrays.asList(2, 4, 6, 8, 10, 12, 14, 16, 18, 20), prefix);
+    }
+
+    @Test
+    void observeOnShouldPollSynchronousSourcesDirectly() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Integer> results = new ArrayList<>();
+
+        Observable.range(0, 1_000)
+                .observeOn(Scheduler.single())
+                .subscribe(results::add, error -> fail("Unexpected error"), latch::countDown);
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(1_000, results.size());
+        for (int i = 0; i < results.size(); i++) assertEquals(i, results.get(i).intValue());
+    }
+
+    @Test
+    void compositeDisposableShouldTrackOnlyLiveResources() {
+        CompositeDisposable composite = new CompositeDisposable();
+        List<BooleanDisposable> items = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            BooleanDisposable d = new BooleanDisposable();
+            items.add(d);
+            assertTrue(composite.add(d));
+        }
+        assertEquals(10_000, composite.size());
+
+        for (int i = 0; i < 9_990; i++) assertTrue(composite.delete(items.get(i)));
+        assertFalse(composite.delete(items.get(0)));
+        assertFalse(items.get(0).isDisposed());
+        assertEquals(10, composite.size());
+
+        assertTrue(composite.remove(items.get(9_990)));
+        assertTrue(items.get(9_990).isDisposed());
+
+        composite.dispose();
+        for (int i = 9_991; i < 10_000; i++) assertTrue(items.get(i).isDisposed());
+
+        BooleanDisposable late = new BooleanDisposable();
+        assertFalse(composite.add(late));
+        assertTrue(late.isDisposed());
+    }
+
+    @Test
+    void bufferShouldBatchByCountAndRecyclePooledLists() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        BufferPool<Integer> pool = new BufferPool<>(2);
+        List<List<Integer>> batches = new ArrayList<>();
+        List<List<Integer>> identities = new ArrayList<>();
+
+        Observable.range(0, 10)
+                .buffer(4, pool)
+                .subscribe(batch -> {
+                    batches.add(new ArrayList<>(batch));
+                    identities.add(batch);
+                    pool.release(batch);
+                }, error -> fail("Unexpected error"), latch::countDown);
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(Arrays.asList(0, 1, 2, 3), Arrays.asList(4, 5, 6, 7), Arrays.asList(8, 9)), batches);
+        assertSame(identities.get(0), identities.get(1));
+        assertSame(identities.get(1), identities.get(2));
+    }
+
+    @Test
+    void timedBufferShouldFlushPartialBatchAfterTimespan() throws InterruptedException {
+        CountDownLatch first = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+
+        Observable.<Integer>create(observer -> {
+                    observer.onNext(1);
+                    observer.onNext(2);
+                    observer.onNext(3);                      // полный буфер — сразу
+                    observer.onNext(4);                      // неполный — по таймеру
+                    try { first.await(TEST_TIMEOUT, TimeUnit.SECONDS); } catch (InterruptedException ignore) { }
+                    observer.onComplete();
+                })
+                .subscribeOn(Scheduler.io())
+                .buffer(50, TimeUnit.MILLISECONDS, 3)
+                .subscribe(batch -> {
+                    batches.add(batch);
+                    if (batches.size() == 2) first.countDown();
+                }, error -> fail("Unexpected error"), done::countDown);
+
+        assertTrue(done.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(Arrays.asList(1, 2, 3), Arrays.asList(4)), batches);
+    }
+
+    @Test
+    void windowShouldSplitStreamIntoObservables() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<List<Integer>> windows = new CopyOnWriteArrayList<>();
+
+        Observable.range(0, 5)
+                .window(2)
+                .subscribe(window -> {
+                    List<Integer> items = new CopyOnWriteArrayList<>();
+                    windows.add(items);
+                    window.subscribe(items::add, error -> fail("Unexpected error"), () -> { });
+                }, error -> fail("Unexpected error"), latch::countDown);
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(Arrays.asList(0, 1), Arrays.asList(2, 3), Arrays.asList(4)), windows);
+    }
+
+    @Test
+    void windowShouldOutliveOuterDisposeUntilOpenWindowCloses() {
+        AtomicInteger produced = new AtomicInteger();
+        Observable<Integer> source = Observable.create(observer -> {
+            for (int i = 0; i < 1_000 && !observer.isDisposed(); i++) {
+                produced.incrementAndGet();
+                observer.onNext(i);
+            }
+            observer.onComplete();
+        });
+        List<Integer> items = new ArrayList<>();
+        AtomicBoolean windowCompleted = new AtomicBoolean();
+
+        source.window(3)
+                .take(1)
+                .subscribe(window -> window.subscribe(items::add, error -> fail("Unexpected error"),
+                                                      () -> windowCompleted.set(true)),
+                           error -> fail("Unexpected error"), () -> { });
+
+        assertEquals(Arrays.asList(0, 1, 2), items);
+        assertTrue(windowCompleted.get());
+        assertEquals(3, produced.get());
+    }
+
+    @Test
+    void parallelRailsShouldProcessEveryItemAndKeepOrderWhenAsked() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+        List<Integer> unordered = new CopyOnWriteArrayList<>();
+        List<Integer> ordered = new CopyOnWriteArrayList<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+
+        Observable<Integer> source = Observable.range(0, 10_000).subscribeOn(Scheduler.io());
+
+        source.parallel(4)
+                .runOn(Scheduler.computation(), 16)
+                .map(x -> { threads.add(Thread.currentThread().getName()); return x * 2; })
+                .sequential()
+                .subscribe(unordered::add, error -> fail("Unexpected error"), latch::countDown);
+
+        source.parallel(4)
+                .runOn(Scheduler.computation(), 16)
+                .filter(x -> x % 3 == 0)
+                .map(x -> x + 1)
+                .sequentialOrdered()
+                .subscribe(ordered::add, error -> fail("Unexpected error"), latch::countDown);
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        List<Integer> sorted = new ArrayList<>(unordered);
+        Collections.sort(sorted);
+        assertEquals(10_000, sorted.size());
+        for (int i = 0; i < sorted.size(); i++) assertEquals(i * 2, sorted.get(i).intValue());
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("ComputationThread-")));
+
+        assertEquals(3_334, ordered.size());
+        for (int i = 0; i < ordered.size(); i++) assertEquals(i * 3 + 1, ordered.get(i).intValue());
+    }
+
+    @Test
+    void parallelShouldNotBlockSourceOnTheRailScheduler() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(2, false);
+        CountDownLatch latch = new CountDownLatch(2);
+        List<Integer> ordered = new CopyOnWriteArrayList<>();
+        AtomicInteger unordered = new AtomicInteger();
+        try {
+            Observable<Integer> source = Observable.range(0, 100_000).subscribeOn(scheduler);
+
+            source.parallel(8)
+                    .runOn(scheduler, 16)
+                    .map(x -> x + 1)
+                    .sequentialOrdered()
+                    .subscribe(ordered::add, error -> fail("Unexpected error"), latch::countDown);
+
+            source.parallel(8)
+                    .runOn(scheduler, 16)
+                    .map(x -> x + 1)
+                    .sequential()
+                    .subscribe(x -> unordered.incrementAndGet(), error -> fail("Unexpected error"), latch::countDown);
+
+            assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+            assertEquals(100_000, ordered.size());
+            for (int i = 0; i < ordered.size(); i++) assertEquals(i + 1, ordered.get(i).intValue());
+            assertEquals(100_000, unordered.get());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void parallelReduceShouldEmitOneResultPerRail() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Long> partials = new CopyOnWriteArrayList<>();
+
+        Observable.range(1, 1_000)
+                .subscribeOn(Scheduler.io())
+                .parallel(3)
+                .reduce(() -> 0L, (acc, x) -> acc + x)
+                .sequentialOrdered()
+                .subscribe(partials::add, error -> fail("Unexpected error"), latch::countDown);
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(3, partials.size());
+        assertEquals(500_500L, partials.stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    void cacheShouldRunSourceOnceAndReplayToLateSubscribers() throws InterruptedException {
+        AtomicInteger executions = new AtomicInteger();
+        Observable<Integer> cached = Observable.<Integer>create(observer -> {
+                    executions.incrementAndGet();
+                    observer.onNext(42);
+                    observer.onComplete();
+                })
+                .subscribeOn(Scheduler.io())
+                .cache();
+
+        CountDownLatch latch = new CountDownLatch(3);
+        List<Integer> results = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 3; i++) cached.subscribe(results::add, error -> fail("Unexpected error"), latch::countDown);
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(42, 42, 42), results);
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void observableCacheShouldCoalesceByKeyAndEvictLeastRecentlyUsed() throws InterruptedException {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ObservableCache<String, String> cache = new ObservableCache<>(key -> Observable.<String>create(observer -> {
+            loads.incrementAndGet();
+            try { release.await(TEST_TIMEOUT, TimeUnit.SECONDS); } catch (InterruptedException ignore) { }
+            observer.onNext(key.toUpperCase());
+            observer.onComplete();
+        }).subscribeOn(Scheduler.io()), 1, TimeUnit.MINUTES, 2);
+
+        CountDownLatch latch = new CountDownLatch(3);
+        List<String> results = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 3; i++) cache.get("a").subscribe(results::add, error -> fail("Unexpected error"), latch::countDown);
+        release.countDown();
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("A", "A", "A"), results);
+        assertEquals(1, loads.get());
+
+        CountDownLatch others = new CountDownLatch(2);
+        cache.get("b").subscribe(x -> { }, error -> fail("Unexpected error"), others::countDown);
+        cache.get("c").subscribe(x -> { }, error -> fail("Unexpected error"), others::countDown);
+        assertTrue(others.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(2, cache.size());
+
+        CountDownLatch reload = new CountDownLatch(1);
+        cache.get("a").subscribe(x -> { }, error -> fail("Unexpected error"), reload::countDown);
+        assertTrue(reload.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void observableCacheShouldNotKeepFailedOrExpiredEntries() throws InterruptedException {
+        AtomicInteger loads = new AtomicInteger();
+        ObservableCache<Integer, Integer> cache = new ObservableCache<>(key -> Observable.<Integer>create(observer -> {
+            if (loads.incrementAndGet() == 1) { observer.onError(new RuntimeException("boom")); return; }
+            observer.onNext(key);
+            observer.onComplete();
+        }), 50, TimeUnit.MILLISECONDS, 10);
+
+        AtomicInteger errors = new AtomicInteger();
+        cache.get(1).subscribe(x -> { }, error -> errors.incrementAndGet(), () -> { });
+        cache.get(1).subscribe(x -> { }, error -> errors.incrementAndGet(), () -> { });
+        cache.get(1).subscribe(x -> { }, error -> errors.incrementAndGet(), () -> { });
+        assertEquals(1, errors.get());
+        assertEquals(2, loads.get());
+
+        Thread.sleep(100);
+        cache.get(1).subscribe(x -> { }, error -> fail("Unexpected error"), () -> { });
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void takeShouldStopCreateSourceCheckingIsDisposed() {
+        AtomicInteger produced = new AtomicInteger();
+        List<Integer> results = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+
+        Observable.<Integer>create(observer -> {
+                    for (int i = 0; !observer.isDisposed(); i++) {
+                        produced.incrementAndGet();
+                        observer.onNext(i);
+                    }
+                })
+                .take(3)
+                .subscribe(results::add, error -> fail("Unexpected error"), () -> completed.set(true));
+
+        assertEquals(Arrays.asList(0, 1, 2), results);
+        assertTrue(completed.get());
+        assertEquals(3, produced.get());
+    }
+
+    @Test
+    void shortCircuitOperatorsShouldDisposeUpstreamAfterDecidingItem() {
+        AtomicInteger seen = new AtomicInteger();
+        Observable<Integer> source = Observable.range(1, 1_000_000).map(x -> { seen.incrementAndGet(); return x; });
+
+        List<Object> results = new ArrayList<>();
+        source.takeWhile(x -> x < 4).subscribe(results::add, error -> fail("Unexpected error"), () -> { });
+        assertEquals(Arrays.asList(1, 2, 3), results);
+        assertEquals(4, seen.getAndSet(0));
+
+        source.any(x -> x == 10).subscribe(results::add, error -> fail("Unexpected error"), () -> { });
+        assertEquals(Boolean.TRUE, results.get(3));
+        assertEquals(10, seen.getAndSet(0));
+
+        source.elementAt(5).subscribe(results::add, error -> fail("Unexpected error"), () -> { });
+        assertEquals(6, results.get(4));
+        assertEquals(6, seen.getAndSet(0));
+
+        source.first().subscribe(results::add, error -> fail("Unexpected error"), () -> { });
+        assertEquals(1, results.get(5));
+        assertEquals(1, seen.get());
+    }
+
+    @Test
+    void firstAndAnyShouldHandleEmptySources() {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        List<Object> results = new ArrayList<>();
+
+        Observable.<Integer>fromArray().first().subscribe(results::add, error::set, () -> { });
+        assertInstanceOf(NoSuchElementException.class, error.get());
+
+        Observable.<Integer>fromArray().first(42).subscribe(results::add, e -> fail("Unexpected error"), () -> { });
+        Observable.fromArray(1, 2).any(x -> x > 5).subscribe(results::add, e -> fail("Unexpected error"), () -> { });
+        Observable.fromArray(1, 2).elementAt(7).subscribe(results::add, e -> fail("Unexpected error"), () -> { });
+        Observable.fromArray(1, 2).take(0).subscribe(results::add, e -> fail("Unexpected error"), () -> { });
+        assertEquals(Arrays.asList(42, false), results);
+    }
+
+    @Test
+    void fromEmitterShouldStopProducerAndReleaseResourceOnDispose() {
+        AtomicInteger produced = new AtomicInteger();
+        AtomicInteger released = new AtomicInteger();
+        List<Integer> results = new ArrayList<>();
+
+        Observable.<Integer>fromEmitter(emitter -> {
+                    emitter.setCancellable(released::incrementAndGet);
+                    for (int i = 0; i < 10_000_000 && !emitter.isDisposed(); i++) {
+                        produced.incrementAndGet();
+                        emitter.onNext(i);
+                    }
+                    emitter.onComplete();
+                })
+                .take(5)
+                .subscribe(results::add, error -> fail("Unexpected error"), () -> { });
+
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), results);
+        assertEquals(5, produced.get());
+        assertEquals(1, released.get());
+    }
+
+    @Test
+    void serializedEmitterShouldDeliverConcurrentItemsOneAtATime() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 10_000;
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        AtomicInteger received = new AtomicInteger();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        Observable.<Integer>fromEmitter(emitter -> {
+                    ObservableEmitter<Integer> serialized = emitter.serialize();
+                    CountDownLatch finished = new CountDownLatch(producers);
+                    for (int p = 0; p < producers; p++) {
+                        new Thread(() -> {
+                            for (int i = 0; i < perProducer; i++) serialized.onNext(i);
+                            finished.countDown();
+                        }).start();
+                    }
+                    finished.await();
+                    serialized.onComplete();
+                })
+                .subscribe(item -> {
+                    if (inFlight.incrementAndGet() != 1) overlapped.set(true);
+                    received.incrementAndGet();
+                    inFlight.decrementAndGet();
+                }, error -> fail("Unexpected error"), completed::countDown);
+
+        assertTrue(completed.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertFalse(overlapped.get());
+        assertEquals(producers * perProducer, received.get());
+    }
+
+    @Test
+    void syncSourcesShouldEmitTheirItems() {
+        List<Object> results = new ArrayList<>();
+        AtomicInteger completions = new AtomicInteger();
+
+        Observable.fromIterable(Arrays.asList(1, 2)).subscribe(results::add, e -> fail("Unexpected error"), completions::incrementAndGet);
+        Observable.just(3).subscribe(results::add, e -> fail("Unexpected error"), completions::incrementAndGet);
+        Observable.fromStream(Stream.of(4, 5)).subscribe(results::add, e -> fail("Unexpected error"), completions::incrementAndGet);
+        Observable.empty().subscribe(results::add, e -> fail("Unexpected error"), completions::incrementAndGet);
+
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), results);
+        assertEquals(4, completions.get());
+    }
+
+    @Test
+    void fromStreamShouldCloseStreamOnDisposeAndRejectSecondSubscription() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Observable<Integer> source = Observable.fromStream(Stream.iterate(0, x -> x + 1).onClose(() -> closed.set(true)));
+        List<Integer> results = new ArrayList<>();
+
+        source.take(3).subscribe(results::add, e -> fail("Unexpected error"), () -> { });
+        assertEquals(Arrays.asList(0, 1, 2), results);
+        assertTrue(closed.get());
+
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        source.subscribe(x -> fail("Unexpected item"), error::set, () -> fail("Unexpected completion"));
+        assertInstanceOf(IllegalStateException.class, error.get());
+    }
+
+    @Test
+    void fusedSourcesShouldWorkThroughObserveOn() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Integer> results = new CopyOnWriteArrayList<>();
+
+        Observable.fromIterable(Arrays.asList(1, 2, 3))
+                .observeOn(Scheduler.computation())
+                .subscribe(results::add, e -> fail("Unexpected error"), latch::countDown);
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(1, 2, 3), results);
+    }
+
+    @Test
+    void aggregationOperatorsShouldEmitSingleResult() {
+        assertEquals(Integer.valueOf(15), Observable.range(1, 5).reduce((a, b) -> a + b).blockingFirst());
+        assertEquals("abc", Observable.fromArray("a", "b", "c").reduce(() -> "", (acc, x) -> acc + x).blockingFirst());
+        assertEquals(Arrays.asList(1, 2, 3), Observable.range(1, 3).toList().blockingFirst());
+        assertEquals(Long.valueOf(4), Observable.fromArray("a", "b", "c", "d").count().blockingFirst());
+        assertEquals(3, Observable.range(1, 3).collect(StringBuilder::new, StringBuilder::append).blockingFirst().length());
+        assertEquals(Collections.emptyList(), Observable.<Integer>empty().toList().blockingFirst());
+        assertEquals(Integer.valueOf(-1), Observable.<Integer>empty().reduce((a, b) -> a + b).blockingFirst(-1));
+    }
+
+    @Test
+    void collectShouldReceiveSourceSizeAsCapacity() {
+        AtomicInteger capacity = new AtomicInteger();
+        Observable.range(0, 1000)
+                .collect(n -> { capacity.set(n); return new ArrayList<Integer>(n); }, List::add)
+                .blockingFirst();
+        assertEquals(1000, capacity.get());
+    }
+
+    @Test
+    void blockingIterableShouldPreserveOrderAcrossThreads() {
+        List<Integer> results = new ArrayList<>();
+        for (Integer x : Observable.range(0, 10_000).subscribeOn(Scheduler.io()).blockingIterable(8)) results.add(x);
+
+        assertEquals(10_000, results.size());
+        for (int i = 0; i < results.size(); i++) assertEquals(Integer.valueOf(i), results.get(i));
+    }
+
+    @Test
+    void blockingIterableShouldNotDeadlockOnSynchronousCreateSource() {
+        Observable<Integer> source = Observable.create(observer -> {
+            for (int i = 0; i < 100; i++) observer.onNext(i);
+            observer.onComplete();
+        });
+        int sum = 0;
+        for (Integer x : source.blockingIterable(4)) sum += x;
+        assertEquals(4950, sum);
+    }
+
+    @Test
+    void abandonedBlockingIteratorShouldNotHoldSchedulerThread() throws Exception {
+        ComputationScheduler scheduler = new ComputationScheduler(1, false);
+        try {
+            Iterator<Integer> it = Observable.range(0, 100_000)
+                    .observeOn(scheduler)
+                    .blockingIterable(16)
+                    .iterator();
+            assertEquals(Integer.valueOf(0), it.next());
+
+            CountDownLatch ran = new CountDownLatch(1);
+            scheduler.execute(ran::countDown);
+            assertTrue(ran.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+
+            ((AutoCloseable) it).close();
+            assertFalse(it.hasNext());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void blockingForEachShouldRethrowAndDisposeUpstream() {
+        AtomicInteger produced = new AtomicInteger();
+        Observable<Integer> source = Observable.<Integer>create(observer -> {
+            for (int i = 0; i < 1_000_000 && !observer.isDisposed(); i++) {
+                produced.incrementAndGet();
+                observer.onNext(i);
+            }
+            observer.onComplete();
+        }).subscribeOn(Scheduler.io());
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> source.blockingForEach(x -> {
+            if (x == 10) throw new IllegalStateException("stop");
+        }));
+        assertEquals("stop", ex.getMessage());
+        assertTrue(produced.get() < 1_000_000);
+
+        RuntimeException error = assertThrows(RuntimeException.class,
+                () -> Observable.<Integer>create(observer -> observer.onError(new java.io.IOException("io"))).blockingFirst());
+        assertInstanceOf(java.io.IOException.class, error.getCause());
+    }
+
+    @Test
+    void concatMapShouldKeepOrderAndNotGrowStackOnSynchronousInners() throws InterruptedException {
+        List<Integer> ordered = Observable.range(0, 5)
+                .concatMap(x -> Observable.range(x * 10, 3).subscribeOn(Scheduler.io()))
+                .toList()
+                .blockingFirst();
+        assertEquals(Arrays.asList(0, 1, 2, 10, 11, 12, 20, 21, 22, 30, 31, 32, 40, 41, 42), ordered);
+
+        assertEquals(Long.valueOf(100_000), Observable.range(0, 100_000)
+                .concatMap(Observable::just)
+                .count()
+                .blockingFirst());
+    }
+
+    @Test
+    void concatMapEagerShouldRunInnersConcurrentlyAndEmitInOrder() {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+
+        List<Integer> results = Observable.range(0, 8)
+                .concatMapEager(x -> Observable.<Integer>create(observer -> {
+                    maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(50 - x * 5);                  // поздние inner-ы заканчивают раньше
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    observer.onNext(x * 2);
+                    observer.onNext(x * 2 + 1);
+                    active.decrementAndGet();
+                    observer.onComplete();
+                }).subscribeOn(Scheduler.io()), 4, 16)
+                .toList()
+                .blockingFirst();
+
+        for (int i = 0; i < 16; i++) assertEquals(Integer.valueOf(i), results.get(i));
+        assertEquals(16, results.size());
+        assertTrue(maxActive.get() > 1, "inners should overlap");
+        assertTrue(maxActive.get() <= 4, "maxConcurrency exceeded: " + maxActive.get());
+    }
+
+    @Test
+    void mergeShouldEmitEverySourceAndRespectMaxConcurrency() {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        List<Observable<Integer>> sources = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            int base = i * 100;
+            sources.add(Observable.<Integer>create(observer -> {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                for (int j = 0; j < 100; j++) observer.onNext(base + j);
+                active.decrementAndGet();
+                observer.onComplete();
+            }).subscribeOn(Scheduler.io()));
+        }
+
+        List<Integer> results = Observable.merge(sources, 2).toList().blockingFirst();
+        results.sort(null);
+        assertEquals(600, results.size());
+        for (int i = 0; i < 600; i++) assertEquals(Integer.valueOf(i), results.get(i));
+        assertTrue(maxActive.get() <= 2, "maxConcurrency exceeded: " + maxActive.get());
+        assertEquals(Arrays.asList(1, 2), Observable.just(1).mergeWith(Observable.just(2)).toList().blockingFirst());
+    }
+
+    @Test
+    void zipShouldPairItemsByIndexAndStopAtShortestSource() {
+        List<String> pairs = Observable.zip(
+                        Observable.range(0, 1000).subscribeOn(Scheduler.io()),
+                        Observable.fromArray("a", "b", "c").subscribeOn(Scheduler.computation()),
+                        (n, s) -> s + n)
+                .toList()
+                .blockingFirst();
+        assertEquals(Arrays.asList("a0", "b1", "c2"), pairs);
+
+        Long rows = Observable.zip(
+                        Arrays.asList(Observable.range(0, 10_000), Observable.range(0, 10_000), Observable.range(0, 10_000)),
+                        row -> (Integer) row[0] + (Integer) row[1] + (Integer) row[2], 16)
+                .filter(sum -> sum % 3 == 0)
+                .count()
+                .blockingFirst();
+        assertEquals(Long.valueOf(10_000), rows);
+    }
+
+    @Test
+    void combineLatestShouldCombineLatestValuesWithoutRepeats() {
+        PublishSubject<String> left = PublishSubject.create();
+        PublishSubject<String> right = PublishSubject.create();
+        List<String> results = new ArrayList<>();
+        Observable.combineLatest(left.toObservable(), right.toObservable(), (a, b) -> a + b)
+                .subscribe(results::add, e -> fail("Unexpected error"), () -> results.add("|"));
+
+        left.onNext("a");
+        right.onNext("1");
+        left.onNext("b");
+        right.onNext("2");
+        left.onComplete();
+        right.onComplete();
+        assertEquals(Arrays.asList("a1", "b1", "b2", "|"), results);
+
+        List<String> concurrent = Observable.combineLatest(
+                        Observable.range(0, 10_000).subscribeOn(Scheduler.io()),
+                        Observable.range(0, 10_000).subscribeOn(Scheduler.computation()),
+                        (a, b) -> a + ":" + b)
+                .toList()
+                .blockingFirst();
+        assertEquals("9999:9999", concurrent.get(concurrent.size() - 1));
+        assertEquals(concurrent.size(), new HashSet<>(concurrent).size());
+    }
+
+    @Test
+    void debounceShouldEmitOnlyAfterQuietPeriodAndFlushOnComplete() throws InterruptedException {
+        PublishSubject<Integer> subject = PublishSubject.create();
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Integer> results = new CopyOnWriteArrayList<>();
+        subject.toObservable()
+                .debounce(50, TimeUnit.MILLISECONDS)
+                .subscribe(results::add, e -> fail("Unexpected error"), latch::countDown);
+
+        for (int i = 1; i <= 3; i++) subject.onNext(i);
+        Thread.sleep(200);
+        subject.onNext(4);
+        subject.onNext(5);
+        subject.onComplete();
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(3, 5), results);
+    }
+
+    @Test
+    void throttleFirstAndSampleShouldThinBursts() throws InterruptedException {
+        PublishSubject<Integer> subject = PublishSubject.create();
+        List<Integer> first = new CopyOnWriteArrayList<>();
+        List<Integer> sampled = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        subject.toObservable()
+                .throttleFirst(100, TimeUnit.MILLISECONDS)
+                .subscribe(first::add, e -> fail("Unexpected error"), latch::countDown);
+        subject.toObservable()
+                .sample(50, TimeUnit.MILLISECONDS, Scheduler.computation(), true)
+                .subscribe(sampled::add, e -> fail("Unexpected error"), latch::countDown);
+
+        for (int i = 1; i <= 3; i++) subject.onNext(i);
+        Thread.sleep(250);
+        subject.onNext(4);
+        subject.onNext(5);
+        subject.onComplete();
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(1, 4), first);
+        assertEquals(Arrays.asList(3, 5), sampled);
+    }
+
+    @Test
+    void rateLimitShouldPassBurstAndDropTheRest() {
+        assertEquals(Long.valueOf(5), Observable.range(0, 10_000).rateLimit(1, 5).count().blockingFirst());
+
+        List<Integer> passed = Observable.range(0, 100).rateLimit(1, 1).toList().blockingFirst();
+        assertEquals(Collections.singletonList(0), passed);
+        assertThrows(IllegalArgumentException.class, () -> Observable.range(0, 1).rateLimit(0, 1));
+    }
+}
@@ -0,0 +1,89 @@
+package com.myrxjava;
+
+import com.myrxjava.core.Observable;
+import com.myrxjava.core.Observables;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObservablesTest {
+    private static final int TEST_TIMEOUT = 2;
+
+    @Test
+    void linesShouldSplitFileAcrossChunkBoundaries() throws Exception {
+        Path file = Files.createTempFile("myrxjava", ".log");
+        try {
+            List<String> expected = new ArrayList<>();
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < 1_000; i++) {
+                String line = "line-" + i + "-" + "x".repeat(i % 37);
+                expected.add(line);
+                text.append(line).append(i % 2 == 0 ? "\n" : "\r\n");
+            }
+            Files.writeString(file, text.toString());
+
+            CountDownLatch latch = new CountDownLatch(1);
+            List<String> lines = new CopyOnWriteArrayList<>();
+            Observables.lines(Observables.fromFile(file, 100))
+                    .subscribe(line -> lines.add(StandardCharsets.UTF_8.decode(line).toString()),
+                               error -> fail("Unexpected error"), latch::countDown);
+
+            assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+            assertEquals(expected, lines);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void toFileShouldWriteAllChunksAndReportByteCount() throws Exception {
+        Path source = Files.createTempFile("myrxjava", ".src");
+        Path target = Files.createTempFile("myrxjava", ".dst");
+        try {
+            byte[] data = new byte[300_000];
+            for (int i = 0; i < data.length; i++) data[i] = (byte) i;
+            Files.write(source, data);
+
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicLong written = new AtomicLong();
+            Observables.toFile(Observables.fromFile(source, 4096), target)
+                    .subscribe(written::set, error -> fail("Unexpected error"), latch::countDown);
+
+            assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+            assertEquals(data.length, written.get());
+            assertArrayEquals(data, Files.readAllBytes(target));
+        } finally {
+            Files.deleteIfExists(source);
+            Files.deleteIfExists(target);
+        }
+    }
+
+    @Test
+    void toFileShouldCreateEmptyFileForEmptyStream() throws Exception {
+        Path target = Files.createTempFile("myrxjava", ".dst");
+        Files.writeString(target, "stale");
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicLong written = new AtomicLong(-1);
+            Observables.toFile(Observable.<ByteBuffer>fromArray(), target)
+                    .subscribe(written::set, error -> fail("Unexpected error"), latch::countDown);
+
+            assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+            assertEquals(0, written.get());
+            assertEquals(0, Files.size(target));
+        } finally {
+            Files.deleteIfExists(target);
+        }
+    }
+}
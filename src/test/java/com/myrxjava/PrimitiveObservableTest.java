@@ -0,0 +1,81 @@
+package com.myrxjava;
+
+import com.myrxjava.core.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveObservableTest {
+
+    @Test
+    void longChainShouldMapFilterAndSum() {
+        AtomicLong result = new AtomicLong(-1);
+
+        LongObservable.range(1, 100)
+                .map(x -> x * 2)
+                .filter(x -> x % 3 == 0)
+                .sum()
+                .subscribe(result::set, error -> fail("Unexpected error"), () -> {});
+
+        assertEquals(3366L, result.get());
+    }
+
+    @Test
+    void doubleSumShouldCompensateRoundingErrors() {
+        double[] values = new double[10_000];
+        Arrays.fill(values, 0.1);
+        AtomicReference<Double> result = new AtomicReference<>();
+
+        DoubleObservable.fromArray(values)
+                .sum()
+                .subscribe(result::set, error -> fail("Unexpected error"), () -> {});
+
+        assertEquals(1000.0, result.get(), 1e-9);
+    }
+
+    @Test
+    void windowShouldEmitPrimitiveArrays() {
+        List<long[]> windows = new ArrayList<>();
+
+        LongObservable.range(0, 7)
+                .window(3)
+                .subscribe(windows::add, error -> fail("Unexpected error"), () -> {});
+
+        assertEquals(3, windows.size());
+        assertArrayEquals(new long[] {0, 1, 2}, windows.get(0));
+        assertArrayEquals(new long[] {3, 4, 5}, windows.get(1));
+        assertArrayEquals(new long[] {6}, windows.get(2));
+    }
+
+    @Test
+    void shouldConvertBetweenObjectAndPrimitiveStreams() {
+        List<Long> results = new ArrayList<>();
+
+        Observable.fromArray("a", "bb", "ccc")
+                .mapToLong(String::length)
+                .reduce(1, (acc, x) -> acc * 10 + x)
+                .boxed()
+                .subscribe(results::add, error -> fail("Unexpected error"), () -> {});
+
+        assertEquals(List.of(1123L), results);
+    }
+
+    @Test
+    void mapperErrorShouldStopTheStream() {
+        List<Integer> results = new ArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        IntObservable.range(1, 5)
+                .map(x -> 10 / (3 - x))
+                .subscribe(results::add, error::set, () -> fail("Should not complete"));
+
+        assertEquals(List.of(5, 10), results);
+        assertTrue(error.get() instanceof ArithmeticException);
+    }
+}
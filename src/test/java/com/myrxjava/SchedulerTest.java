@@ -0,0 +1,481 @@
+package com.myrxjava;
+
+import com.myrxjava.core.*;
+import com.myrxjava.core.plugins.LatencyHistogram;
+import com.myrxjava.core.plugins.RxMetrics;
+import com.myrxjava.core.plugins.RxPlugins;
+import com.myrxjava.core.schedulers.ComputationScheduler;
+import com.myrxjava.core.schedulers.IOThreadScheduler;
+import com.myrxjava.core.schedulers.RejectionPolicy;
+import com.myrxjava.core.schedulers.Schedulers;
+import com.myrxjava.core.schedulers.SingleThreadScheduler;
+import com.myrxjava.core.schedulers.TimerWheel;
+import com.myrxjava.core.schedulers.VirtualThreadScheduler;
+import com.myrxjava.core.subjects.PublishSubject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchedulerTest {
+    private static final int TEST_TIMEOUT = 5;
+
+    @Test
+    void virtualSchedulerShouldRunOnVirtualThreads() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicBoolean isVirtual = new AtomicBoolean(false);
+
+        Observable.<Integer>create(observer -> {
+                    isVirtual.set(Thread.currentThread().isVirtual());
+                    observer.onComplete();
+                })
+                .subscribeOn(Scheduler.virtual())
+                .subscribe(item -> {}, error -> fail("Unexpected error"), latch::countDown);
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertTrue(isVirtual.get());
+    }
+
+    @Test
+    void virtualSchedulerShouldRespectConcurrencyLimit() throws InterruptedException {
+        VirtualThreadScheduler scheduler = new VirtualThreadScheduler(3);
+        CountDownLatch latch = new CountDownLatch(50);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        for (int i = 0; i < 50; i++) {
+            scheduler.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try { Thread.sleep(5); } catch (InterruptedException ignore) { }
+                running.decrementAndGet();
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertTrue(maxRunning.get() <= 3);
+        scheduler.shutdown();
+    }
+
+    @Test
+    void observeOnComputationShouldStayOnOneEventLoop() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        Observable.<Integer>create(observer -> {
+                    for (int i = 0; i < 20; i++) {
+                        observer.onNext(i);
+                        try { Thread.sleep(1); } catch (InterruptedException ignore) { }
+                    }
+                    observer.onComplete();
+                })
+                .observeOn(Scheduler.computation())
+                .subscribe(item -> threads.add(Thread.currentThread().getName()),
+                        error -> fail("Unexpected error"),
+                        latch::countDown);
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(1, threads.size());
+        assertTrue(threads.iterator().next().startsWith("ComputationThread"));
+    }
+
+    @Test
+    void workerShouldRunTasksInOrderWithoutOverlap() throws InterruptedException {
+        Scheduler.Worker worker = Scheduler.io().createWorker();
+        CountDownLatch latch = new CountDownLatch(1000);
+        AtomicInteger expected = new AtomicInteger();
+        AtomicBoolean outOfOrder = new AtomicBoolean(false);
+
+        for (int i = 0; i < 1000; i++) {
+            int index = i;
+            worker.execute(() -> {
+                if (expected.getAndIncrement() != index) outOfOrder.set(true);
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertFalse(outOfOrder.get());
+        worker.dispose();
+    }
+
+    @Test
+    void scheduleShouldRunAfterDelayUnlessDisposed() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicBoolean cancelledRan = new AtomicBoolean(false);
+        long start = System.nanoTime();
+
+        Disposable cancelled = Scheduler.computation().schedule(() -> cancelledRan.set(true), 20, TimeUnit.MILLISECONDS);
+        Scheduler.computation().schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+        cancelled.dispose();
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertFalse(cancelledRan.get());
+        assertTrue(cancelled.isDisposed());
+    }
+
+    @Test
+    void schedulePeriodicallyShouldRepeatUntilDisposed() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(5);
+        AtomicInteger runs = new AtomicInteger();
+
+        Disposable d = Scheduler.single().schedulePeriodically(() -> {
+            runs.incrementAndGet();
+            latch.countDown();
+        }, 0, 5, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        d.dispose();
+        int afterDispose = runs.get();
+        Thread.sleep(30);
+        assertTrue(runs.get() <= afterDispose + 1);
+    }
+
+    @Test
+    void timerWheelShouldHandleManyPendingTimeouts() throws InterruptedException {
+        TimerWheel wheel = new TimerWheel(1, TimeUnit.MILLISECONDS, 64, "TestTimerWheel");
+        CountDownLatch latch = new CountDownLatch(100);
+        List<Disposable> cancelled = new ArrayList<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            cancelled.add(wheel.schedule(() -> fail("Cancelled timeout fired"), 1, TimeUnit.HOURS));
+        }
+        for (int i = 0; i < 100; i++) wheel.schedule(latch::countDown, i % 10, TimeUnit.MILLISECONDS);
+        cancelled.forEach(Disposable::dispose);
+
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(0, wheel.pendingTimeouts());
+    }
+
+    @Test
+    void metricsShouldCountOperatorItemsAndSchedulerTasks() throws InterruptedException {
+        RxMetrics.reset();
+        RxMetrics.install();
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            Observable.fromArray(1, 2, 3, 4, 5)
+                    .map(x -> x * 2)
+                    .observeOn(Scheduler.io())
+                    .subscribe(item -> {}, error -> fail("Unexpected error"), latch::countDown);
+
+            assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+            RxMetrics.OperatorStats map = RxMetrics.operators().get("MapFilterOperator");
+            assertNotNull(map);
+            assertEquals(5, map.items());
+            assertEquals(5, map.onNextNanos().count());
+
+            RxMetrics.SchedulerStats io = RxMetrics.schedulers().get("IOThreadScheduler");
+            assertNotNull(io);
+            assertTrue(io.submitted() >= 1);
+        } finally {
+            RxMetrics.uninstall();
+            RxMetrics.reset();
+        }
+    }
+
+    @Test
+    void metricsShouldChainAndRestoreUserHooks() throws InterruptedException {
+        AtomicInteger assembled = new AtomicInteger();
+        AtomicInteger scheduled = new AtomicInteger();
+        RxPlugins.AssemblyHook userAssembly = new RxPlugins.AssemblyHook() {
+            @Override public <T> Observable.ObservableOnSubscribe<T> onAssembly(Observable.ObservableOnSubscribe<T> source) {
+                assembled.incrementAndGet();
+                return source;
+            }
+        };
+        RxPlugins.ScheduleHook userSchedule = (scheduler, task) -> {
+            scheduled.incrementAndGet();
+            return task;
+        };
+        RxPlugins.setOnObservableAssembly(userAssembly);
+        RxPlugins.setOnSchedule(userSchedule);
+        RxMetrics.reset();
+        RxMetrics.install();
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            Observable.fromArray(1, 2, 3)
+                    .map(x -> x + 1)
+                    .observeOn(Scheduler.io())
+                    .subscribe(item -> {}, error -> fail("Unexpected error"), latch::countDown);
+
+            assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+            assertTrue(assembled.get() >= 3);
+            assertTrue(scheduled.get() >= 1);
+            assertEquals(3, RxMetrics.operators().get("MapFilterOperator").items());
+
+            RxMetrics.uninstall();
+            assertSame(userAssembly, RxPlugins.getOnObservableAssembly());
+            assertSame(userSchedule, RxPlugins.getOnSchedule());
+        } finally {
+            RxMetrics.uninstall();
+            RxMetrics.reset();
+            RxPlugins.reset();
+        }
+    }
+
+    @Test
+    void takeShouldStopCreateLoopWithMetricsInstalled() {
+        RxMetrics.install();
+        try {
+            AtomicInteger emitted = new AtomicInteger();
+            List<Integer> results = new ArrayList<>();
+            Observable.<Integer>create(o -> {
+                        for (int i = 0; i < 10_000_000 && !o.isDisposed(); i++) {
+                            emitted.incrementAndGet();
+                            o.onNext(i);
+                        }
+                        o.onComplete();
+                    })
+                    .take(3)
+                    .subscribe(results::add, error -> fail("Unexpected error"), () -> {});
+
+            assertEquals(List.of(0, 1, 2), results);
+            assertEquals(3, emitted.get());
+        } finally {
+            RxMetrics.uninstall();
+            RxMetrics.reset();
+        }
+    }
+
+    @Test
+    void latencyHistogramShouldReportPercentilesWithinBucketPrecision() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int i = 1; i <= 10_000; i++) h.record(i);
+
+        assertEquals(10_000, h.count());
+        assertEquals(10_000, h.max());
+        long p50 = h.percentile(50);
+        long p99 = h.percentile(99);
+        assertTrue(p50 >= 5_000 && p50 <= 5_000 * 17 / 16 + 1, "p50=" + p50);
+        assertTrue(p99 >= 9_900 && p99 <= 10_000, "p99=" + p99);
+    }
+
+    @Test
+    void boundedIoSchedulerShouldRejectAndReportGauges() throws InterruptedException {
+        IOThreadScheduler scheduler = IOThreadScheduler.builder()
+                .maxThreads(1).queueCapacity(1).rejectionPolicy(RejectionPolicy.ERROR).build();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            scheduler.execute(() -> {
+                started.countDown();
+                try { release.await(); } catch (InterruptedException ignore) { }
+            });
+            assertTrue(started.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+            scheduler.execute(() -> {});
+
+            assertThrows(RejectedExecutionException.class, () -> scheduler.execute(() -> {}));
+            assertEquals(1, scheduler.activeThreads());
+            assertEquals(1, scheduler.queuedTasks());
+            assertEquals(1, scheduler.rejectedTasks());
+        } finally {
+            release.countDown();
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void dropOldestShouldShedQueuedTasks() throws InterruptedException {
+        SingleThreadScheduler scheduler = SingleThreadScheduler.builder()
+                .queueCapacity(2).rejectionPolicy(RejectionPolicy.DROP_OLDEST).build();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        List<Integer> ran = new ArrayList<>();
+        try {
+            scheduler.execute(() -> { try { release.await(); } catch (InterruptedException ignore) { } });
+            for (int i = 1; i <= 3; i++) {
+                int id = i;
+                scheduler.execute(() -> { ran.add(id); done.countDown(); });
+            }
+            release.countDown();
+
+            assertTrue(done.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+            assertEquals(List.of(2, 3), ran);
+            assertEquals(1, scheduler.rejectedTasks());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void computationCallerRunsShouldExecuteOnSubmittingThread() throws InterruptedException {
+        ComputationScheduler scheduler = ComputationScheduler.builder()
+                .parallelism(1).queueCapacity(1).rejectionPolicy(RejectionPolicy.CALLER_RUNS).build();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> runner = new AtomicReference<>();
+        try {
+            scheduler.execute(() -> {
+                started.countDown();
+                try { release.await(); } catch (InterruptedException ignore) { }
+            });
+            assertTrue(started.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+            scheduler.execute(() -> {});
+            scheduler.execute(() -> runner.set(Thread.currentThread()));
+
+            assertSame(Thread.currentThread(), runner.get());
+            assertEquals(1, scheduler.queuedTasks());
+            assertEquals(1, scheduler.activeThreads());
+        } finally {
+            release.countDown();
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void observeOnShouldSignalRejectionAsError() throws InterruptedException {
+        SingleThreadScheduler scheduler = SingleThreadScheduler.builder()
+                .queueCapacity(1).rejectionPolicy(RejectionPolicy.ERROR).build();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        try {
+            scheduler.execute(() -> { try { release.await(); } catch (InterruptedException ignore) { } });
+            scheduler.execute(() -> {});
+
+            Observable.fromArray(1, 2, 3)
+                    .observeOn(scheduler)
+                    .subscribe(item -> fail("Unexpected item"), error::set, () -> fail("Unexpected completion"));
+
+            assertInstanceOf(RejectedExecutionException.class, error.get());
+        } finally {
+            release.countDown();
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void callerRunsShouldNotRunTimerHandOffOnTicker() throws InterruptedException {
+        IOThreadScheduler scheduler = IOThreadScheduler.builder()
+                .maxThreads(1).queueCapacity(1).rejectionPolicy(RejectionPolicy.CALLER_RUNS).build();
+        PublishSubject<Integer> subject = PublishSubject.create();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch received = new CountDownLatch(1);
+        AtomicReference<String> thread = new AtomicReference<>();
+        try {
+            scheduler.execute(() -> { try { release.await(); } catch (InterruptedException ignore) { } });
+            scheduler.execute(() -> {});
+
+            subject.toObservable()
+                    .debounce(10, TimeUnit.MILLISECONDS, scheduler)
+                    .subscribe(item -> { thread.set(Thread.currentThread().getName()); received.countDown(); },
+                               error -> fail("Unexpected error"), () -> { });
+            subject.onNext(1);
+
+            assertFalse(received.await(100, TimeUnit.MILLISECONDS));
+            release.countDown();
+            assertTrue(received.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+            assertTrue(thread.get().startsWith("IOThread"), thread.get());
+        } finally {
+            release.countDown();
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void rejectedTimerHandOffShouldSignalError() throws InterruptedException {
+        IOThreadScheduler scheduler = IOThreadScheduler.builder()
+                .maxThreads(1).queueCapacity(1).rejectionPolicy(RejectionPolicy.ERROR).build();
+        PublishSubject<Integer> subject = PublishSubject.create();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch failed = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        try {
+            scheduler.execute(() -> { try { release.await(); } catch (InterruptedException ignore) { } });
+            scheduler.execute(() -> {});
+
+            subject.toObservable()
+                    .debounce(10, TimeUnit.MILLISECONDS, scheduler)
+                    .subscribe(item -> fail("Unexpected item"),
+                               e -> { error.set(e); failed.countDown(); }, () -> fail("Unexpected completion"));
+            subject.onNext(1);
+
+            assertTrue(failed.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+            assertInstanceOf(RejectedExecutionException.class, error.get());
+            assertFalse(subject.hasObservers());
+        } finally {
+            release.countDown();
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void gracefulShutdownShouldDrainQueuedTasks() throws InterruptedException {
+        ComputationScheduler scheduler = ComputationScheduler.builder().parallelism(1).build();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger ran = new AtomicInteger();
+
+        scheduler.execute(() -> { try { release.await(); } catch (InterruptedException ignore) { } });
+        for (int i = 0; i < 10; i++) scheduler.execute(ran::incrementAndGet);
+        scheduler.shutdown();
+
+        assertThrows(RejectedExecutionException.class, () -> scheduler.execute(ran::incrementAndGet));
+        release.countDown();
+        assertTrue(scheduler.awaitTermination(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(10, ran.get());
+    }
+
+    @Test
+    void shutdownShouldRunEveryAcceptedTask() throws InterruptedException {
+        for (int round = 0; round < 200; round++) {
+            ComputationScheduler scheduler = ComputationScheduler.builder().parallelism(2).build();
+            Scheduler.Worker worker = scheduler.createWorker();
+            AtomicInteger accepted = new AtomicInteger();
+            AtomicInteger ran = new AtomicInteger();
+            Thread submitter = new Thread(() -> {
+                try {
+                    for (int i = 0; ; i++) {
+                        if ((i & 1) == 0) scheduler.execute(ran::incrementAndGet);
+                        else worker.execute(ran::incrementAndGet);
+                        accepted.incrementAndGet();
+                    }
+                } catch (RejectedExecutionException expected) { }
+            });
+            submitter.start();
+            Thread.yield();
+            scheduler.shutdown();
+            submitter.join();
+
+            assertTrue(scheduler.awaitTermination(TEST_TIMEOUT, TimeUnit.SECONDS));
+            assertEquals(accepted.get(), ran.get());
+        }
+    }
+
+    @Test
+    void sharedSchedulersShouldRejectAfterShutdownAndRecoverAfterStart() throws InterruptedException {
+        AtomicBoolean daemon = new AtomicBoolean();
+        CountDownLatch ran = new CountDownLatch(1);
+        Scheduler.computation().execute(() -> { daemon.set(Thread.currentThread().isDaemon()); ran.countDown(); });
+        assertTrue(ran.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertTrue(daemon.get());
+
+        try {
+            assertTrue(Schedulers.shutdown(TEST_TIMEOUT, TimeUnit.SECONDS));
+            AtomicReference<Throwable> error = new AtomicReference<>();
+            Observable.fromArray(1, 2, 3)
+                    .subscribeOn(Scheduler.computation())
+                    .subscribe(item -> fail("Unexpected item"), error::set, () -> fail("Unexpected completion"));
+            assertInstanceOf(RejectedExecutionException.class, error.get());
+        } finally {
+            Schedulers.start();
+        }
+
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Integer> received = new ArrayList<>();
+        Observable.fromArray(1, 2, 3)
+                .observeOn(Scheduler.computation())
+                .subscribe(received::add, error -> fail("Unexpected error"), latch::countDown);
+        assertTrue(latch.await(TEST_TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 2, 3), received);
+    }
+}
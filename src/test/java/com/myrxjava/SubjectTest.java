@@ -0,0 +1,140 @@
+package com.myrxjava;
+
+import com.myrxjava.core.*;
+import com.myrxjava.core.subjects.BehaviorSubject;
+import com.myrxjava.core.subjects.PublishSubject;
+import com.myrxjava.core.subjects.ReplaySubject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubjectTest {
+
+    @Test
+    void publishSubjectShouldDeliverOnlyItemsAfterSubscription() {
+        PublishSubject<Integer> subject = PublishSubject.create();
+        List<Integer> early = new ArrayList<>();
+        List<Integer> late = new ArrayList<>();
+        AtomicInteger completed = new AtomicInteger();
+
+        subject.toObservable().subscribe(early::add, error -> fail("Unexpected error"), completed::incrementAndGet);
+        subject.onNext(1);
+        subject.toObservable().subscribe(late::add, error -> fail("Unexpected error"), completed::incrementAndGet);
+        subject.onNext(2);
+        subject.onComplete();
+
+        assertEquals(Arrays.asList(1, 2), early);
+        assertEquals(Collections.singletonList(2), late);
+        assertEquals(2, completed.get());
+        assertFalse(subject.hasObservers());
+        assertTrue(subject.hasComplete());
+    }
+
+    @Test
+    void behaviorSubjectShouldReplayLatestValueToNewSubscribers() {
+        BehaviorSubject<String> subject = BehaviorSubject.createDefault("a");
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+
+        subject.toObservable().subscribe(first::add, error -> fail("Unexpected error"), () -> { });
+        subject.onNext("b");
+        subject.onNext("c");
+        subject.toObservable().subscribe(second::add, error -> fail("Unexpected error"), () -> { });
+        subject.onNext("d");
+
+        assertEquals(Arrays.asList("a", "b", "c", "d"), first);
+        assertEquals(Arrays.asList("c", "d"), second);
+        assertEquals("d", subject.getValue());
+    }
+
+    @Test
+    void replaySubjectShouldKeepOnlyBoundedHistory() {
+        ReplaySubject<Integer> subject = ReplaySubject.createWithSize(3);
+        for (int i = 0; i < 10; i++) subject.onNext(i);
+        subject.onComplete();
+
+        List<Integer> replayed = new ArrayList<>();
+        AtomicInteger completed = new AtomicInteger();
+        subject.toObservable().subscribe(replayed::add, error -> fail("Unexpected error"), completed::incrementAndGet);
+
+        assertEquals(Arrays.asList(7, 8, 9), replayed);
+        assertEquals(1, completed.get());
+    }
+
+    @Test
+    void replaySubjectShouldDropExpiredItems() throws InterruptedException {
+        ReplaySubject<Integer> subject = ReplaySubject.createWithTime(50, TimeUnit.MILLISECONDS);
+        subject.onNext(1);
+        Thread.sleep(100);
+        subject.onNext(2);
+
+        List<Integer> replayed = new ArrayList<>();
+        subject.toObservable().subscribe(replayed::add, error -> fail("Unexpected error"), () -> { });
+
+        assertEquals(Collections.singletonList(2), replayed);
+    }
+
+    @Test
+    void publishShouldSubscribeToSourceOnceForAllObservers() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        ConnectableObservable<Integer> published = Observable.<Integer>create(observer -> {
+            subscriptions.incrementAndGet();
+            for (int i = 0; i < 3; i++) observer.onNext(i);
+            observer.onComplete();
+        }).publish();
+
+        List<Integer> a = new ArrayList<>();
+        List<Integer> b = new ArrayList<>();
+        published.subscribe(a::add, error -> fail("Unexpected error"), () -> { });
+        published.subscribe(b::add, error -> fail("Unexpected error"), () -> { });
+        assertEquals(0, subscriptions.get());
+
+        published.connect();
+
+        assertEquals(1, subscriptions.get());
+        assertEquals(Arrays.asList(0, 1, 2), a);
+        assertEquals(Arrays.asList(0, 1, 2), b);
+    }
+
+    @Test
+    void shareShouldDisconnectWhenLastObserverLeaves() {
+        PublishSubject<Integer> feed = PublishSubject.create();
+        Observable<Integer> shared = feed.toObservable().share();
+
+        List<Integer> a = new ArrayList<>();
+        List<Disposable> handles = new ArrayList<>();
+        Observer<Integer> observer = new Observer<>() {
+            @Override public void onSubscribe(Disposable d) { handles.add(d); }
+            @Override public void onNext(Integer item)      { a.add(item); }
+            @Override public void onError(Throwable t)      { fail("Unexpected error"); }
+            @Override public void onComplete()              { }
+        };
+
+        shared.subscribe(observer);
+        assertTrue(feed.hasObservers());
+        feed.onNext(1);
+        handles.get(0).dispose();
+
+        assertFalse(feed.hasObservers());
+        feed.onNext(2);
+        assertEquals(Collections.singletonList(1), a);
+    }
+
+    @Test
+    void replayShouldServeHistoryToLateObservers() {
+        ConnectableObservable<Integer> replayed = Observable.range(0, 5).replay(2);
+        replayed.connect();
+
+        List<Integer> late = new ArrayList<>();
+        replayed.subscribe(late::add, error -> fail("Unexpected error"), () -> { });
+
+        assertEquals(Arrays.asList(3, 4), late);
+    }
+}